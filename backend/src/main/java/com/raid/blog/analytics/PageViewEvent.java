@@ -0,0 +1,6 @@
+package com.raid.blog.analytics;
+
+import java.util.UUID;
+
+public record PageViewEvent(UUID postId, UUID categoryId, UUID userId, long timestamp, String referrer) {
+}
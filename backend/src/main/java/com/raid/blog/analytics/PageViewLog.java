@@ -0,0 +1,273 @@
+package com.raid.blog.analytics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of raw page views on local disk. Request threads only offer
+ * events to a lock-free ring buffer; a single writer thread drains it into the
+ * active memory-mapped segment, and rolls to a new segment when the active one is
+ * full or older than the configured age. Sealed segments are consumed by
+ * {@link PageViewRollupJob}.
+ */
+@Component
+@Slf4j
+public class PageViewLog implements MeterBinder {
+
+    static final String SEGMENT_SUFFIX = ".segment";
+    static final String ROLLED_UP_SUFFIX = ".rolled";
+
+    private static final String LOG_ID_FILE = "log-id";
+    private static final String LOCK_FILE = "log.lock";
+
+    @Value("${blog.analytics.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${blog.analytics.log-dir:${java.io.tmpdir}/blog-analytics}")
+    private Path directory;
+
+    @Value("${blog.analytics.segment-size:16MB}")
+    private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+    @Value("${blog.analytics.segment-max-age:PT5M}")
+    private Duration segmentMaxAge = Duration.ofMinutes(5);
+
+    @Value("${blog.analytics.buffer-capacity:65536}")
+    private int bufferCapacity = 65536;
+
+    private final LongAdder droppedEvents = new LongAdder();
+
+    private PageViewRingBuffer buffer;
+    private UUID logId;
+    private FileChannel lockChannel;
+    private FileLock lock;
+    private PageViewSegment activeSegment;
+    private volatile long activeSequence;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        Files.createDirectories(directory);
+        lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        lock = lockChannel.tryLock();
+        if (lock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Page view log directory " + directory + " is used by another process");
+        }
+        logId = readOrCreateLogId();
+
+        // Resume the newest unsealed segment, but never reuse a sequence that was already rolled up
+        List<Long> segments = segmentSequences(SEGMENT_SUFFIX);
+        List<Long> rolledUp = segmentSequences(ROLLED_UP_SUFFIX);
+        long lastRolledUp = rolledUp.isEmpty() ? -1 : rolledUp.getLast();
+        activeSequence = !segments.isEmpty() && segments.getLast() > lastRolledUp
+                ? segments.getLast()
+                : lastRolledUp + 1;
+        activeSegment = PageViewSegment.open(segmentPath(activeSequence, SEGMENT_SUFFIX), segmentBytes());
+
+        buffer = new PageViewRingBuffer(bufferCapacity);
+        running = true;
+        writer = Thread.ofPlatform().name("page-view-log-writer").daemon().start(this::writeLoop);
+    }
+
+    /**
+     * Records a view of a post, with the category it is published in at the time
+     * of the view, or null while it is not published.
+     */
+    public void record(UUID postId, UUID categoryId, UUID userId, String referrer) {
+        if (!running) {
+            return;
+        }
+        if (!buffer.offer(new PageViewEvent(postId, categoryId, userId, System.currentTimeMillis(), referrer))) {
+            droppedEvents.increment();
+        }
+    }
+
+    public UUID logId() {
+        return logId;
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    public long droppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * Bound by Spring Boot, which binds every MeterBinder bean to the registry.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("blog.analytics.events.pending", this, log -> log.buffer == null ? 0 : log.buffer.size())
+                .description("Page views waiting in the ring buffer to be written to the log")
+                .register(registry);
+        FunctionCounter.builder("blog.analytics.events.dropped", droppedEvents, LongAdder::sum)
+                .description("Page views dropped because the ring buffer was full or they did not fit in a segment")
+                .register(registry);
+    }
+
+    /**
+     * Sealed segments in the order they were written. The active segment is never
+     * included, so callers can read these without coordinating with the writer.
+     */
+    public List<Path> sealedSegments() {
+        if (logId == null) {
+            return List.of();
+        }
+        long active = activeSequence;
+        return segmentSequences(SEGMENT_SUFFIX).stream()
+                .filter(sequence -> sequence < active)
+                .map(sequence -> segmentPath(sequence, SEGMENT_SUFFIX))
+                .toList();
+    }
+
+    public List<Path> rolledUpSegments() {
+        if (logId == null) {
+            return List.of();
+        }
+        return segmentSequences(ROLLED_UP_SUFFIX).stream()
+                .map(sequence -> segmentPath(sequence, ROLLED_UP_SUFFIX))
+                .toList();
+    }
+
+    public static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.indexOf('.')));
+    }
+
+    /**
+     * Renames a segment as rolled up and compacts it, so the segments kept for the
+     * retention only take the space of their records.
+     */
+    public void markRolledUp(Path segment) throws IOException {
+        Path rolledUp = segmentPath(sequenceOf(segment), ROLLED_UP_SUFFIX);
+        Files.move(segment, rolledUp);
+        try {
+            PageViewSegment.compact(rolledUp);
+        } catch (IOException e) {
+            // The segment is rolled up either way; it just keeps its full size until retention deletes it
+            log.warn("Failed to compact page view segment {}", rolledUp, e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        lock.release();
+        lockChannel.close();
+    }
+
+    private void writeLoop() {
+        while (running) {
+            boolean wrote = false;
+            try {
+                wrote = drain();
+                if (!activeSegment.isEmpty()
+                        && System.currentTimeMillis() - activeSegment.createdAt() >= segmentMaxAge.toMillis()) {
+                    roll();
+                }
+            } catch (RuntimeException e) {
+                // The event being written is lost, but the writer keeps draining the rest of the buffer
+                droppedEvents.increment();
+                log.error("Failed to write page view event", e);
+            }
+            if (!wrote) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+        drain();
+        activeSegment.force();
+    }
+
+    private boolean drain() {
+        boolean wrote = false;
+        PageViewEvent event;
+        while ((event = buffer.poll()) != null) {
+            if (!activeSegment.append(event)) {
+                roll();
+                if (!activeSegment.append(event)) {
+                    droppedEvents.increment();
+                }
+            }
+            wrote = true;
+        }
+        return wrote;
+    }
+
+    private void roll() {
+        try {
+            activeSegment.force();
+            PageViewSegment next = PageViewSegment.open(segmentPath(activeSequence + 1, SEGMENT_SUFFIX), segmentBytes());
+            activeSegment = next;
+            activeSequence++;
+        } catch (IOException e) {
+            // Keep writing into the current segment until the disk recovers
+            log.error("Failed to roll page view log segment", e);
+        }
+    }
+
+    private UUID readOrCreateLogId() throws IOException {
+        Path logIdFile = directory.resolve(LOG_ID_FILE);
+        if (Files.exists(logIdFile)) {
+            return UUID.fromString(Files.readString(logIdFile, StandardCharsets.UTF_8).trim());
+        }
+        UUID id = UUID.randomUUID();
+        Files.writeString(logIdFile, id.toString(), StandardCharsets.UTF_8);
+        return id;
+    }
+
+    private List<Long> segmentSequences(String suffix) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(suffix))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - suffix.length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentPath(long sequence, String suffix) {
+        return directory.resolve(String.format("%020d%s", sequence, suffix));
+    }
+
+    private int segmentBytes() {
+        return Math.toIntExact(segmentSize.toBytes());
+    }
+}
@@ -0,0 +1,77 @@
+package com.raid.blog.analytics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer. Producers
+ * claim a slot with a CAS on the tail and publish it by advancing the slot's
+ * sequence number; the consumer only reads slots whose sequence says they are
+ * published, so neither side ever blocks. When the buffer is full, offers fail
+ * instead of waiting, which keeps the request path free of back pressure.
+ */
+final class PageViewRingBuffer {
+
+    private final PageViewEvent[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    // Only written by the consumer, volatile so size() can be read from other threads
+    private volatile long head;
+
+    PageViewRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two");
+        }
+        slots = new PageViewEvent[capacity];
+        sequences = new AtomicLongArray(capacity);
+        mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(PageViewEvent event) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = event;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Events claimed by producers and not yet polled, which may include a few that
+     * are still being published.
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Must only be called from the consumer thread.
+     */
+    PageViewEvent poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        PageViewEvent event = slots[index];
+        slots[index] = null;
+        sequences.set(index, head + slots.length);
+        head++;
+        return event;
+    }
+}
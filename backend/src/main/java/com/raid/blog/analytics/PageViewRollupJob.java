@@ -0,0 +1,126 @@
+package com.raid.blog.analytics;
+
+import com.raid.blog.domain.entities.RolledUpSegment;
+import com.raid.blog.repositories.RolledUpSegmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Rolls sealed page view log segments up into hourly view counts per post and per
+ * category. Each segment is aggregated and recorded as rolled up in one
+ * transaction, then renamed and compacted on disk; rolled up segments are kept for
+ * the configured retention so raw events remain available, and deleted afterwards.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PageViewRollupJob {
+
+    private static final String INCREMENT_POST_VIEWS =
+            "update post_hourly_views set views = views + ? where post_id = ? and hour_start = ?";
+    private static final String INSERT_POST_VIEWS =
+            "insert into post_hourly_views (views, post_id, hour_start) values (?, ?, ?)";
+    private static final String INCREMENT_CATEGORY_VIEWS =
+            "update category_hourly_views set views = views + ? where category_id = ? and hour_start = ?";
+    private static final String INSERT_CATEGORY_VIEWS =
+            "insert into category_hourly_views (views, category_id, hour_start) values (?, ?, ?)";
+
+    private final PageViewLog pageViewLog;
+    private final RolledUpSegmentRepository rolledUpSegmentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${blog.analytics.retention:P1D}")
+    private Duration retention = Duration.ofDays(1);
+
+    @Scheduled(fixedDelayString = "${blog.analytics.rollup-interval:PT1M}")
+    public void rollUp() {
+        for (Path segment : pageViewLog.sealedSegments()) {
+            try {
+                rollUp(segment);
+                pageViewLog.markRolledUp(segment);
+            } catch (IOException | RuntimeException e) {
+                // Later segments are left for the next run so hourly totals stay in order
+                log.error("Failed to roll up page view segment {}", segment, e);
+                return;
+            }
+        }
+        deleteExpiredSegments();
+    }
+
+    private void rollUp(Path segment) throws IOException {
+        RolledUpSegment.Key key = new RolledUpSegment.Key(pageViewLog.logId(), PageViewLog.sequenceOf(segment));
+        if (rolledUpSegmentRepository.existsById(key)) {
+            return;
+        }
+
+        Map<HourlyKey, Long> postViews = new HashMap<>();
+        Map<HourlyKey, Long> categoryViews = new HashMap<>();
+        PageViewSegment.read(segment, event -> {
+            LocalDateTime hour = LocalDateTime.ofInstant(Instant.ofEpochMilli(event.timestamp()), ZoneOffset.UTC)
+                    .truncatedTo(ChronoUnit.HOURS);
+            postViews.merge(new HourlyKey(event.postId(), hour), 1L, Long::sum);
+            if (event.categoryId() != null) {
+                categoryViews.merge(new HourlyKey(event.categoryId(), hour), 1L, Long::sum);
+            }
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            upsert(postViews, INCREMENT_POST_VIEWS, INSERT_POST_VIEWS);
+            upsert(categoryViews, INCREMENT_CATEGORY_VIEWS, INSERT_CATEGORY_VIEWS);
+            rolledUpSegmentRepository.save(RolledUpSegment.builder()
+                    .logId(key.getLogId())
+                    .segment(key.getSegment())
+                    .rolledUpAt(LocalDateTime.now())
+                    .build());
+        });
+    }
+
+    private void upsert(Map<HourlyKey, Long> views, String incrementSql, String insertSql) {
+        if (views.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = views.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey().id(), entry.getKey().hour()})
+                .toList();
+
+        int[] updated = jdbcTemplate.batchUpdate(incrementSql, rows);
+        List<Object[]> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(rows.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertSql, missing);
+        }
+    }
+
+    private void deleteExpiredSegments() {
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        for (Path segment : pageViewLog.rolledUpSegments()) {
+            try {
+                if (Files.getLastModifiedTime(segment).toMillis() < cutoff) {
+                    Files.delete(segment);
+                }
+            } catch (IOException e) {
+                log.warn("Failed to delete page view segment {}", segment, e);
+            }
+        }
+    }
+
+    private record HourlyKey(UUID id, LocalDateTime hour) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.raid.blog.analytics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * A fixed-size memory-mapped file of length-prefixed page view records. The length
+ * of a record is written after its body, so a record torn by a crash reads as the
+ * zero length that marks the end of the segment.
+ */
+final class PageViewSegment {
+
+    static final int MAX_REFERRER_BYTES = 512;
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final byte HAS_USER = 1;
+    private static final byte HAS_CATEGORY = 2;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final long createdAt;
+    private int position;
+
+    private PageViewSegment(Path path, MappedByteBuffer buffer, long createdAt) {
+        this.path = path;
+        this.buffer = buffer;
+        this.createdAt = createdAt;
+        this.position = endOfRecords(buffer);
+    }
+
+    static PageViewSegment open(Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new PageViewSegment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size), System.currentTimeMillis());
+        }
+    }
+
+    static void read(Path path, Consumer<PageViewEvent> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int position = 0;
+            while (position + LENGTH_BYTES <= buffer.limit()) {
+                int length = buffer.getInt(position);
+                if (length <= 0 || position + LENGTH_BYTES + length > buffer.limit()) {
+                    return;
+                }
+                consumer.accept(decode(buffer.slice(position + LENGTH_BYTES, length)));
+                position += LENGTH_BYTES + length;
+            }
+        }
+    }
+
+    /**
+     * Truncates a sealed segment to its records, dropping the unused tail of its
+     * preallocated size.
+     */
+    static void compact(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.truncate(endOfRecords(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())));
+        }
+    }
+
+    /**
+     * Returns false when the record does not fit, meaning the segment is full.
+     */
+    boolean append(PageViewEvent event) {
+        byte[] referrer = referrerBytes(event.referrer());
+        int length = Long.BYTES * 2 + 1 + (event.userId() != null ? Long.BYTES * 2 : 0)
+                + (event.categoryId() != null ? Long.BYTES * 2 : 0) + Long.BYTES + Short.BYTES + referrer.length;
+        if (position + LENGTH_BYTES + length > buffer.capacity()) {
+            return false;
+        }
+
+        int body = position + LENGTH_BYTES;
+        buffer.position(body);
+        buffer.putLong(event.postId().getMostSignificantBits()).putLong(event.postId().getLeastSignificantBits());
+        buffer.put((byte) ((event.userId() != null ? HAS_USER : 0) | (event.categoryId() != null ? HAS_CATEGORY : 0)));
+        if (event.userId() != null) {
+            buffer.putLong(event.userId().getMostSignificantBits()).putLong(event.userId().getLeastSignificantBits());
+        }
+        if (event.categoryId() != null) {
+            buffer.putLong(event.categoryId().getMostSignificantBits()).putLong(event.categoryId().getLeastSignificantBits());
+        }
+        buffer.putLong(event.timestamp());
+        buffer.putShort((short) referrer.length).put(referrer);
+        buffer.putInt(position, length);
+        position = body + length;
+        return true;
+    }
+
+    boolean isEmpty() {
+        return position == 0;
+    }
+
+    long createdAt() {
+        return createdAt;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    private static PageViewEvent decode(ByteBuffer record) {
+        UUID postId = new UUID(record.getLong(), record.getLong());
+        byte flags = record.get();
+        UUID userId = (flags & HAS_USER) != 0 ? new UUID(record.getLong(), record.getLong()) : null;
+        UUID categoryId = (flags & HAS_CATEGORY) != 0 ? new UUID(record.getLong(), record.getLong()) : null;
+        long timestamp = record.getLong();
+        byte[] referrer = new byte[record.getShort()];
+        record.get(referrer);
+        return new PageViewEvent(postId, categoryId, userId, timestamp, referrer.length > 0 ? new String(referrer, StandardCharsets.UTF_8) : null);
+    }
+
+    private static byte[] referrerBytes(String referrer) {
+        if (referrer == null || referrer.isEmpty()) {
+            return new byte[0];
+        }
+        byte[] bytes = referrer.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_REFERRER_BYTES) {
+            return bytes;
+        }
+        // Cut on a character boundary so the stored referrer stays valid UTF-8
+        int end = MAX_REFERRER_BYTES;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return Arrays.copyOf(bytes, end);
+    }
+
+    private static int endOfRecords(MappedByteBuffer buffer) {
+        int position = 0;
+        while (position + LENGTH_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + LENGTH_BYTES + length > buffer.capacity()) {
+                break;
+            }
+            position += LENGTH_BYTES + length;
+        }
+        return position;
+    }
+}
@@ -0,0 +1,31 @@
+package com.raid.blog.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Revisions of a post are deltas against its previous revision, so they are
+     * written by a single thread in the order the saves committed. Running one on a
+     * saving thread would put it on the request path and let it overtake queued
+     * revisions of the same post.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor revisionExecutor(@Value("${blog.posts.revisions.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("post-revisions-");
+        // Tasks only ever run on its thread; a full queue rejects, and the caller records the drop
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
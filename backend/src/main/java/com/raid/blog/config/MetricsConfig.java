@@ -0,0 +1,20 @@
+package com.raid.blog.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Requests, repository calls, the connection pool and executors are timed and
+ * measured by Spring Boot. Services are timed by the {@code @Timed} annotation on
+ * their implementations, which needs this aspect.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,28 @@
+package com.raid.blog.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raid.blog.observability.JdbcTimingListener;
+import com.raid.blog.observability.TimedJackson2HttpMessageConverter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+@Configuration
+public class RequestTimingConfig {
+
+    /**
+     * Replaces the JSON converter Spring Boot would create, which backs off when
+     * one is defined.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJackson2HttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcTimingListener() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingListener.class.getName());
+    }
+}
@@ -0,0 +1,13 @@
+package com.raid.blog.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduled jobs share Spring Boot's scheduler, sized by spring.task.scheduling.pool.size.
+ * A job never overlaps with itself, but different jobs may run at the same time.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -5,6 +5,7 @@ import com.raid.blog.security.BlogUserDetailsService;
 import com.raid.blog.security.JwtAuthenticationFilter;
 import com.raid.blog.services.AuthenticationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -19,6 +20,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
@@ -29,8 +33,13 @@ public class SecurityConfig {
     }
 
     @Bean
-    public UserDetailsService userDetailsService(UserRepository userRepository) {
-        return new BlogUserDetailsService(userRepository);
+    public UserDetailsService userDetailsService(
+            UserRepository userRepository,
+            @Value("${blog.security.admin-emails:}") Set<String> adminEmails
+    ) {
+        return new BlogUserDetailsService(userRepository, adminEmails.stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toUnmodifiableSet()));
     }
 
     @Bean
@@ -40,12 +49,18 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/swagger-ui/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api-docs").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api-docs/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        // Scraped without a token; the actuator only listens on localhost (management.server.*)
+                        .requestMatchers(HttpMethod.GET, "/actuator/prometheus").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/register").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/posts/drafts").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/posts/*/revisions/**").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/v1/posts/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/categories/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/tags/**").permitAll()
+                        // Shows statement plans with the values they ran with
+                        .requestMatchers("/actuator/slowstatements/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .csrf(AbstractHttpConfigurer::disable)
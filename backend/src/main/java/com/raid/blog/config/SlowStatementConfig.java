@@ -0,0 +1,39 @@
+package com.raid.blog.config;
+
+import com.raid.blog.observability.SlowStatementListener;
+import com.raid.blog.observability.SlowStatementLog;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "blog.observability.slow-statements.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowStatementConfig {
+
+    /**
+     * Wraps the pool so every statement is timed from the application's side. The
+     * log needs the data source itself to run EXPLAIN, so it is looked up on the
+     * first statement rather than when the data source is created.
+     */
+    @Bean
+    public static BeanPostProcessor slowStatementDataSourceProxy(ObjectProvider<SlowStatementLog> slowStatementLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(new SlowStatementListener(SingletonSupplier.of(slowStatementLog::getIfAvailable)))
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.raid.blog.contentstore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * A fixed-size memory-mapped file of post content records: length, checksum,
+ * post id, version and the UTF-8 body. As in the page view log, the length is
+ * written after the rest of the record, so a record torn by a crash reads as the
+ * end of the segment. Pages may still reach the disk out of order, so a record
+ * whose checksum does not match ends the segment as well. A record with version
+ * {@link #REMOVED} marks a deleted post.
+ * <p>
+ * Only the store's writer appends, and only with absolute puts, so slices handed
+ * out to readers never see the buffer position move.
+ */
+final class ContentSegment {
+
+    static final long REMOVED = -1;
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int CHECKSUM_BYTES = Integer.BYTES;
+    private static final int HEADER_BYTES = LENGTH_BYTES + CHECKSUM_BYTES + Long.BYTES * 3;
+
+    private final long sequence;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private int position;
+    private long liveBytes;
+
+    private ContentSegment(long sequence, Path path, MappedByteBuffer buffer) {
+        this.sequence = sequence;
+        this.path = path;
+        this.buffer = buffer;
+        this.position = endOfRecords(buffer);
+    }
+
+    static ContentSegment open(long sequence, Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // An existing segment keeps its size, so changing the setting only affects new segments
+            long mappedSize = Math.max(channel.size(), size);
+            return new ContentSegment(sequence, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize));
+        }
+    }
+
+    static int recordBytes(int contentLength) {
+        return HEADER_BYTES + contentLength;
+    }
+
+    /**
+     * Returns the offset of the new record, or -1 when it does not fit.
+     */
+    int append(UUID postId, long version, byte[] content) {
+        int offset = position;
+        if (offset + recordBytes(content.length) > buffer.capacity()) {
+            return -1;
+        }
+
+        int body = offset + LENGTH_BYTES + CHECKSUM_BYTES;
+        buffer.putLong(body, postId.getMostSignificantBits());
+        buffer.putLong(body + Long.BYTES, postId.getLeastSignificantBits());
+        buffer.putLong(body + Long.BYTES * 2, version);
+        buffer.put(offset + HEADER_BYTES, content);
+        int length = recordBytes(content.length) - LENGTH_BYTES;
+        buffer.putInt(offset + LENGTH_BYTES, checksum(buffer, offset, length));
+        buffer.putInt(offset, length);
+        position = offset + recordBytes(content.length);
+        return offset;
+    }
+
+    ByteBuffer content(int offset, int length) {
+        return buffer.slice(offset + HEADER_BYTES, length).asReadOnlyBuffer();
+    }
+
+    void forEachRecord(RecordVisitor visitor) {
+        int offset = 0;
+        while (offset < position) {
+            int length = buffer.getInt(offset);
+            int body = offset + LENGTH_BYTES + CHECKSUM_BYTES;
+            UUID postId = new UUID(buffer.getLong(body), buffer.getLong(body + Long.BYTES));
+            long version = buffer.getLong(body + Long.BYTES * 2);
+            visitor.visit(offset, postId, version, length + LENGTH_BYTES - HEADER_BYTES);
+            offset += LENGTH_BYTES + length;
+        }
+    }
+
+    /**
+     * Writes the records appended so far to the disk.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    void addLive(int contentLength) {
+        liveBytes += recordBytes(contentLength);
+    }
+
+    void removeLive(int contentLength) {
+        liveBytes -= recordBytes(contentLength);
+    }
+
+    /**
+     * Share of the written bytes that belong to superseded or removed records.
+     */
+    double garbageRatio() {
+        return position == 0 ? 0 : 1 - (double) liveBytes / position;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    private static int endOfRecords(MappedByteBuffer buffer) {
+        int position = 0;
+        while (position + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length < HEADER_BYTES - LENGTH_BYTES || position + LENGTH_BYTES + length > buffer.capacity()
+                    || buffer.getInt(position + LENGTH_BYTES) != checksum(buffer, position, length)) {
+                break;
+            }
+            position += LENGTH_BYTES + length;
+        }
+        return position;
+    }
+
+    /**
+     * Checksum of everything in the record after the checksum itself.
+     */
+    private static int checksum(MappedByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset + LENGTH_BYTES + CHECKSUM_BYTES, length - CHECKSUM_BYTES));
+        return (int) crc.getValue();
+    }
+
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(int offset, UUID postId, long version, int contentLength);
+    }
+}
@@ -0,0 +1,493 @@
+package com.raid.blog.contentstore;
+
+import com.raid.blog.domain.PostContent;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.events.PostDeletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Off-heap copy of post bodies in append-only, memory-mapped segment files, so
+ * popular posts can be served without reading them from the database or copying
+ * them onto the heap. An in-memory index maps each post to its latest record, and
+ * reads are read-only slices of the mapping that take no lock.
+ * <p>
+ * Every record carries the post version it was written for, and callers only use
+ * a record whose version matches the post they loaded. The store therefore never
+ * has to be exactly in step with the database: a write that is skipped or lost in
+ * a crash just turns into a miss. Sealed segments that are mostly superseded
+ * records are compacted periodically, and the whole store can be rebuilt from the
+ * posts table.
+ * <p>
+ * A deleted post leaves a removal record behind, which is kept live and carried
+ * forward by compaction for as long as an older segment exists that may still
+ * hold content of the post; otherwise a restart would bring the post back.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostContentStore {
+
+    static final String SEGMENT_SUFFIX = ".content";
+
+    private static final String LOCK_FILE = "store.lock";
+    private static final String SELECT_BATCH = """
+            select id, version, content, content_data from posts
+            where id > ? order by id limit ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${blog.posts.content-store.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${blog.posts.content-store.directory:${java.io.tmpdir}/blog-content-store}")
+    private Path directory;
+
+    @Value("${blog.posts.content-store.segment-size:64MB}")
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    @Value("${blog.posts.content-store.min-garbage-ratio:0.5}")
+    private double minGarbageRatio = 0.5;
+
+    @Value("${blog.posts.content-store.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup = false;
+
+    @Value("${blog.posts.content-store.batch-size:200}")
+    private int batchSize = 200;
+
+    private final Map<UUID, Location> index = new ConcurrentHashMap<>();
+    private final Map<UUID, Location> removals = new ConcurrentHashMap<>();
+
+    // Guards the segments and all appends; reads only go through the index
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final NavigableMap<Long, ContentSegment> segments = new TreeMap<>();
+    private ContentSegment activeSegment;
+
+    private FileChannel lockChannel;
+    private FileLock lock;
+    private volatile boolean running;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        Files.createDirectories(directory);
+        lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        lock = lockChannel.tryLock();
+        if (lock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Content store directory " + directory + " is used by another process");
+        }
+
+        for (long sequence : segmentSequences()) {
+            ContentSegment segment = ContentSegment.open(sequence, segmentPath(sequence), segmentBytes());
+            segments.put(sequence, segment);
+            segment.forEachRecord((offset, postId, version, contentLength) -> {
+                if (version == ContentSegment.REMOVED) {
+                    Optional.ofNullable(index.remove(postId)).ifPresent(Location::release);
+                    replaceRemoval(new Location(postId, segment, offset, 0, version));
+                } else {
+                    replace(new Location(postId, segment, offset, contentLength, version));
+                }
+            });
+        }
+        activeSegment = segments.isEmpty() ? openSegment(0) : segments.lastEntry().getValue();
+        dropObsoleteRemovals();
+
+        hits = Counter.builder("blog.posts.content.store.reads")
+                .tag("result", "hit")
+                .description("Post content reads served from the content store")
+                .register(meterRegistry);
+        misses = Counter.builder("blog.posts.content.store.reads")
+                .tag("result", "miss")
+                .description("Post content reads the content store could not serve")
+                .register(meterRegistry);
+        Gauge.builder("blog.posts.content.store.posts", index, Map::size)
+                .description("Posts with content in the content store")
+                .register(meterRegistry);
+        running = true;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (running && rebuildOnStartup) {
+            log.info("Rebuilt the content store with {} posts", rebuild());
+        }
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * The UTF-8 content stored for the given version of a post, as a read-only slice
+     * of the mapped segment. It stays valid after the record is superseded or compacted.
+     */
+    public Optional<ByteBuffer> read(UUID postId, long version) {
+        if (!running) {
+            return Optional.empty();
+        }
+        Location location = index.get(postId);
+        if (location == null || location.version() != version) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(location.segment().content(location.offset(), location.contentLength()));
+    }
+
+    public void put(UUID postId, long version, byte[] content) {
+        if (!running) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            store(postId, version, content);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Stores content like {@link #put(UUID, long, byte[])}, but skips it instead of
+     * waiting while another write or a compaction step holds the lock. Meant for
+     * request threads filling the store after a miss; a later miss tries again.
+     */
+    public void offer(UUID postId, long version, byte[] content) {
+        if (!running || !writeLock.tryLock()) {
+            return;
+        }
+        try {
+            store(postId, version, content);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Stores the post's content once the current transaction commits, when its
+     * version is final, or right away outside a transaction.
+     */
+    public void putAfterCommit(Post post) {
+        if (!running) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(post);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(post);
+            }
+        });
+    }
+
+    private void put(Post post) {
+        put(post.getId(), versionOf(post), post.getContent().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long versionOf(Post post) {
+        return post.getVersion() != null ? post.getVersion() : 0;
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        if (!running) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            Location removed = index.remove(event.getPostId());
+            if (removed != null) {
+                removed.release();
+                append(event.getPostId(), ContentSegment.REMOVED, new byte[0]).ifPresent(this::replaceRemoval);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to mark the content of post {} as removed", event.getPostId(), e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Copies the live records of sealed segments that are mostly garbage into the
+     * active segment and deletes them. The write lock is only held to append one
+     * record at a time, so writes wait for a single copy rather than for whole
+     * segments; reads keep using the index and existing slices.
+     */
+    @Scheduled(fixedDelayString = "${blog.posts.content-store.compaction-interval:PT10M}")
+    public void compact() {
+        if (!running) {
+            return;
+        }
+        List<ContentSegment> sealed;
+        writeLock.lock();
+        try {
+            sealed = segments.values().stream()
+                    .filter(segment -> segment != activeSegment && segment.garbageRatio() >= minGarbageRatio)
+                    .toList();
+        } finally {
+            writeLock.unlock();
+        }
+        try {
+            for (ContentSegment segment : sealed) {
+                compact(segment);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to compact the content store", e);
+        }
+    }
+
+    private void compact(ContentSegment segment) throws IOException {
+        // Sealed segments are no longer appended to, so they can be walked without the lock
+        List<Location> live = new ArrayList<>();
+        segment.forEachRecord((offset, postId, version, contentLength) -> {
+            Location location = version == ContentSegment.REMOVED ? removals.get(postId) : index.get(postId);
+            if (location != null && location.segment() == segment && location.offset() == offset) {
+                live.add(location);
+            }
+        });
+        for (Location location : live) {
+            ByteBuffer content = segment.content(location.offset(), location.contentLength());
+            byte[] copy = new byte[content.remaining()];
+            content.get(copy);
+            writeLock.lock();
+            try {
+                if (location.version() == ContentSegment.REMOVED) {
+                    moveRemoval(location);
+                    continue;
+                }
+                // Posts written or removed since the walk no longer need their old record
+                if (location.equals(index.get(location.postId()))) {
+                    Optional<Location> moved = append(location.postId(), location.version(), copy);
+                    if (moved.isEmpty()) {
+                        return;
+                    }
+                    replace(moved.get());
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        writeLock.lock();
+        try {
+            if (segments.remove(segment.sequence(), segment)) {
+                // The copies must be on disk before the only other copy of the records goes away
+                activeSegment.force();
+                // Slices already handed out keep the mapping alive, the file itself is no longer needed
+                Files.deleteIfExists(segment.path());
+                dropObsoleteRemovals();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces everything in the store with the current content of every post,
+     * read from the posts table in id order. Reads that happen meanwhile miss
+     * until their post has been written again.
+     */
+    public int rebuild() {
+        if (!running) {
+            return 0;
+        }
+        writeLock.lock();
+        try {
+            long nextSequence = segments.lastKey() + 1;
+            index.clear();
+            removals.clear();
+            for (ContentSegment segment : segments.values()) {
+                Files.deleteIfExists(segment.path());
+            }
+            segments.clear();
+            activeSegment = openSegment(nextSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+
+        int stored = 0;
+        UUID after = new UUID(0, 0);
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(SELECT_BATCH, (resultSet, rowNumber) -> new Row(
+                    resultSet.getObject("id", UUID.class),
+                    resultSet.getLong("version"),
+                    resultSet.getString("content"),
+                    resultSet.getBytes("content_data")
+            ), after, batchSize);
+            if (rows.isEmpty()) {
+                return stored;
+            }
+            for (Row row : rows) {
+                String text = row.contentData() != null ? PostContent.fromStored(row.contentData()).text() : row.legacyContent();
+                if (text != null) {
+                    put(row.id(), row.version(), text.getBytes(StandardCharsets.UTF_8));
+                    stored++;
+                }
+            }
+            after = rows.getLast().id();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writeLock.lock();
+        try {
+            activeSegment.force();
+        } finally {
+            writeLock.unlock();
+        }
+        lock.release();
+        lockChannel.close();
+    }
+
+    private void store(UUID postId, long version, byte[] content) {
+        Location current = index.get(postId);
+        if (current != null && current.version() >= version) {
+            return;
+        }
+        try {
+            append(postId, version, content).ifPresent(this::replace);
+        } catch (IOException e) {
+            // Reads fall back to the database until segments can be created again
+            log.warn("Failed to store the content of post {}", postId, e);
+        }
+    }
+
+    private Optional<Location> append(UUID postId, long version, byte[] content) throws IOException {
+        int offset = activeSegment.append(postId, version, content);
+        if (offset < 0) {
+            if (ContentSegment.recordBytes(content.length) > segmentBytes()) {
+                log.warn("Content of post {} does not fit into a content store segment", postId);
+                return Optional.empty();
+            }
+            // A sealed segment is never written again, so it is flushed once here rather than per record
+            activeSegment.force();
+            activeSegment = openSegment(activeSegment.sequence() + 1);
+            offset = activeSegment.append(postId, version, content);
+        }
+        return Optional.of(new Location(postId, activeSegment, offset, content.length, version));
+    }
+
+    private void replace(Location location) {
+        location.segment().addLive(location.contentLength());
+        Location previous = index.put(location.postId(), location);
+        if (previous != null) {
+            previous.release();
+        }
+        Optional.ofNullable(removals.remove(location.postId())).ifPresent(Location::release);
+    }
+
+    private void replaceRemoval(Location removal) {
+        removal.segment().addLive(removal.contentLength());
+        Location previous = removals.put(removal.postId(), removal);
+        if (previous != null) {
+            previous.release();
+        }
+    }
+
+    private void moveRemoval(Location removal) throws IOException {
+        if (!removal.equals(removals.get(removal.postId()))) {
+            return;
+        }
+        if (segments.firstKey() >= removal.segment().sequence()) {
+            removals.remove(removal.postId());
+            removal.release();
+            return;
+        }
+        append(removal.postId(), ContentSegment.REMOVED, new byte[0]).ifPresent(this::replaceRemoval);
+    }
+
+    /**
+     * Removal records in the oldest segment have nothing left to hide.
+     */
+    private void dropObsoleteRemovals() {
+        long oldest = segments.firstKey();
+        removals.values().removeIf(removal -> {
+            if (removal.segment().sequence() > oldest) {
+                return false;
+            }
+            removal.release();
+            return true;
+        });
+    }
+
+    private ContentSegment openSegment(long sequence) throws IOException {
+        ContentSegment segment = ContentSegment.open(sequence, segmentPath(sequence), segmentBytes());
+        segments.put(sequence, segment);
+        return segment;
+    }
+
+    private List<Long> segmentSequences() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("%020d%s", sequence, SEGMENT_SUFFIX));
+    }
+
+    private int segmentBytes() {
+        return Math.toIntExact(segmentSize.toBytes());
+    }
+
+    private record Location(UUID postId, ContentSegment segment, int offset, int contentLength, long version) {
+        void release() {
+            segment.removeLive(contentLength);
+        }
+    }
+
+    private record Row(UUID id, long version, String legacyContent, byte[] contentData) {
+    }
+}
@@ -1,25 +1,50 @@
 package com.raid.blog.controllers;
 
+import com.raid.blog.analytics.PageViewLog;
 import com.raid.blog.domain.CreatePostRequest;
+import com.raid.blog.domain.PatchPostContentRequest;
+import com.raid.blog.domain.PostFilter;
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.TagMatch;
 import com.raid.blog.domain.UpdatePostRequest;
 import com.raid.blog.domain.dtos.CreatePostRequestDto;
+import com.raid.blog.domain.dtos.PatchPostContentRequestDto;
+import com.raid.blog.domain.dtos.PostContentPatchResultDto;
 import com.raid.blog.domain.dtos.PostDto;
+import com.raid.blog.domain.dtos.PostFacetsDto;
+import com.raid.blog.domain.dtos.PostReadersDto;
+import com.raid.blog.domain.dtos.PostRevisionDto;
+import com.raid.blog.domain.dtos.PostRevisionSummaryDto;
 import com.raid.blog.domain.dtos.UpdatePostRequestDto;
 import com.raid.blog.domain.entities.Post;
 import com.raid.blog.domain.entities.User;
 import com.raid.blog.mappers.PostMapper;
+import com.raid.blog.mappers.PostRevisionMapper;
 import com.raid.blog.openapi.annotations.post.*;
+import com.raid.blog.services.PostReaderService;
+import com.raid.blog.services.PostRevisionService;
 import com.raid.blog.services.PostService;
+import com.raid.blog.services.PostViewService;
 import com.raid.blog.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Tag(name = "Post", description = "Describes the different endpoints related to Post")
@@ -31,33 +56,170 @@ public class PostController {
     private final UserService userService;
     private final PostService postService;
     private final PostMapper postMapper;
+    private final PostViewService postViewService;
+    private final PostReaderService postReaderService;
+    private final PostRevisionService postRevisionService;
+    private final PostRevisionMapper postRevisionMapper;
+    private final PageViewLog pageViewLog;
 
-    @Operation(summary = "Get list of posts with specific category and tag")
+    @Operation(summary = "Get list of published posts matching the specified categories, tags, author and creation date range")
     @SwaggerGetAllPostsResponses
     @GetMapping
     public ResponseEntity<List<PostDto>> getAllPosts(
-            @RequestParam(required = false) UUID categoryId,
-            @RequestParam(required = false) UUID tagId
+            @RequestParam(required = false) Set<UUID> categoryId,
+            @RequestParam(required = false) Set<UUID> tagId,
+            @RequestParam(defaultValue = "ANY") TagMatch tagMatch,
+            @RequestParam(required = false) UUID authorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo
     ) {
-        var posts = postService.getAllPosts(categoryId, tagId).stream()
+        PostFilter filter = PostFilter.builder()
+                .categoryIds(categoryId != null ? categoryId : Set.of())
+                .tagIds(tagId != null ? tagId : Set.of())
+                .tagMatch(tagMatch)
+                .authorId(authorId)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .build();
+
+        var posts = postService.getAllPosts(filter).stream()
                 .map(postMapper::toDto)
                 .toList();
 
         return ResponseEntity.ok(posts);
     }
 
+    @Operation(summary = "Get counts of published posts per category and tag for a filter selection, author and creation date range")
+    @SwaggerGetPostFacetsResponses
+    @GetMapping("facets")
+    public ResponseEntity<PostFacetsDto> getFacets(
+            @RequestParam(required = false) Set<UUID> categoryId,
+            @RequestParam(required = false) Set<UUID> tagId,
+            @RequestParam(defaultValue = "ANY") TagMatch tagMatch,
+            @RequestParam(required = false) UUID authorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo
+    ) {
+        PostFilter filter = PostFilter.builder()
+                .categoryIds(categoryId != null ? categoryId : Set.of())
+                .tagIds(tagId != null ? tagId : Set.of())
+                .tagMatch(tagMatch)
+                .authorId(authorId)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .build();
+
+        PostFacetsDto facets = postMapper.toDto(postService.getFacetCounts(filter));
+
+        return ResponseEntity.ok(facets);
+    }
+
+    @Operation(summary = "Get the most trending published posts, optionally within a category")
+    @SwaggerGetTrendingPostsResponses
+    @GetMapping("trending")
+    public ResponseEntity<List<PostDto>> getTrendingPosts(
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        var trendingPosts = postService.getTrendingPosts(categoryId, limit).stream()
+                .map(postMapper::toDto)
+                .toList();
+
+        return ResponseEntity.ok(trendingPosts);
+    }
+
     @Operation(summary = "Get a post by its id")
     @SwaggerGetPostResponses
     @GetMapping("{id}")
     public ResponseEntity<PostDto> getPost(
-            @PathVariable UUID id
+            @PathVariable UUID id,
+            @RequestAttribute(required = false) UUID userId,
+            HttpServletRequest request
     ) {
         Post post = postService.getPost(id);
-        PostDto postDto = postMapper.toDto(post);
+        postViewService.recordView(id);
+        postReaderService.recordReader(id, readerKey(userId, request));
+        UUID publishedCategoryId = post.getStatus() == PostStatus.PUBLISHED ? post.getCategory().getId() : null;
+        pageViewLog.record(id, publishedCategoryId, userId, request.getHeader("Referer"));
+        PostDto postDto = postMapper.toDto(post, postService.getContentText(post));
 
         return ResponseEntity.ok(postDto);
     }
 
+    @Operation(summary = "Get the content of a post as plain text")
+    @SwaggerGetPostContentResponses
+    @GetMapping("{id}/content")
+    public void getPostContent(
+            @PathVariable UUID id,
+            HttpServletResponse response
+    ) throws IOException {
+        ByteBuffer content = postService.getPostContent(id);
+
+        // The buffer may be a slice of the off-heap content store; the channel copies it to the
+        // response through a small heap buffer, so the body is never held on the heap as a whole
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(content.remaining());
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        while (content.hasRemaining()) {
+            channel.write(content);
+        }
+    }
+
+    @Operation(summary = "Get the estimated number of unique readers of a post")
+    @SwaggerGetPostReadersResponses
+    @GetMapping("{id}/readers")
+    public ResponseEntity<PostReadersDto> getPostReaders(
+            @PathVariable UUID id
+    ) {
+        postService.getPost(id);
+        PostReadersDto readers = PostReadersDto.builder()
+                .postId(id)
+                .uniqueReaders(postReaderService.estimateReaders(id))
+                .build();
+
+        return ResponseEntity.ok(readers);
+    }
+
+    @Operation(summary = "Get published posts related to a post by their shared tags")
+    @SwaggerGetRelatedPostsResponses
+    @GetMapping("{id}/related")
+    public ResponseEntity<List<PostDto>> getRelatedPosts(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "5") int limit
+    ) {
+        var relatedPosts = postService.getRelatedPosts(id, limit).stream()
+                .map(postMapper::toDto)
+                .toList();
+
+        return ResponseEntity.ok(relatedPosts);
+    }
+
+    @Operation(summary = "Get the saved revisions of a post, newest first")
+    @SwaggerGetPostRevisionsResponses
+    @GetMapping("{id}/revisions")
+    public ResponseEntity<List<PostRevisionSummaryDto>> getPostRevisions(
+            @PathVariable UUID id
+    ) {
+        postService.getPost(id);
+        var revisions = postRevisionService.getRevisions(id).stream()
+                .map(postRevisionMapper::toDto)
+                .toList();
+
+        return ResponseEntity.ok(revisions);
+    }
+
+    @Operation(summary = "Get the title and content of a post as of one of its revisions")
+    @SwaggerGetPostRevisionResponses
+    @GetMapping("{id}/revisions/{revision}")
+    public ResponseEntity<PostRevisionDto> getPostRevision(
+            @PathVariable UUID id,
+            @PathVariable int revision
+    ) {
+        PostRevisionDto revisionDto = postRevisionMapper.toDto(postRevisionService.getRevision(id, revision));
+
+        return ResponseEntity.ok(revisionDto);
+    }
 
     @Operation(summary = "Get list of posts with status DRAFT")
     @SwaggerGetDraftsResponses
@@ -101,6 +263,20 @@ public class PostController {
         return new ResponseEntity<>(updatedPostDto, HttpStatus.OK);
     }
 
+    @Operation(summary = "Apply text operations to the content of a post, typically a draft autosave")
+    @SwaggerPatchPostContentResponses
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true)
+    @PatchMapping("{id}")
+    public ResponseEntity<PostContentPatchResultDto> patchPostContent(
+            @PathVariable UUID id,
+            @RequestBody @Valid PatchPostContentRequestDto request
+    ) {
+        PatchPostContentRequest patchPostContentRequest = postMapper.toPatchPostContentRequest(request);
+        Post patchedPost = postService.patchPostContent(id, patchPostContentRequest);
+
+        return ResponseEntity.ok(postMapper.toPatchResultDto(patchedPost));
+    }
+
     @Operation(summary = "Create a new post for authenticated user")
     @SwaggerDeletePostResponses
     @DeleteMapping("{id}")
@@ -111,4 +287,16 @@ public class PostController {
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    /**
+     * Identifies a reader by user id when authenticated, otherwise by client address
+     * and user agent, which is only an approximation for anonymous readers. The address
+     * comes from X-Forwarded-For only when a trusted proxy set it, see server.forward-headers-strategy.
+     */
+    private static String readerKey(UUID userId, HttpServletRequest request) {
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        return "client:" + request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
+    }
 }
@@ -0,0 +1,89 @@
+package com.raid.blog.domain;
+
+/**
+ * Word count, reading time, character count and a plain-text excerpt of post
+ * content, computed in one pass over the string. Words are runs of
+ * non-whitespace characters and characters are code points. The excerpt
+ * collapses whitespace, drops Markdown emphasis, code and heading markers, and is
+ * cut at a word boundary with an ellipsis when the content is longer.
+ * <p>
+ * Apart from the excerpt itself nothing is allocated, where splitting on a
+ * regular expression would allocate a string for every word.
+ */
+public record ContentAnalysis(int wordCount, int characterCount, int readingTime, String excerpt) {
+
+    public static final int WORDS_PER_MINUTE = 200;
+    public static final int EXCERPT_LENGTH = 200;
+
+    private static final ContentAnalysis EMPTY = new ContentAnalysis(0, 0, 0, "");
+    private static final char ELLIPSIS = '…';
+
+    public static ContentAnalysis of(String content) {
+        if (content == null || content.isEmpty()) {
+            return EMPTY;
+        }
+
+        // One slot more than the excerpt length for the ellipsis
+        char[] excerpt = new char[EXCERPT_LENGTH + 1];
+        int excerptLength = 0;
+        boolean truncated = false;
+        boolean pendingSpace = false;
+        boolean lineStart = true;
+        boolean inWord = false;
+        int words = 0;
+        int characters = 0;
+
+        for (int i = 0, length = content.length(); i < length; i++) {
+            char c = content.charAt(i);
+            if (!Character.isLowSurrogate(c)) {
+                characters++;
+            }
+            if (Character.isWhitespace(c)) {
+                inWord = false;
+                pendingSpace = excerptLength > 0;
+                lineStart |= c == '\n';
+                continue;
+            }
+            if (!inWord) {
+                inWord = true;
+                words++;
+            }
+
+            if (truncated || c == '*' || c == '`') {
+                continue;
+            }
+            if (lineStart && (c == '#' || c == '>')) {
+                continue;
+            }
+            lineStart = false;
+
+            int needed = (pendingSpace ? 1 : 0) + (Character.isHighSurrogate(c) ? 2 : 1);
+            if (!Character.isLowSurrogate(c) && excerptLength + needed > EXCERPT_LENGTH) {
+                truncated = true;
+                continue;
+            }
+            if (pendingSpace) {
+                excerpt[excerptLength++] = ' ';
+                pendingSpace = false;
+            }
+            excerpt[excerptLength++] = c;
+        }
+
+        if (truncated) {
+            excerptLength = wordBoundary(excerpt, excerptLength);
+            excerpt[excerptLength++] = ELLIPSIS;
+        }
+        int readingTime = (words + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE;
+        return new ContentAnalysis(words, characters, readingTime, new String(excerpt, 0, excerptLength));
+    }
+
+    private static int wordBoundary(char[] excerpt, int length) {
+        for (int i = length - 1; i > EXCERPT_LENGTH / 2; i--) {
+            if (excerpt[i] == ' ') {
+                return i;
+            }
+        }
+        // A single very long word is cut where the excerpt is full
+        return length;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -25,4 +26,6 @@ public class CreatePostRequest {
     private Set<UUID> tagIds = new HashSet<>();
 
     private PostStatus status;
+
+    private LocalDateTime publishAt;
 }
@@ -0,0 +1,5 @@
+package com.raid.blog.domain;
+
+public enum DuplicateContentAction {
+    REJECT, FLAG
+}
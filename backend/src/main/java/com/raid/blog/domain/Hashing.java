@@ -0,0 +1,27 @@
+package com.raid.blog.domain;
+
+import java.nio.charset.StandardCharsets;
+
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * FNV-1a followed by the MurmurHash3 finalizer, so every input bit affects every
+     * output bit, which both SimHash and HyperLogLog rely on.
+     */
+    public static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,21 @@
+package com.raid.blog.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PatchPostContentRequest {
+
+    private Long baseVersion;
+
+    @Builder.Default
+    private List<TextOperation> operations = new ArrayList<>();
+}
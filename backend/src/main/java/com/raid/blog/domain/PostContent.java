@@ -0,0 +1,149 @@
+package com.raid.blog.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Post content as stored in posts.content_data: plain UTF-8, or a marker byte,
+ * the UTF-8 length and a raw Deflate stream. The marker is 0xFF, which never
+ * occurs in UTF-8, so both forms can share the column. Content read from the
+ * database is only decoded when its text is first asked for.
+ */
+public final class PostContent {
+
+    private static final byte DEFLATED = (byte) 0xFF;
+    private static final int HEADER_LENGTH = 1 + Integer.BYTES;
+
+    private final byte[] stored;
+    private volatile String text;
+
+    private PostContent(byte[] stored, String text) {
+        this.stored = stored;
+        this.text = text;
+    }
+
+    public static PostContent of(String text) {
+        return new PostContent(null, text);
+    }
+
+    public static PostContent fromStored(byte[] stored) {
+        return new PostContent(stored, null);
+    }
+
+    public String text() {
+        String decoded = text;
+        if (decoded == null) {
+            decoded = decode(stored);
+            text = decoded;
+        }
+        return decoded;
+    }
+
+    /**
+     * The bytes this content was read from, or null when it was created from text.
+     */
+    public byte[] stored() {
+        return stored;
+    }
+
+    /**
+     * Encodes the text, deflating it when its UTF-8 form is at least {@code threshold}
+     * bytes long and deflating actually makes it smaller. A negative threshold
+     * disables compression.
+     */
+    public byte[] encode(int threshold, int level) {
+        byte[] utf8 = text().getBytes(StandardCharsets.UTF_8);
+        if (threshold < 0 || utf8.length < threshold) {
+            return utf8;
+        }
+
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(utf8);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(utf8.length / 3 + HEADER_LENGTH);
+            out.write(DEFLATED);
+            out.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(utf8.length).array());
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.size() < utf8.length ? out.toByteArray() : utf8;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Whether stored bytes are in the form {@link #encode} would produce for the policy,
+     * i.e. compressed exactly when compressing pays off above the threshold.
+     */
+    public boolean isStoredAs(int threshold, int level) {
+        if (stored == null) {
+            return false;
+        }
+        boolean compressed = isDeflated(stored);
+        if (threshold < 0) {
+            return !compressed;
+        }
+        int length = compressed ? ByteBuffer.wrap(stored, 1, Integer.BYTES).getInt() : stored.length;
+        if (length < threshold) {
+            return !compressed;
+        }
+        return compressed || encode(threshold, level).length == stored.length;
+    }
+
+    private static boolean isDeflated(byte[] stored) {
+        return stored.length >= HEADER_LENGTH && stored[0] == DEFLATED;
+    }
+
+    private static String decode(byte[] stored) {
+        if (!isDeflated(stored)) {
+            return new String(stored, StandardCharsets.UTF_8);
+        }
+
+        int length = ByteBuffer.wrap(stored, 1, Integer.BYTES).getInt();
+        byte[] utf8 = new byte[length];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(stored, HEADER_LENGTH, stored.length - HEADER_LENGTH);
+            int inflated = 0;
+            while (inflated < length) {
+                int count = inflater.inflate(utf8, inflated, length - inflated);
+                if (count == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                inflated += count;
+            }
+            if (inflated != length) {
+                throw new IllegalStateException("Compressed content is truncated");
+            }
+            return new String(utf8, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Compressed content is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PostContent other)) return false;
+        return text().equals(other.text());
+    }
+
+    @Override
+    public int hashCode() {
+        return text().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+}
@@ -0,0 +1,25 @@
+package com.raid.blog.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostFacets {
+
+    private long total;
+
+    @Builder.Default
+    private Map<UUID, Long> categories = new HashMap<>();
+
+    @Builder.Default
+    private Map<UUID, Long> tags = new HashMap<>();
+}
@@ -0,0 +1,33 @@
+package com.raid.blog.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostFilter {
+
+    @Builder.Default
+    private Set<UUID> categoryIds = new HashSet<>();
+
+    @Builder.Default
+    private Set<UUID> tagIds = new HashSet<>();
+
+    @Builder.Default
+    private TagMatch tagMatch = TagMatch.ANY;
+
+    private UUID authorId;
+
+    private LocalDateTime createdFrom;
+
+    private LocalDateTime createdTo;
+}
@@ -0,0 +1,28 @@
+package com.raid.blog.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostRevisionContent {
+
+    private UUID postId;
+
+    private int revision;
+
+    private String title;
+
+    private String content;
+
+    private PostStatus status;
+
+    private LocalDateTime createdAt;
+}
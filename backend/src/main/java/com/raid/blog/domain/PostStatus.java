@@ -1,5 +1,5 @@
 package com.raid.blog.domain;
 
 public enum PostStatus {
-    DRAFT, PUBLISHED
+    DRAFT, SCHEDULED, PUBLISHED
 }
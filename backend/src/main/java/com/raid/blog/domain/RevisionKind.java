@@ -0,0 +1,5 @@
+package com.raid.blog.domain;
+
+public enum RevisionKind {
+    SNAPSHOT, DELTA
+}
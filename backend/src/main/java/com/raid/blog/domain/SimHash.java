@@ -0,0 +1,69 @@
+package com.raid.blog.domain;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class SimHash {
+
+    public static final int BANDS = 4;
+    public static final int BAND_BITS = Long.SIZE / BANDS;
+
+    private static final int SHINGLE_SIZE = 3;
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    private SimHash() {
+    }
+
+    public static List<String> tokenize(String content) {
+        List<String> tokens = new ArrayList<>();
+        if (content == null) {
+            return tokens;
+        }
+        Matcher matcher = WORD.matcher(content);
+        while (matcher.find()) {
+            tokens.add(matcher.group().toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+
+    /**
+     * 64-bit SimHash over overlapping word shingles weighted by frequency. Texts that
+     * differ by a few edits share most shingles and therefore end up a few bits apart.
+     */
+    public static long fingerprint(List<String> tokens) {
+        Map<String, Integer> shingles = new HashMap<>();
+        int shingleSize = Math.min(SHINGLE_SIZE, tokens.size());
+        for (int i = 0; i + shingleSize <= tokens.size() && shingleSize > 0; i++) {
+            shingles.merge(String.join(" ", tokens.subList(i, i + shingleSize)), 1, Integer::sum);
+        }
+
+        int[] votes = new int[Long.SIZE];
+        shingles.forEach((shingle, weight) -> {
+            long hash = Hashing.hash64(shingle);
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                votes[bit] += ((hash >>> bit) & 1L) == 1L ? weight : -weight;
+            }
+        });
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int band(long fingerprint, int band) {
+        return (int) ((fingerprint >>> (band * BAND_BITS)) & ((1L << BAND_BITS) - 1));
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
@@ -0,0 +1,34 @@
+package com.raid.blog.domain;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+public final class TagNameNormalizer {
+
+    private TagNameNormalizer() {
+    }
+
+    /**
+     * Reduces a tag name to the key used to detect duplicates, so that
+     * "Spring-Boot", "spring boot" and "SpringBoot" all map to "springboot".
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+        StringBuilder key = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+
+        if (key.isEmpty()) {
+            return name.trim().toLowerCase(Locale.ROOT);
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,204 @@
+package com.raid.blog.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binary delta between two texts as a list of copy instructions, which reuse a
+ * range of the base text, and insert instructions, which carry new UTF-8 text.
+ * Matches are found by indexing fixed-size blocks of the base and scanning the
+ * target with a rolling hash, then extended in both directions, so moved and
+ * repeated paragraphs are copied rather than stored again.
+ * <p>
+ * Ranges never split a surrogate pair, so inserted text always encodes cleanly.
+ */
+public final class TextDelta {
+
+    private static final int BLOCK_SIZE = 16;
+    private static final long HASH_BASE = 1_000_003L;
+    private static final long HASH_BASE_POW;
+
+    private static final byte COPY = 0;
+    private static final byte INSERT = 1;
+
+    static {
+        long pow = 1;
+        for (int i = 0; i < BLOCK_SIZE - 1; i++) {
+            pow *= HASH_BASE;
+        }
+        HASH_BASE_POW = pow;
+    }
+
+    private TextDelta() {
+    }
+
+    public static byte[] diff(String base, String target) {
+        Encoder encoder = new Encoder(target.length());
+
+        int prefix = 0;
+        int maxPrefix = Math.min(base.length(), target.length());
+        while (prefix < maxPrefix && base.charAt(prefix) == target.charAt(prefix)) {
+            prefix++;
+        }
+        if (prefix > 0 && Character.isHighSurrogate(target.charAt(prefix - 1))) {
+            prefix--;
+        }
+
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix
+                && base.charAt(base.length() - 1 - suffix) == target.charAt(target.length() - 1 - suffix)) {
+            suffix++;
+        }
+        if (suffix > 0 && Character.isLowSurrogate(target.charAt(target.length() - suffix))) {
+            suffix--;
+        }
+
+        encoder.copy(0, prefix);
+        diffMiddle(base, target, prefix, target.length() - suffix, encoder);
+        encoder.copy(base.length() - suffix, suffix);
+        return encoder.toByteArray();
+    }
+
+    public static String apply(String base, byte[] delta) {
+        ByteBuffer buffer = ByteBuffer.wrap(delta);
+        int length = readVarInt(buffer);
+        StringBuilder target = new StringBuilder(length);
+        while (buffer.hasRemaining()) {
+            byte instruction = buffer.get();
+            if (instruction == COPY) {
+                int offset = readVarInt(buffer);
+                int count = readVarInt(buffer);
+                target.append(base, offset, offset + count);
+            } else if (instruction == INSERT) {
+                byte[] text = new byte[readVarInt(buffer)];
+                buffer.get(text);
+                target.append(new String(text, StandardCharsets.UTF_8));
+            } else {
+                throw new IllegalStateException("Unknown delta instruction " + instruction);
+            }
+        }
+        if (target.length() != length) {
+            throw new IllegalStateException("Delta produced " + target.length() + " characters instead of " + length);
+        }
+        return target.toString();
+    }
+
+    private static void diffMiddle(String base, String target, int from, int to, Encoder encoder) {
+        if (to - from < BLOCK_SIZE || base.length() < BLOCK_SIZE) {
+            encoder.insert(target, from, to);
+            return;
+        }
+
+        Map<Long, Integer> blockOffsets = new HashMap<>();
+        for (int offset = 0; offset + BLOCK_SIZE <= base.length(); offset += BLOCK_SIZE) {
+            blockOffsets.putIfAbsent(hash(base, offset), offset);
+        }
+
+        int literalStart = from;
+        int position = from;
+        long hash = hash(target, position);
+        while (position + BLOCK_SIZE <= to) {
+            Integer candidate = blockOffsets.get(hash);
+            if (candidate != null && base.regionMatches(candidate, target, position, BLOCK_SIZE)) {
+                int baseStart = candidate;
+                int targetStart = position;
+                while (targetStart > literalStart && baseStart > 0
+                        && base.charAt(baseStart - 1) == target.charAt(targetStart - 1)) {
+                    baseStart--;
+                    targetStart--;
+                }
+                int baseEnd = candidate + BLOCK_SIZE;
+                int targetEnd = position + BLOCK_SIZE;
+                while (targetEnd < to && baseEnd < base.length() && base.charAt(baseEnd) == target.charAt(targetEnd)) {
+                    baseEnd++;
+                    targetEnd++;
+                }
+                if (Character.isLowSurrogate(target.charAt(targetStart))) {
+                    baseStart++;
+                    targetStart++;
+                }
+                if (Character.isHighSurrogate(target.charAt(targetEnd - 1))) {
+                    baseEnd--;
+                    targetEnd--;
+                }
+
+                encoder.insert(target, literalStart, targetStart);
+                encoder.copy(baseStart, baseEnd - baseStart);
+                literalStart = targetEnd;
+                position = targetEnd;
+                if (position + BLOCK_SIZE <= to) {
+                    hash = hash(target, position);
+                }
+                continue;
+            }
+
+            if (position + BLOCK_SIZE < to) {
+                hash = (hash - target.charAt(position) * HASH_BASE_POW) * HASH_BASE + target.charAt(position + BLOCK_SIZE);
+            }
+            position++;
+        }
+        encoder.insert(target, literalStart, to);
+    }
+
+    private static long hash(String text, int offset) {
+        long hash = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = hash * HASH_BASE + text.charAt(i);
+        }
+        return hash;
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private static final class Encoder {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Encoder(int targetLength) {
+            writeVarInt(targetLength);
+        }
+
+        void copy(int offset, int count) {
+            if (count <= 0) {
+                return;
+            }
+            out.write(COPY);
+            writeVarInt(offset);
+            writeVarInt(count);
+        }
+
+        void insert(String text, int from, int to) {
+            if (to <= from) {
+                return;
+            }
+            byte[] bytes = text.substring(from, to).getBytes(StandardCharsets.UTF_8);
+            out.write(INSERT);
+            writeVarInt(bytes.length);
+            out.writeBytes(bytes);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        private void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.raid.blog.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Replaces {@code deleteCount} characters at {@code position} of the base text
+ * with {@code insert}. Positions always refer to the base text, not to the text
+ * produced by earlier operations of the same patch.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TextOperation {
+
+    private int position;
+
+    private int deleteCount;
+
+    private String insert;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -27,4 +28,6 @@ public class UpdatePostRequest {
     private Set<UUID> tagIds = new HashSet<>();
 
     private PostStatus status;
+
+    private LocalDateTime publishAt;
 }
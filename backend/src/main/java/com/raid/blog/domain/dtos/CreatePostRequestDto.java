@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -37,4 +38,6 @@ public class CreatePostRequestDto {
     @NotNull(message = "Post status is required")
     private PostStatus status;
 
+    private LocalDateTime publishAt;
+
 }
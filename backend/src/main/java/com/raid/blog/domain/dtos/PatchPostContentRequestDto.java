@@ -0,0 +1,28 @@
+package com.raid.blog.domain.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PatchPostContentRequestDto {
+
+    @NotNull(message = "Base version is required")
+    private Long baseVersion;
+
+    @Builder.Default
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 1000, message = "Maximum {max} operations allowed")
+    private List<@Valid TextOperationDto> operations = new ArrayList<>();
+}
@@ -0,0 +1,21 @@
+package com.raid.blog.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostContentPatchResultDto {
+    private UUID id;
+    private Long version;
+    private Integer readingTime;
+    private Integer wordCount;
+    private LocalDateTime updatedAt;
+}
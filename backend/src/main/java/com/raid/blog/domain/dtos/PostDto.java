@@ -18,6 +18,8 @@ public class PostDto {
     private UUID id;
     private String title;
     private String content;
+    private String excerpt;
+    private Integer wordCount;
     private AuthorDto author;
     private CategoryDto category;
     private Set<TagDto> tags;
@@ -25,4 +27,7 @@ public class PostDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private PostStatus status;
+    private LocalDateTime publishAt;
+    private Long viewCount;
+    private Long version;
 }
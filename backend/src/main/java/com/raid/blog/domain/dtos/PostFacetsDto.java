@@ -0,0 +1,19 @@
+package com.raid.blog.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostFacetsDto {
+    private long total;
+    private Map<UUID, Long> categories;
+    private Map<UUID, Long> tags;
+}
@@ -0,0 +1,17 @@
+package com.raid.blog.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostReadersDto {
+    private UUID postId;
+    private long uniqueReaders;
+}
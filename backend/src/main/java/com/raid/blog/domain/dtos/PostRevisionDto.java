@@ -0,0 +1,23 @@
+package com.raid.blog.domain.dtos;
+
+import com.raid.blog.domain.PostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostRevisionDto {
+    private UUID postId;
+    private int revision;
+    private String title;
+    private String content;
+    private PostStatus status;
+    private LocalDateTime createdAt;
+}
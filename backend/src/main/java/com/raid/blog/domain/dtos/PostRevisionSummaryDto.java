@@ -0,0 +1,21 @@
+package com.raid.blog.domain.dtos;
+
+import com.raid.blog.domain.PostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostRevisionSummaryDto {
+    private int revision;
+    private String title;
+    private PostStatus status;
+    private int contentLength;
+    private LocalDateTime createdAt;
+}
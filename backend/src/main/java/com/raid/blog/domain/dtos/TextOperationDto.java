@@ -0,0 +1,24 @@
+package com.raid.blog.domain.dtos;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TextOperationDto {
+
+    @PositiveOrZero(message = "Position must not be negative")
+    private int position;
+
+    @PositiveOrZero(message = "Delete count must not be negative")
+    private int deleteCount;
+
+    @Size(max = 50000, message = "Inserted text must be at most {max} characters")
+    private String insert;
+}
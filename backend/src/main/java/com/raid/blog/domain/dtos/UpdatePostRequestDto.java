@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -39,4 +40,6 @@ public class UpdatePostRequestDto {
 
     @NotNull(message = "Post status is required")
     private PostStatus status;
+
+    private LocalDateTime publishAt;
 }
@@ -1,9 +1,15 @@
 package com.raid.blog.domain.entities;
 
+import com.raid.blog.domain.ContentAnalysis;
+import com.raid.blog.domain.PostContent;
 import com.raid.blog.domain.PostStatus;
+import com.raid.blog.persistence.PostContentConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -13,7 +19,13 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_status_category", columnList = "status, category_id"),
+        @Index(name = "idx_posts_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_posts_author_status", columnList = "author_id, status"),
+        @Index(name = "idx_posts_status_publish_at", columnList = "status, publish_at")
+})
+@DynamicUpdate
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -28,9 +40,24 @@ public class Post {
     @Column(nullable = false)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
+    @Transient
     private String content;
 
+    // Loaded on first read, which needs build-time bytecode enhancement (see pom.xml)
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = PostContentConverter.class)
+    @Column(name = "content_data", length = 262144)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PostContent storedContent;
+
+    // Content of rows saved before content_data existed, moved over by PostContentMigration
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "content", columnDefinition = "TEXT")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String legacyContent;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private PostStatus status;
@@ -38,6 +65,16 @@ public class Post {
     @Column(nullable = false)
     private Integer readingTime;
 
+    // Derived from the content on every save, so lists can show posts without loading it
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    @Column(length = ContentAnalysis.EXCERPT_LENGTH + 1)
+    private String excerpt;
+
+    @Column(name = "publish_at")
+    private LocalDateTime publishAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
@@ -50,7 +87,8 @@ public class Post {
     @JoinTable(
             name = "post_tags",
             joinColumns = @JoinColumn(name = "post_id"),
-            inverseJoinColumns = @JoinColumn(name = "tag_id")
+            inverseJoinColumns = @JoinColumn(name = "tag_id"),
+            indexes = @Index(name = "idx_post_tags_tag_post", columnList = "tag_id, post_id")
     )
     @Builder.Default
     private Set<Tag> tags = new HashSet<>();
@@ -63,15 +101,43 @@ public class Post {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
+    @Formula("(select coalesce(max(s.view_count), 0) from post_stats s where s.post_id = id)")
+    @Builder.Default
+    private Long viewCount = 0L;
+
+    public String getContent() {
+        if (content == null) {
+            content = storedContent != null ? storedContent.text() : legacyContent;
+        }
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+        this.storedContent = content != null ? PostContent.of(content) : null;
+        this.legacyContent = null;
+    }
+
+    @PrePersist
+    void encodeContent() {
+        if (storedContent == null && content != null) {
+            storedContent = PostContent.of(content);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         Post post = (Post) o;
-        return Objects.equals(id, post.id) && Objects.equals(title, post.title) && Objects.equals(content, post.content) && status == post.status && Objects.equals(readingTime, post.readingTime) && Objects.equals(createdAt, post.createdAt) && Objects.equals(updatedAt, post.updatedAt);
+        return Objects.equals(id, post.id) && Objects.equals(title, post.title) && status == post.status && Objects.equals(readingTime, post.readingTime) && Objects.equals(createdAt, post.createdAt) && Objects.equals(updatedAt, post.updatedAt);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, title, content, status, readingTime, createdAt, updatedAt);
+        return Objects.hash(id, title, status, readingTime, createdAt, updatedAt);
     }
 }
@@ -0,0 +1,48 @@
+package com.raid.blog.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * SimHash of a post's content split into four 16-bit bands. Two fingerprints at
+ * most three bits apart must agree on at least one band, so candidates are found
+ * with indexed equality lookups and only those are compared bit by bit.
+ */
+@Entity
+@Table(name = "post_fingerprints", indexes = {
+        @Index(name = "idx_post_fingerprints_band_0", columnList = "band_0"),
+        @Index(name = "idx_post_fingerprints_band_1", columnList = "band_1"),
+        @Index(name = "idx_post_fingerprints_band_2", columnList = "band_2"),
+        @Index(name = "idx_post_fingerprints_band_3", columnList = "band_3")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class PostFingerprint {
+
+    @Id
+    @Column(name = "post_id")
+    private UUID postId;
+
+    @Column(nullable = false)
+    private long fingerprint;
+
+    @Column(name = "band_0", nullable = false)
+    private int band0;
+
+    @Column(name = "band_1", nullable = false)
+    private int band1;
+
+    @Column(name = "band_2", nullable = false)
+    private int band2;
+
+    @Column(name = "band_3", nullable = false)
+    private int band3;
+
+    @Column(name = "duplicate_of_post_id")
+    private UUID duplicateOfPostId;
+}
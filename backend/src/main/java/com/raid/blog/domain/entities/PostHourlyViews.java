@@ -0,0 +1,38 @@
+package com.raid.blog.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "post_hourly_views")
+@IdClass(PostHourlyViews.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class PostHourlyViews {
+
+    @Id
+    @Column(name = "post_id")
+    private UUID postId;
+
+    @Id
+    @Column(name = "hour_start")
+    private LocalDateTime hour;
+
+    @Column(nullable = false)
+    private long views;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID postId;
+        private LocalDateTime hour;
+    }
+}
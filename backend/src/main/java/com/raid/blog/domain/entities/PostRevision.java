@@ -0,0 +1,61 @@
+package com.raid.blog.domain.entities;
+
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.RevisionKind;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "post_revisions")
+@IdClass(PostRevision.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class PostRevision {
+
+    @Id
+    @Column(name = "post_id")
+    private UUID postId;
+
+    @Id
+    @Column(name = "revision")
+    private int revision;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private RevisionKind kind;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private PostStatus status;
+
+    @Column(name = "content_length", nullable = false)
+    private int contentLength;
+
+    // The full UTF-8 content for snapshots, a TextDelta against the previous revision otherwise
+    @JdbcTypeCode(SqlTypes.VARBINARY)
+    @Column(nullable = false, length = 262144)
+    private byte[] data;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID postId;
+        private int revision;
+    }
+}
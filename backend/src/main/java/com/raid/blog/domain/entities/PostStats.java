@@ -0,0 +1,31 @@
+package com.raid.blog.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "post_stats")
+@DynamicUpdate
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class PostStats {
+
+    @Id
+    @Column(name = "post_id")
+    private UUID postId;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @JdbcTypeCode(SqlTypes.VARBINARY)
+    @Column(name = "reader_sketch", length = 8192)
+    private byte[] readerSketch;
+}
@@ -0,0 +1,42 @@
+package com.raid.blog.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Records which page view log segments have been rolled up, so a segment replayed
+ * after a crash is never counted twice.
+ */
+@Entity
+@Table(name = "rolled_up_segments")
+@IdClass(RolledUpSegment.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class RolledUpSegment {
+
+    @Id
+    @Column(name = "log_id")
+    private UUID logId;
+
+    @Id
+    @Column(name = "segment")
+    private long segment;
+
+    @Column(name = "rolled_up_at", nullable = false)
+    private LocalDateTime rolledUpAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID logId;
+        private long segment;
+    }
+}
@@ -1,5 +1,6 @@
 package com.raid.blog.domain.entities;
 
+import com.raid.blog.domain.TagNameNormalizer;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -9,7 +10,7 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tags")
+@Table(name = "tags", indexes = @Index(name = "idx_tags_normalized_name", columnList = "normalized_name"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -24,10 +25,19 @@ public class Tag {
     @Column(nullable = false, unique = true)
     private String name;
 
+    @Column(name = "normalized_name")
+    private String normalizedName;
+
     @ManyToMany(mappedBy = "tags")
     @Builder.Default
     private Set<Post> posts = new HashSet<>();
 
+    @PrePersist
+    @PreUpdate
+    void normalizeName() {
+        this.normalizedName = TagNameNormalizer.normalize(name);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
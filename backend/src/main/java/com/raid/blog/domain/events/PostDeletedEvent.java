@@ -0,0 +1,12 @@
+package com.raid.blog.domain.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class PostDeletedEvent {
+    private final UUID postId;
+}
@@ -0,0 +1,23 @@
+package com.raid.blog.domain.events;
+
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.entities.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class PostRevisedEvent {
+    private final UUID postId;
+    private final String title;
+    private final String content;
+    private final PostStatus status;
+    private final LocalDateTime revisedAt;
+
+    public static PostRevisedEvent from(Post post) {
+        return new PostRevisedEvent(post.getId(), post.getTitle(), post.getContent(), post.getStatus(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,34 @@
+package com.raid.blog.domain.events;
+
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.entities.Tag;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Getter
+@AllArgsConstructor
+public class PostSavedEvent {
+    private final UUID postId;
+    private final PostStatus status;
+    private final UUID categoryId;
+    private final Set<UUID> tagIds;
+    private final UUID authorId;
+    private final LocalDateTime createdAt;
+
+    public static PostSavedEvent from(Post post) {
+        return new PostSavedEvent(
+                post.getId(),
+                post.getStatus(),
+                post.getCategory() != null ? post.getCategory().getId() : null,
+                post.getTags().stream().map(Tag::getId).collect(Collectors.toUnmodifiableSet()),
+                post.getAuthor() != null ? post.getAuthor().getId() : null,
+                post.getCreatedAt()
+        );
+    }
+}
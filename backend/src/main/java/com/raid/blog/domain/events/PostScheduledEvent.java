@@ -0,0 +1,14 @@
+package com.raid.blog.domain.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class PostScheduledEvent {
+    private final UUID postId;
+    private final LocalDateTime publishAt;
+}
@@ -0,0 +1,300 @@
+package com.raid.blog.drafts;
+
+import com.raid.blog.domain.ContentAnalysis;
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.UpdatePostRequest;
+import com.raid.blog.domain.entities.Category;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.entities.Tag;
+import com.raid.blog.domain.events.PostDeletedEvent;
+import com.raid.blog.domain.events.PostRevisedEvent;
+import com.raid.blog.domain.events.PostSavedEvent;
+import com.raid.blog.repositories.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces bursts of updates to the same draft. The latest state of each draft is
+ * kept in memory and written in one transaction once the draft has been quiet for
+ * the configured period, has been pending for the maximum delay, or has absorbed
+ * the maximum number of updates. Reads overlay the pending state on the stored row,
+ * reporting the version the row will have once the pending state is written.
+ * <p>
+ * Pending drafts are written on shutdown; a crash loses at most the pending window.
+ * A draft is claimed before it is written, so a flush requested by a request and
+ * the scheduled flush never write the same draft at the same time.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DraftWriteCoalescer {
+
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final PostRepository postRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${blog.posts.draft-coalescing.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${blog.posts.draft-coalescing.quiet-period:PT2S}")
+    private Duration quietPeriod = Duration.ofSeconds(2);
+
+    @Value("${blog.posts.draft-coalescing.max-delay:PT10S}")
+    private Duration maxDelay = Duration.ofSeconds(10);
+
+    @Value("${blog.posts.draft-coalescing.max-updates:50}")
+    private int maxUpdates = 50;
+
+    @Value("${blog.posts.draft-coalescing.max-pending:10000}")
+    private int maxPending = 10000;
+
+    private final Map<UUID, PendingDraft> pendingDrafts = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<Void>> runningWrites = new ConcurrentHashMap<>();
+
+    private TransactionTemplate writeTransaction;
+    private Counter receivedUpdates;
+    private Counter writtenUpdates;
+
+    @PostConstruct
+    void init() {
+        // Writes commit on their own, so a flush triggered inside another transaction is visible to it
+        writeTransaction = new TransactionTemplate(transactionManager);
+        writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        receivedUpdates = Counter.builder("blog.posts.draft.updates")
+                .description("Draft updates accepted by the write coalescer")
+                .register(meterRegistry);
+        writtenUpdates = Counter.builder("blog.posts.draft.writes")
+                .description("Draft rows written by the write coalescer")
+                .register(meterRegistry);
+        Gauge.builder("blog.posts.draft.coalesced.ratio", this, DraftWriteCoalescer::coalescedRatio)
+                .description("Share of accepted draft updates that did not need their own write")
+                .register(meterRegistry);
+        Gauge.builder("blog.posts.draft.pending", pendingDrafts, Map::size)
+                .description("Drafts with updates waiting to be written")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues the new state of a draft and returns the post as readers will now see it,
+     * or an empty optional when too many drafts are pending and it has to be written directly.
+     */
+    public Optional<Post> enqueue(Post post, UpdatePostRequest request, ContentAnalysis analysis, Category category, Set<Tag> tags) {
+        Instant now = Instant.now();
+        // An unchanged category is the post's lazy reference, which must be loaded while its session is open
+        Hibernate.initialize(category);
+        Category unproxiedCategory = (Category) Hibernate.unproxy(category);
+        Set<Tag> copiedTags = Set.copyOf(tags);
+
+        PendingDraft draft = pendingDrafts.compute(post.getId(), (id, previous) -> {
+            if (previous == null && pendingDrafts.size() >= maxPending) {
+                return null;
+            }
+            return new PendingDraft(
+                    request.getTitle(),
+                    request.getContent(),
+                    analysis,
+                    unproxiedCategory,
+                    copiedTags,
+                    previous != null ? previous.firstQueuedAt() : now,
+                    now,
+                    previous != null ? previous.updates() + 1 : 1,
+                    0
+            );
+        });
+        if (draft == null) {
+            return Optional.empty();
+        }
+
+        receivedUpdates.increment();
+        return Optional.of(draft.applyTo(post));
+    }
+
+    public Optional<PendingDraft> pending(UUID postId) {
+        return Optional.ofNullable(pendingDrafts.get(postId));
+    }
+
+    public void discard(UUID postId) {
+        pendingDrafts.remove(postId);
+    }
+
+    /**
+     * Pending drafts of a deleted post are only dropped once the delete is committed,
+     * so a delete that is rolled back keeps them.
+     */
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        discard(event.getPostId());
+    }
+
+    /**
+     * Writes the pending state of a draft before returning. A write that is already
+     * running may have started before the latest update was queued, so it is waited
+     * for and whatever is still pending afterwards is written.
+     */
+    public void flush(UUID postId) {
+        CompletableFuture<Void> running = runningWrites.get(postId);
+        if (running != null) {
+            running.join();
+        }
+        write(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.posts.draft-coalescing.tick:PT0.5S}")
+    public void flushDue() {
+        flushDue(Instant.now());
+    }
+
+    void flushDue(Instant now) {
+        pendingDrafts.forEach((postId, draft) -> {
+            if (isDue(draft, now)) {
+                write(postId);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        pendingDrafts.keySet().forEach(this::write);
+    }
+
+    private boolean isDue(PendingDraft draft, Instant now) {
+        return draft.updates() >= maxUpdates
+                || !draft.lastQueuedAt().plus(quietPeriod).isAfter(now)
+                || !draft.firstQueuedAt().plus(maxDelay).isAfter(now);
+    }
+
+    /**
+     * Claims the draft and writes its latest pending state, or waits for the write
+     * of whoever claimed it first, which reads the pending state once it starts.
+     */
+    private void write(UUID postId) {
+        CompletableFuture<Void> claim = new CompletableFuture<>();
+        CompletableFuture<Void> running = runningWrites.putIfAbsent(postId, claim);
+        if (running != null) {
+            running.join();
+            return;
+        }
+        try {
+            PendingDraft draft = pendingDrafts.get(postId);
+            if (draft != null) {
+                write(postId, draft);
+            }
+        } finally {
+            runningWrites.remove(postId, claim);
+            claim.complete(null);
+        }
+    }
+
+    private void write(UUID postId, PendingDraft draft) {
+        try {
+            boolean written = Boolean.TRUE.equals(writeTransaction.execute(status -> postRepository.findById(postId)
+                    // Posts deleted or published since the draft was queued keep their stored state
+                    .filter(post -> post.getStatus() == PostStatus.DRAFT)
+                    .map(post -> {
+                        post.setTitle(draft.title());
+                        post.setContent(draft.content());
+                        post.setReadingTime(draft.analysis().readingTime());
+                        post.setWordCount(draft.analysis().wordCount());
+                        post.setExcerpt(draft.analysis().excerpt());
+                        if (!post.getCategory().getId().equals(draft.category().getId())) {
+                            post.setCategory(draft.category());
+                        }
+                        // Replacing the collection would delete and re-insert every post_tags row
+                        if (!post.getTags().equals(draft.tags())) {
+                            post.setTags(new HashSet<>(draft.tags()));
+                        }
+                        Post savedPost = postRepository.save(post);
+                        eventPublisher.publishEvent(PostSavedEvent.from(savedPost));
+                        eventPublisher.publishEvent(PostRevisedEvent.from(savedPost));
+                        return true;
+                    })
+                    .orElse(false)));
+            // A newer update queued during the write stays pending for the next flush
+            pendingDrafts.remove(postId, draft);
+            if (written) {
+                writtenUpdates.increment();
+            }
+        } catch (RuntimeException e) {
+            PendingDraft retried = pendingDrafts.computeIfPresent(postId,
+                    (id, current) -> current != draft ? current
+                            : draft.attempts() + 1 < MAX_WRITE_ATTEMPTS ? draft.withFailedAttempt() : null);
+            if (retried == null) {
+                log.error("Dropping pending draft {} after {} failed writes", postId, MAX_WRITE_ATTEMPTS, e);
+            } else {
+                log.warn("Failed to write pending draft {}, retrying on the next flush", postId, e);
+            }
+        }
+    }
+
+    private double coalescedRatio() {
+        double received = receivedUpdates.count();
+        return received == 0 ? 0 : 1 - writtenUpdates.count() / received;
+    }
+
+    public record PendingDraft(
+            String title,
+            String content,
+            ContentAnalysis analysis,
+            Category category,
+            Set<Tag> tags,
+            Instant firstQueuedAt,
+            Instant lastQueuedAt,
+            int updates,
+            int attempts
+    ) {
+
+        PendingDraft withFailedAttempt() {
+            return new PendingDraft(title, content, analysis, category, tags, firstQueuedAt, lastQueuedAt, updates, attempts + 1);
+        }
+
+        public Post applyTo(Post post) {
+            return Post.builder()
+                    .id(post.getId())
+                    .title(title)
+                    .content(content)
+                    .status(post.getStatus())
+                    .readingTime(analysis.readingTime())
+                    .wordCount(analysis.wordCount())
+                    .excerpt(analysis.excerpt())
+                    .publishAt(post.getPublishAt())
+                    .author(post.getAuthor())
+                    .category(category)
+                    .tags(new HashSet<>(tags))
+                    .createdAt(post.getCreatedAt())
+                    .updatedAt(LocalDateTime.ofInstant(lastQueuedAt, ZoneId.systemDefault()))
+                    .version(post.getVersion() != null ? post.getVersion() + 1 : null)
+                    .viewCount(post.getViewCount())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package com.raid.blog.indexing;
+
+import com.raid.blog.domain.PostFacets;
+import com.raid.blog.domain.PostFilter;
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.TagMatch;
+import com.raid.blog.domain.events.PostDeletedEvent;
+import com.raid.blog.domain.events.PostSavedEvent;
+import com.raid.blog.repositories.PostRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index of posts by status, category, tag and author. Each post
+ * gets a dense int ordinal and every attribute value maps to a compressed bitmap
+ * of ordinals, so counts for any filter selection are bitmap intersections instead
+ * of queries. Ordinals of deleted posts are handed out again to new posts.
+ * <p>
+ * The index is built at startup, before the web server accepts requests, and then
+ * kept current from post events published after their transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostIndex implements SmartInitializingSingleton {
+
+    private final PostRepository postRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<UUID, Integer> ordinalsByPostId = new HashMap<>();
+    private final List<Entry> entriesByOrdinal = new ArrayList<>();
+    private final RoaringBitmap freeOrdinals = new RoaringBitmap();
+
+    private final Map<PostStatus, RoaringBitmap> postsByStatus = new EnumMap<>(PostStatus.class);
+    private final Map<UUID, RoaringBitmap> postsByCategory = new HashMap<>();
+    private final Map<UUID, RoaringBitmap> postsByTag = new HashMap<>();
+    private final Map<UUID, RoaringBitmap> postsByAuthor = new HashMap<>();
+
+    private final Map<UUID, List<UUID>> relatedPostsCache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, List<UUID>> eldest) {
+            return size() > RELATED_POSTS_CACHE_SIZE;
+        }
+    });
+
+    private static final int RELATED_POSTS_CACHE_SIZE = 10_000;
+
+    private final LongAdder relatedPostsHits = new LongAdder();
+    private final LongAdder relatedPostsMisses = new LongAdder();
+
+    public static final int MAX_RELATED_POSTS = 20;
+
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("cache.gets", relatedPostsHits, LongAdder::sum)
+                .tags("cache", "related-posts", "result", "hit")
+                .description("Related post lookups served from the cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", relatedPostsMisses, LongAdder::sum)
+                .tags("cache", "related-posts", "result", "miss")
+                .description("Related post lookups that ranked posts")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", relatedPostsCache, Map::size)
+                .tag("cache", "related-posts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Builds the index once all beans exist, which is before the web server starts
+     * and scheduled tasks run, so no post event can be published while it is read.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        Map<UUID, Entry> entries = new LinkedHashMap<>();
+        for (PostRepository.PostTagRow row : postRepository.findAllPostTagRows()) {
+            Entry entry = entries.computeIfAbsent(row.getPostId(), postId -> new Entry(
+                    postId, row.getStatus(), row.getCategoryId(), new HashSet<>(), row.getAuthorId(), row.getCreatedAt()));
+            if (row.getTagId() != null) {
+                entry.tagIds().add(row.getTagId());
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            ordinalsByPostId.clear();
+            entriesByOrdinal.clear();
+            freeOrdinals.clear();
+            postsByStatus.clear();
+            postsByCategory.clear();
+            postsByTag.clear();
+            postsByAuthor.clear();
+            entries.values().forEach(this::put);
+            relatedPostsCache.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Indexed {} posts", entries.size());
+    }
+
+    @TransactionalEventListener
+    public void onPostSaved(PostSavedEvent event) {
+        lock.writeLock().lock();
+        try {
+            put(new Entry(event.getPostId(), event.getStatus(), event.getCategoryId(), Set.copyOf(event.getTagIds()),
+                    event.getAuthorId(), event.getCreatedAt()));
+            relatedPostsCache.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalsByPostId.remove(event.getPostId());
+            if (ordinal != null) {
+                unindex(ordinal, entriesByOrdinal.get(ordinal));
+                entriesByOrdinal.set(ordinal, null);
+                freeOrdinals.add(ordinal);
+            }
+            relatedPostsCache.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counts published posts matching the selection, plus per category and per tag
+     * counts. Category counts ignore the category selection and, for ANY matching,
+     * tag counts ignore the tag selection, so the sidebar shows what selecting
+     * another value would yield. The author and creation time restrict all counts.
+     */
+    public PostFacets facetCounts(PostFilter filter) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap published = publishedMatching(filter);
+            RoaringBitmap categorySelection = unionOf(postsByCategory, filter.getCategoryIds());
+            RoaringBitmap tagSelection = filter.getTagMatch() == TagMatch.ALL
+                    ? intersectionOf(postsByTag, filter.getTagIds())
+                    : unionOf(postsByTag, filter.getTagIds());
+
+            RoaringBitmap publishedInTags = restrict(published, tagSelection);
+            RoaringBitmap publishedInCategories = restrict(published, categorySelection);
+            RoaringBitmap tagFacetBase = filter.getTagMatch() == TagMatch.ALL
+                    ? restrict(publishedInCategories, tagSelection)
+                    : publishedInCategories;
+
+            return PostFacets.builder()
+                    .total(restrict(publishedInTags, categorySelection).getLongCardinality())
+                    .categories(countPerValue(postsByCategory, publishedInTags))
+                    .tags(countPerValue(postsByTag, tagFacetBase))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(UUID postId) {
+        lock.readLock().lock();
+        try {
+            return ordinalsByPostId.containsKey(postId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the category of a published post, or null when the post is unknown or
+     * not published.
+     */
+    public UUID publishedCategoryOf(UUID postId) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinalsByPostId.get(postId);
+            if (ordinal == null) {
+                return null;
+            }
+            Entry entry = entriesByOrdinal.get(ordinal);
+            return entry.status() == PostStatus.PUBLISHED ? entry.categoryId() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks published posts by weighted Jaccard similarity of their tags to the given
+     * post, weighting each tag by its inverse document frequency so that sharing a
+     * niche tag counts for more than sharing a ubiquitous one. Only posts sharing at
+     * least one tag are scored, and a bounded min-heap keeps the best
+     * {@link #MAX_RELATED_POSTS}. Results are cached until the next index update.
+     */
+    public List<UUID> relatedPostIds(UUID postId, int limit) {
+        List<UUID> related = relatedPostsCache.get(postId);
+        if (related == null) {
+            relatedPostsMisses.increment();
+            related = rankRelatedPosts(postId);
+        } else {
+            relatedPostsHits.increment();
+        }
+        return related.subList(0, Math.min(limit, related.size()));
+    }
+
+    private List<UUID> rankRelatedPosts(UUID postId) {
+        lock.readLock().lock();
+        try {
+            Integer sourceOrdinal = ordinalsByPostId.get(postId);
+            if (sourceOrdinal == null) {
+                return List.of();
+            }
+            Entry source = entriesByOrdinal.get(sourceOrdinal);
+            RoaringBitmap published = postsByStatus.getOrDefault(PostStatus.PUBLISHED, new RoaringBitmap());
+            long publishedCount = published.getLongCardinality();
+
+            Map<UUID, Double> tagWeights = new HashMap<>();
+            Map<Integer, Double> sharedWeights = new HashMap<>();
+            for (UUID tagId : source.tagIds()) {
+                RoaringBitmap tagged = postsByTag.get(tagId);
+                if (tagged == null) {
+                    continue;
+                }
+                RoaringBitmap candidates = RoaringBitmap.and(tagged, published);
+                double weight = inverseDocumentFrequency(publishedCount, candidates.getLongCardinality());
+                tagWeights.put(tagId, weight);
+                candidates.forEach((int ordinal) -> sharedWeights.merge(ordinal, weight, Double::sum));
+            }
+            sharedWeights.remove(sourceOrdinal);
+
+            double sourceWeight = tagWeights.values().stream().mapToDouble(Double::doubleValue).sum();
+            PriorityQueue<ScoredPost> best = new PriorityQueue<>(MAX_RELATED_POSTS + 1, Comparator.comparingDouble(ScoredPost::score));
+            sharedWeights.forEach((ordinal, shared) -> {
+                Entry candidate = entriesByOrdinal.get(ordinal);
+                double candidateWeight = 0;
+                for (UUID tagId : candidate.tagIds()) {
+                    candidateWeight += tagWeights.computeIfAbsent(tagId, id -> inverseDocumentFrequency(
+                            publishedCount, RoaringBitmap.andCardinality(postsByTag.get(id), published)));
+                }
+                double score = shared / (sourceWeight + candidateWeight - shared);
+                best.offer(new ScoredPost(candidate.postId(), score));
+                if (best.size() > MAX_RELATED_POSTS) {
+                    best.poll();
+                }
+            });
+
+            List<UUID> ranked = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                ranked.add(best.poll().postId());
+            }
+            Collections.reverse(ranked);
+
+            // Cached while still holding the read lock, so a concurrent update cannot be overwritten by a stale ranking
+            List<UUID> related = List.copyOf(ranked);
+            relatedPostsCache.put(postId, related);
+            return related;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap publishedMatching(PostFilter filter) {
+        RoaringBitmap published = postsByStatus.getOrDefault(PostStatus.PUBLISHED, new RoaringBitmap());
+        if (filter.getAuthorId() != null) {
+            published = RoaringBitmap.and(published, postsByAuthor.getOrDefault(filter.getAuthorId(), new RoaringBitmap()));
+        }
+        if (filter.getCreatedFrom() == null && filter.getCreatedTo() == null) {
+            return published;
+        }
+
+        // There are no bitmaps by creation time, so a range is checked post by post
+        RoaringBitmap created = new RoaringBitmap();
+        published.forEach((int ordinal) -> {
+            LocalDateTime createdAt = entriesByOrdinal.get(ordinal).createdAt();
+            if (createdAt != null
+                    && (filter.getCreatedFrom() == null || !createdAt.isBefore(filter.getCreatedFrom()))
+                    && (filter.getCreatedTo() == null || createdAt.isBefore(filter.getCreatedTo()))) {
+                created.add(ordinal);
+            }
+        });
+        return created;
+    }
+
+    private static double inverseDocumentFrequency(long documentCount, long documentFrequency) {
+        return Math.log(1.0 + (double) documentCount / Math.max(1, documentFrequency));
+    }
+
+    private void put(Entry entry) {
+        Integer existingOrdinal = ordinalsByPostId.get(entry.postId());
+        int ordinal;
+        if (existingOrdinal == null) {
+            if (freeOrdinals.isEmpty()) {
+                ordinal = entriesByOrdinal.size();
+                entriesByOrdinal.add(entry);
+            } else {
+                // The lowest free ordinal keeps the bitmaps dense
+                ordinal = freeOrdinals.first();
+                freeOrdinals.remove(ordinal);
+                entriesByOrdinal.set(ordinal, entry);
+            }
+            ordinalsByPostId.put(entry.postId(), ordinal);
+        } else {
+            ordinal = existingOrdinal;
+            unindex(ordinal, entriesByOrdinal.get(ordinal));
+            entriesByOrdinal.set(ordinal, entry);
+        }
+
+        add(postsByStatus, entry.status(), ordinal);
+        add(postsByCategory, entry.categoryId(), ordinal);
+        entry.tagIds().forEach(tagId -> add(postsByTag, tagId, ordinal));
+        add(postsByAuthor, entry.authorId(), ordinal);
+    }
+
+    private void unindex(int ordinal, Entry entry) {
+        remove(postsByStatus, entry.status(), ordinal);
+        remove(postsByCategory, entry.categoryId(), ordinal);
+        entry.tagIds().forEach(tagId -> remove(postsByTag, tagId, ordinal));
+        remove(postsByAuthor, entry.authorId(), ordinal);
+    }
+
+    private static <K> void add(Map<K, RoaringBitmap> bitmaps, K key, int ordinal) {
+        if (key != null) {
+            bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    private static <K> void remove(Map<K, RoaringBitmap> bitmaps, K key, int ordinal) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns null when nothing is selected, meaning "no restriction".
+     */
+    private static RoaringBitmap unionOf(Map<UUID, RoaringBitmap> bitmaps, Set<UUID> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return null;
+        }
+        RoaringBitmap union = new RoaringBitmap();
+        keys.stream().map(bitmaps::get).filter(Objects::nonNull).forEach(union::or);
+        return union;
+    }
+
+    private static RoaringBitmap intersectionOf(Map<UUID, RoaringBitmap> bitmaps, Set<UUID> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return null;
+        }
+        RoaringBitmap intersection = null;
+        for (UUID key : keys) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap == null) {
+                return new RoaringBitmap();
+            }
+            intersection = intersection == null ? bitmap.clone() : RoaringBitmap.and(intersection, bitmap);
+        }
+        return intersection;
+    }
+
+    private static RoaringBitmap restrict(RoaringBitmap base, RoaringBitmap selection) {
+        return selection == null ? base : RoaringBitmap.and(base, selection);
+    }
+
+    private static Map<UUID, Long> countPerValue(Map<UUID, RoaringBitmap> bitmaps, RoaringBitmap base) {
+        Map<UUID, Long> counts = new HashMap<>();
+        bitmaps.forEach((key, bitmap) -> {
+            long count = RoaringBitmap.andCardinality(bitmap, base);
+            if (count > 0) {
+                counts.put(key, count);
+            }
+        });
+        return counts;
+    }
+
+    private record Entry(UUID postId, PostStatus status, UUID categoryId, Set<UUID> tagIds, UUID authorId,
+                         LocalDateTime createdAt) {
+    }
+
+    private record ScoredPost(UUID postId, double score) {
+    }
+}
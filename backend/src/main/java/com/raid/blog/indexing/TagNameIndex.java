@@ -0,0 +1,147 @@
+package com.raid.blog.indexing;
+
+import com.raid.blog.domain.TagNameNormalizer;
+import com.raid.blog.repositories.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory symmetric-delete index over normalized tag names. Every key is stored
+ * under itself and under each of its single-character deletions, so all keys within
+ * one edit of a lookup key are found with O(length) hash lookups instead of a scan.
+ * <p>
+ * The index only produces candidate keys; callers must resolve them against the
+ * database, which keeps it safe to be slightly stale (e.g. after a rolled back insert).
+ */
+@Component
+@RequiredArgsConstructor
+public class TagNameIndex {
+
+    private final TagRepository tagRepository;
+
+    private final Map<String, Set<String>> keysByVariant = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded = false;
+
+    @Value("${blog.tags.fuzzy-match.enabled:true}")
+    private boolean fuzzyMatchEnabled = true;
+
+    @Value("${blog.tags.fuzzy-match.min-length:8}")
+    private int minLength = 8;
+
+    public Set<String> findSimilar(String key) {
+        if (!fuzzyMatchEnabled || !isFuzzyCandidate(key)) {
+            return Set.of();
+        }
+        ensureLoaded();
+
+        Set<String> candidates = new HashSet<>(keysByVariant.getOrDefault(key, Set.of()));
+        for (String deletion : deletions(key)) {
+            candidates.addAll(keysByVariant.getOrDefault(deletion, Set.of()));
+        }
+
+        candidates.removeIf(candidate -> candidate.equals(key) || !withinOneEdit(key, candidate));
+        return candidates;
+    }
+
+    public void add(String key) {
+        if (key == null || !loaded) {
+            return;
+        }
+        index(key);
+    }
+
+    private void index(String key) {
+        keysByVariant.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(key);
+        for (String deletion : deletions(key)) {
+            keysByVariant.computeIfAbsent(deletion, k -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    public void remove(String key) {
+        if (key == null || !loaded) {
+            return;
+        }
+        removeVariant(key, key);
+        for (String deletion : deletions(key)) {
+            removeVariant(deletion, key);
+        }
+    }
+
+    private void removeVariant(String variant, String key) {
+        keysByVariant.computeIfPresent(variant, (v, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            tagRepository.findAllNames().stream()
+                    .map(TagNameNormalizer::normalize)
+                    .forEach(this::index);
+            loaded = true;
+        }
+    }
+
+    private boolean isFuzzyCandidate(String key) {
+        if (key == null || key.length() < minLength) {
+            return false;
+        }
+        // Names that differ by a digit ("web2"/"web3", "java17"/"java21") are distinct on purpose
+        return key.chars().noneMatch(Character::isDigit);
+    }
+
+    private static List<String> deletions(String key) {
+        List<String> deletions = new ArrayList<>(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            deletions.add(key.substring(0, i) + key.substring(i + 1));
+        }
+        return deletions;
+    }
+
+    /**
+     * Optimal string alignment distance of at most one: a single insertion,
+     * deletion, substitution or transposition of adjacent characters.
+     */
+    static boolean withinOneEdit(String a, String b) {
+        int lengthDifference = a.length() - b.length();
+        if (Math.abs(lengthDifference) > 1) {
+            return false;
+        }
+
+        int prefix = 0;
+        int shorter = Math.min(a.length(), b.length());
+        while (prefix < shorter && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        if (prefix == shorter) {
+            return true;
+        }
+
+        if (lengthDifference > 0) {
+            return a.regionMatches(prefix + 1, b, prefix, b.length() - prefix);
+        }
+        if (lengthDifference < 0) {
+            return b.regionMatches(prefix + 1, a, prefix, a.length() - prefix);
+        }
+
+        if (a.regionMatches(prefix + 1, b, prefix + 1, a.length() - prefix - 1)) {
+            return true;
+        }
+        return prefix + 1 < a.length()
+                && a.charAt(prefix) == b.charAt(prefix + 1)
+                && a.charAt(prefix + 1) == b.charAt(prefix)
+                && a.regionMatches(prefix + 2, b, prefix + 2, a.length() - prefix - 2);
+    }
+}
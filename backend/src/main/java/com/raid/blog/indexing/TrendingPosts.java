@@ -0,0 +1,254 @@
+package com.raid.blog.indexing;
+
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.events.PostDeletedEvent;
+import com.raid.blog.domain.events.PostSavedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the most trending published posts, overall and per category. Interactions
+ * only add to a per-post counter, so the view path never takes the lock; a drain
+ * every interval applies what the counters grew by since the last drain. Scores decay exponentially with a configurable half-life using
+ * forward decay: an interaction at time t adds 2^((t - landmark) / halfLife), so
+ * older totals never need to be touched and comparing raw totals ranks posts by
+ * their decayed score. Totals live in a Count-Min sketch, which bounds memory
+ * regardless of how many posts are read, and only posts whose estimate beats the
+ * weakest entry of a bounded top-K list are tracked individually.
+ * <p>
+ * As with view counts, counters are never reset, and counters that saw no
+ * interactions for the idle timeout are dropped and read once more by the next drain.
+ */
+@Component
+@RequiredArgsConstructor
+public class TrendingPosts {
+
+    public static final int MAX_TRENDING_POSTS = 50;
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1 << 12;
+    // Rescale well before 2^exponent overflows a double
+    private static final double MAX_EXPONENT = 512;
+    private static final long[] SEEDS = {
+            0x9e3779b97f4a7c15L, 0xc2b2ae3d27d4eb4fL, 0x165667b19e3779f9L, 0xd6e8feb86659fd93L
+    };
+
+    private final PostIndex postIndex;
+
+    private final Lock lock = new ReentrantLock();
+
+    private final Map<UUID, PendingInteractions> pendingInteractions = new ConcurrentHashMap<>();
+    // Only read and written by drains, which hold the lock
+    private final List<PendingInteractions> droppedInteractions = new ArrayList<>();
+
+    private final double[][] sketch = new double[SKETCH_DEPTH][SKETCH_WIDTH];
+    private final TopK overall = new TopK();
+    private final Map<UUID, TopK> byCategory = new HashMap<>();
+
+    private Instant landmark = Instant.now();
+
+    @Value("${blog.posts.trending.half-life:PT6H}")
+    private Duration halfLife = Duration.ofHours(6);
+
+    @Value("${blog.posts.trending.idle-timeout:PT1M}")
+    private Duration idleTimeout = Duration.ofMinutes(1);
+
+    public void recordInteraction(UUID postId, double weight) {
+        pendingInteractions.computeIfAbsent(postId, PendingInteractions::new).weight.add(weight);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.posts.trending.drain-interval:PT1S}")
+    public void drainInteractions() {
+        drainInteractions(Instant.now());
+    }
+
+    /**
+     * Applies the interactions recorded since the last drain as if they happened at the given time.
+     */
+    void drainInteractions(Instant at) {
+        lock.lock();
+        try {
+            for (PendingInteractions interactions : droppedInteractions) {
+                double late = interactions.takeUndrained();
+                if (late > 0) {
+                    apply(interactions.postId, late, at);
+                }
+            }
+            droppedInteractions.clear();
+            long now = System.nanoTime();
+            pendingInteractions.forEach((postId, interactions) -> {
+                double weight = interactions.takeUndrained();
+                if (weight > 0) {
+                    interactions.lastInteractionAt = now;
+                    apply(postId, weight, at);
+                } else if (now - interactions.lastInteractionAt > idleTimeout.toNanos()
+                        && pendingInteractions.remove(postId, interactions)) {
+                    droppedInteractions.add(interactions);
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns ids of the most trending published posts, most trending first,
+     * optionally restricted to a category.
+     */
+    public List<UUID> trendingPostIds(UUID categoryId, int limit) {
+        lock.lock();
+        try {
+            TopK topK = categoryId != null ? byCategory.get(categoryId) : overall;
+            if (topK == null) {
+                return List.of();
+            }
+            return topK.scores.entrySet().stream()
+                    .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostSaved(PostSavedEvent event) {
+        lock.lock();
+        try {
+            byCategory.forEach((categoryId, topK) -> {
+                if (event.getStatus() != PostStatus.PUBLISHED || !categoryId.equals(event.getCategoryId())) {
+                    topK.remove(event.getPostId());
+                }
+            });
+            if (event.getStatus() != PostStatus.PUBLISHED) {
+                overall.remove(event.getPostId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        lock.lock();
+        try {
+            overall.remove(event.getPostId());
+            byCategory.values().forEach(topK -> topK.remove(event.getPostId()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(UUID postId, double weight, Instant at) {
+        UUID categoryId = postIndex.publishedCategoryOf(postId);
+        if (categoryId == null) {
+            return;
+        }
+
+        double exponent = (double) Duration.between(landmark, at).toMillis() / halfLife.toMillis();
+        if (exponent > MAX_EXPONENT) {
+            rescale(at, exponent);
+            exponent = 0;
+        }
+
+        double score = addToSketch(postId, weight * Math.pow(2, exponent));
+        overall.offer(postId, score);
+        byCategory.computeIfAbsent(categoryId, id -> new TopK()).offer(postId, score);
+    }
+
+    private double addToSketch(UUID postId, double amount) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            int column = column(postId, row);
+            sketch[row][column] += amount;
+            estimate = Math.min(estimate, sketch[row][column]);
+        }
+        return estimate;
+    }
+
+    private void rescale(Instant at, double exponent) {
+        double factor = Math.pow(2, -exponent);
+        for (double[] row : sketch) {
+            for (int column = 0; column < SKETCH_WIDTH; column++) {
+                row[column] *= factor;
+            }
+        }
+        overall.scale(factor);
+        byCategory.values().forEach(topK -> topK.scale(factor));
+        landmark = at;
+    }
+
+    private static int column(UUID postId, int row) {
+        long hash = (postId.getMostSignificantBits() ^ Long.rotateLeft(postId.getLeastSignificantBits(), 29)) * SEEDS[row];
+        hash ^= hash >>> 31;
+        return (int) ((hash & Long.MAX_VALUE) % SKETCH_WIDTH);
+    }
+
+    private static final class PendingInteractions {
+        private final UUID postId;
+        private final DoubleAdder weight = new DoubleAdder();
+        // Only read and written by drains, which hold the lock
+        private double drained;
+        private long lastInteractionAt = System.nanoTime();
+
+        private PendingInteractions(UUID postId) {
+            this.postId = postId;
+        }
+
+        private double takeUndrained() {
+            double total = weight.sum();
+            double undrained = total - drained;
+            drained = total;
+            return undrained;
+        }
+    }
+
+    private static final class TopK {
+
+        private final Map<UUID, Double> scores = new HashMap<>();
+        private UUID weakest;
+
+        void offer(UUID postId, double score) {
+            if (scores.containsKey(postId) && !postId.equals(weakest)) {
+                // Scores only grow, so the weakest entry stays the weakest
+                scores.put(postId, score);
+                return;
+            }
+            if (scores.containsKey(postId) || scores.size() < MAX_TRENDING_POSTS) {
+                scores.put(postId, score);
+            } else if (score > scores.get(weakest)) {
+                scores.remove(weakest);
+                scores.put(postId, score);
+            } else {
+                return;
+            }
+            findWeakest();
+        }
+
+        void remove(UUID postId) {
+            if (scores.remove(postId) != null) {
+                findWeakest();
+            }
+        }
+
+        void scale(double factor) {
+            scores.replaceAll((postId, score) -> score * factor);
+        }
+
+        private void findWeakest() {
+            weakest = scores.isEmpty() ? null : Collections.min(scores.entrySet(), Map.Entry.comparingByValue()).getKey();
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.raid.blog.mappers;
 
 import com.raid.blog.domain.CreatePostRequest;
+import com.raid.blog.domain.PatchPostContentRequest;
+import com.raid.blog.domain.PostFacets;
 import com.raid.blog.domain.UpdatePostRequest;
 import com.raid.blog.domain.dtos.CreatePostRequestDto;
+import com.raid.blog.domain.dtos.PatchPostContentRequestDto;
+import com.raid.blog.domain.dtos.PostContentPatchResultDto;
 import com.raid.blog.domain.dtos.PostDto;
+import com.raid.blog.domain.dtos.PostFacetsDto;
 import com.raid.blog.domain.dtos.UpdatePostRequestDto;
 import com.raid.blog.domain.entities.Post;
 import org.mapstruct.Mapper;
@@ -18,6 +23,18 @@ public interface PostMapper {
     @Mapping(target = "tags", source = "tags")
     PostDto toDto(Post post);
 
+    @Mapping(target = "author", source = "post.author")
+    @Mapping(target = "category", source = "post.category")
+    @Mapping(target = "tags", source = "post.tags")
+    @Mapping(target = "content", source = "content")
+    PostDto toDto(Post post, String content);
+
+    PostFacetsDto toDto(PostFacets postFacets);
+
+    PostContentPatchResultDto toPatchResultDto(Post post);
+
+    PatchPostContentRequest toPatchPostContentRequest(PatchPostContentRequestDto patchPostContentRequestDto);
+
     @Mapping(target = "status", source = "status")
     CreatePostRequest toCreatePostRequest(CreatePostRequestDto createPostRequestDto);
 
@@ -0,0 +1,16 @@
+package com.raid.blog.mappers;
+
+import com.raid.blog.domain.PostRevisionContent;
+import com.raid.blog.domain.dtos.PostRevisionDto;
+import com.raid.blog.domain.dtos.PostRevisionSummaryDto;
+import com.raid.blog.repositories.PostRevisionRepository;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface PostRevisionMapper {
+
+    PostRevisionSummaryDto toDto(PostRevisionRepository.RevisionSummary revisionSummary);
+
+    PostRevisionDto toDto(PostRevisionContent postRevisionContent);
+}
@@ -0,0 +1,42 @@
+package com.raid.blog.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.Collection;
+
+@Name("com.raid.blog.DtoMapping")
+@Label("DTO Mapping")
+@Category({"Blog", "Web"})
+@Description("A call to one of the MapStruct mappers")
+@StackTrace(false)
+public class DtoMappingEvent extends Event {
+
+    @Label("Mapper")
+    private String mapper;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Source Type")
+    private String sourceType;
+
+    @Label("Count")
+    @Description("The number of elements of a mapped collection, otherwise 1")
+    private long count;
+
+    public void record(String mapper, String method, Object source) {
+        end();
+        if (shouldCommit()) {
+            this.mapper = mapper;
+            this.method = method;
+            this.sourceType = source == null ? null : source.getClass().getSimpleName();
+            this.count = source instanceof Collection<?> collection ? collection.size() : 1;
+            commit();
+        }
+    }
+}
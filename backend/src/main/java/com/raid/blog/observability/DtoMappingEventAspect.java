@@ -0,0 +1,35 @@
+package com.raid.blog.observability;
+
+import jdk.jfr.EventType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emits a {@link DtoMappingEvent} for every call to a mapper. The mappers are
+ * generated by MapStruct, so they cannot emit it themselves.
+ * <p>
+ * Mappers are called for every element of a list, so while no recording has the
+ * event enabled the call goes straight through, without creating an event.
+ */
+@Aspect
+@Component
+public class DtoMappingEventAspect {
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(DtoMappingEvent.class);
+
+    @Around("execution(* com.raid.blog.mappers.*Mapper.*(..))")
+    public Object recordMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!EVENT_TYPE.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        DtoMappingEvent event = new DtoMappingEvent();
+        event.begin();
+        Object mapped = joinPoint.proceed();
+        Object[] args = joinPoint.getArgs();
+        event.record(joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint.getSignature().getName(),
+                args.length == 0 ? null : args[0]);
+        return mapped;
+    }
+}
@@ -0,0 +1,76 @@
+package com.raid.blog.observability;
+
+import com.raid.blog.domain.PostFilter;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.StringJoiner;
+
+/**
+ * A query for a list of posts: the published feed, facets, related, trending or
+ * drafts. Begin it before the query and {@link #record} it once the posts are in.
+ */
+@Name("com.raid.blog.FeedQuery")
+@Label("Feed Query")
+@Category({"Blog", "Posts"})
+@Description("Loading a list of posts")
+@StackTrace(false)
+public class FeedQueryEvent extends Event {
+
+    public static final String ALL = "all";
+    public static final String FACETS = "facets";
+    public static final String RELATED = "related";
+    public static final String TRENDING = "trending";
+    public static final String DRAFTS = "drafts";
+
+    @Label("Feed")
+    private String feed;
+
+    @Label("Filter Type")
+    @Description("The criteria the posts were filtered by, or none")
+    private String filterType;
+
+    @Label("Post Count")
+    private long postCount;
+
+    public void record(String feed, PostFilter filter, long postCount) {
+        end();
+        if (shouldCommit()) {
+            this.feed = feed;
+            this.filterType = filterType(filter);
+            this.postCount = postCount;
+            commit();
+        }
+    }
+
+    public void record(String feed, String filterType, long postCount) {
+        end();
+        if (shouldCommit()) {
+            this.feed = feed;
+            this.filterType = filterType;
+            this.postCount = postCount;
+            commit();
+        }
+    }
+
+    private static String filterType(PostFilter filter) {
+        StringJoiner criteria = new StringJoiner(",");
+        if (!filter.getCategoryIds().isEmpty()) {
+            criteria.add("category");
+        }
+        if (!filter.getTagIds().isEmpty()) {
+            criteria.add("tag-" + filter.getTagMatch().name().toLowerCase());
+        }
+        if (filter.getAuthorId() != null) {
+            criteria.add("author");
+        }
+        if (filter.getCreatedFrom() != null || filter.getCreatedTo() != null) {
+            criteria.add("created");
+        }
+        return criteria.length() == 0 ? "none" : criteria.toString();
+    }
+}
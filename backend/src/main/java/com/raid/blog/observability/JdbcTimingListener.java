@@ -0,0 +1,56 @@
+package com.raid.blog.observability;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the statements a Hibernate session runs, and the time spent preparing and
+ * executing them, to the timing of the request being served on the thread.
+ * Hibernate creates one per session. Statements run through JdbcTemplate do not
+ * go through a session and are not seen.
+ */
+public class JdbcTimingListener implements SessionEventListener {
+
+    private long prepareStart;
+    private long executeStart;
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        prepareStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.addDatabaseTime(System.nanoTime() - prepareStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executed();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        executed();
+    }
+
+    private void executed() {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.addStatement();
+            timing.addDatabaseTime(System.nanoTime() - executeStart);
+        }
+    }
+}
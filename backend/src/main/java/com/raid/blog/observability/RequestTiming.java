@@ -0,0 +1,83 @@
+package com.raid.blog.observability;
+
+import java.util.Locale;
+
+/**
+ * Where the time of a sampled request went: SQL statements run by Hibernate and
+ * the time spent preparing and executing them, token validation and response
+ * serialization. Bound to the request thread by {@link RequestTimingFilter};
+ * {@link #current()} is null on threads serving a request that was not sampled,
+ * so the code that records into it costs nothing then.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private int statements;
+    private long databaseNanos;
+    private long authenticationNanos;
+    private long serializationNanos;
+
+    private RequestTiming() {
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public void addStatement() {
+        statements++;
+    }
+
+    public void addDatabaseTime(long nanos) {
+        databaseNanos += nanos;
+    }
+
+    public void addAuthenticationTime(long nanos) {
+        authenticationNanos += nanos;
+    }
+
+    public void addSerializationTime(long nanos) {
+        serializationNanos += nanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * The value of a {@code Server-Timing} header, with the time elapsed so far as
+     * the total, since the header goes out before the body is written.
+     */
+    String serverTiming() {
+        return String.format(Locale.ROOT, "db;dur=%.2f;desc=\"%d statements\", auth;dur=%.2f, ser;dur=%.2f, app;dur=%.2f",
+                millis(databaseNanos), statements, millis(authenticationNanos), millis(serializationNanos), millis(elapsedNanos()));
+    }
+
+    /**
+     * The fields of an access log line, as {@code key=value} pairs.
+     */
+    String logFields() {
+        return String.format(Locale.ROOT, "duration_ms=%.2f db_statements=%d db_ms=%.2f auth_ms=%.2f serialization_ms=%.2f",
+                millis(elapsedNanos()), statements, millis(databaseNanos), millis(authenticationNanos), millis(serializationNanos));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
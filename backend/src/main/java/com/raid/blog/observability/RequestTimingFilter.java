@@ -0,0 +1,117 @@
+package com.raid.blog.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Times a sample of requests, answering them with a {@code Server-Timing} header
+ * and writing a {@code key=value} line to the {@code access} log. Runs ahead of
+ * the security filters so token validation is included. Requests that are not
+ * sampled only cost a random number.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j(topic = "access")
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    @Value("${blog.observability.request-timing.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${blog.observability.request-timing.sample-rate:0.01}")
+    private double sampleRate = 0.01;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!enabled || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestTiming timing = RequestTiming.begin();
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response, timing);
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            // Responses without a body, such as 204s, have not been committed yet
+            timedResponse.writeServerTiming();
+            RequestTiming.end();
+            log.info("method={} path={} status={} {}",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(), timing.logFields());
+        }
+    }
+
+    /**
+     * Adds the header just before the response is committed, which is the last
+     * moment it can be.
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTiming timing;
+        private boolean written;
+
+        ServerTimingResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        void writeServerTiming() {
+            if (!written && !isCommitted()) {
+                setHeader(SERVER_TIMING, timing.serverTiming());
+            }
+            written = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
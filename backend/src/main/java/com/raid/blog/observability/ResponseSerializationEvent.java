@@ -0,0 +1,33 @@
+package com.raid.blog.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.raid.blog.ResponseSerialization")
+@Label("Response Serialization")
+@Category({"Blog", "Web"})
+@Description("Writing a response body as JSON")
+@StackTrace(false)
+public class ResponseSerializationEvent extends Event {
+
+    @Label("Body Type")
+    private String bodyType;
+
+    @Label("Size")
+    @DataAmount
+    private long size;
+
+    public void record(String bodyType, long size) {
+        end();
+        if (shouldCommit()) {
+            this.bodyType = bodyType;
+            this.size = size;
+            commit();
+        }
+    }
+}
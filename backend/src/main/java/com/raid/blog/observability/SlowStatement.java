@@ -0,0 +1,32 @@
+package com.raid.blog.observability;
+
+import java.time.Instant;
+import java.util.Comparator;
+
+public record SlowStatement(
+        String id,
+        String fingerprint,
+        long count,
+        long totalMillis,
+        long maxMillis,
+        double meanMillis,
+        Instant lastSeen,
+        boolean explainable
+) {
+
+    public enum Order {
+        TOTAL(Comparator.comparingLong(SlowStatement::totalMillis)),
+        COUNT(Comparator.comparingLong(SlowStatement::count)),
+        MAX(Comparator.comparingLong(SlowStatement::maxMillis));
+
+        private final Comparator<SlowStatement> comparator;
+
+        Order(Comparator<SlowStatement> comparator) {
+            this.comparator = comparator;
+        }
+
+        public Comparator<SlowStatement> comparator() {
+            return comparator;
+        }
+    }
+}
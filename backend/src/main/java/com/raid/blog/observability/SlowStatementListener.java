@@ -0,0 +1,41 @@
+package com.raid.blog.observability;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Hands statements that took at least the threshold to the {@link SlowStatementLog}.
+ * It sits in front of the connection pool, so it sees statements from JdbcTemplate
+ * as well as from Hibernate. A batch is one execution of each statement in it.
+ */
+public class SlowStatementListener implements QueryExecutionListener {
+
+    private final Supplier<SlowStatementLog> slowStatementLog;
+
+    public SlowStatementListener(Supplier<SlowStatementLog> slowStatementLog) {
+        this.slowStatementLog = slowStatementLog;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SlowStatementLog log = slowStatementLog.get();
+        if (log == null || execInfo.getElapsedTime() < log.thresholdMillis()) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parameters = queryInfo.getParametersList();
+            // Only a single execution's parameters say which values made it slow
+            List<ParameterSetOperation> executed = execInfo.isBatch() ? null : parameters.isEmpty() ? List.of() : parameters.get(0);
+            log.record(queryInfo.getQuery(), execInfo.getElapsedTime(), executed);
+        }
+    }
+}
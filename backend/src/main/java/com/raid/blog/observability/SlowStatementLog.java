@@ -0,0 +1,195 @@
+package com.raid.blog.observability;
+
+import com.raid.blog.domain.Hashing;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Tallies statements that took longer than the threshold by their
+ * {@link SqlFingerprint}: how often they were slow, their total and maximum time.
+ * The table keeps the fingerprints with the most total time; a new one replaces
+ * the entry with the least once it is full.
+ * <p>
+ * For the slowest execution of a query its SQL and parameters are kept, so its
+ * plan can be asked for later with {@link #explain(String)}. Parameters are only
+ * kept for SELECTs whose values are small and that do not read the users table,
+ * and are never returned; the plan itself may show them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SlowStatementLog {
+
+    private static final int MAX_EXPLAIN_VALUE_LENGTH = 1024;
+    private static final Pattern USERS_TABLE = Pattern.compile("\\busers\\b");
+
+    private final DataSource dataSource;
+
+    @Value("${blog.observability.slow-statements.threshold:PT0.2S}")
+    private Duration threshold = Duration.ofMillis(200);
+
+    @Value("${blog.observability.slow-statements.max-fingerprints:500}")
+    private int maxFingerprints = 500;
+
+    private final Map<String, Entry> entriesById = new HashMap<>();
+
+    public long thresholdMillis() {
+        return threshold.toMillis();
+    }
+
+    /**
+     * Records an execution that took at least the threshold; callers check that
+     * first, so this only runs for slow statements.
+     */
+    public void record(String sql, long elapsedMillis, List<ParameterSetOperation> parameters) {
+        String fingerprint = SqlFingerprint.of(sql);
+        if (fingerprint.startsWith("explain ")) {
+            return;
+        }
+        log.warn("Slow statement took {} ms: {}", elapsedMillis, fingerprint);
+
+        String id = idOf(fingerprint);
+        List<ParameterSetOperation> explainParameters = explainable(fingerprint, parameters) ? List.copyOf(parameters) : null;
+        synchronized (entriesById) {
+            Entry entry = entriesById.get(id);
+            if (entry == null) {
+                if (entriesById.size() >= maxFingerprints) {
+                    evictLeastTotalTime();
+                }
+                entry = new Entry(id, fingerprint);
+                entriesById.put(id, entry);
+            }
+            entry.count++;
+            entry.totalMillis += elapsedMillis;
+            entry.lastSeen = Instant.now();
+            if (elapsedMillis >= entry.maxMillis) {
+                entry.maxMillis = elapsedMillis;
+                if (explainParameters != null) {
+                    entry.slowestSql = sql;
+                    entry.slowestParameters = explainParameters;
+                }
+            }
+        }
+    }
+
+    public List<SlowStatement> top(SlowStatement.Order order, int limit) {
+        List<SlowStatement> statements;
+        synchronized (entriesById) {
+            statements = new ArrayList<>(entriesById.size());
+            for (Entry entry : entriesById.values()) {
+                statements.add(new SlowStatement(entry.id, entry.fingerprint, entry.count, entry.totalMillis,
+                        entry.maxMillis, (double) entry.totalMillis / entry.count, entry.lastSeen, entry.slowestSql != null));
+            }
+        }
+        return statements.stream()
+                .sorted(order.comparator().reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Runs EXPLAIN for the slowest recorded execution of a statement, with the
+     * parameters it was executed with, on a read-only connection.
+     */
+    public List<String> explain(String id) throws SQLException {
+        String sql;
+        List<ParameterSetOperation> parameters;
+        synchronized (entriesById) {
+            Entry entry = entriesById.get(id);
+            if (entry == null) {
+                throw new EntityNotFoundException("No slow statement with id " + id);
+            }
+            sql = entry.slowestSql;
+            parameters = entry.slowestParameters;
+        }
+        if (sql == null) {
+            throw new IllegalStateException("Only SELECTs with small parameter values that do not read users can be explained");
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (ParameterSetOperation parameter : parameters) {
+                    parameter.getMethod().invoke(statement, parameter.getArgs());
+                }
+                List<String> plan = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+                return plan;
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new SQLException("Could not bind the parameters of " + id, e);
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entriesById) {
+            entriesById.clear();
+        }
+    }
+
+    private void evictLeastTotalTime() {
+        entriesById.values().stream()
+                .min(Comparator.comparingLong(entry -> entry.totalMillis))
+                .ifPresent(entry -> entriesById.remove(entry.id));
+    }
+
+    private static boolean explainable(String fingerprint, List<ParameterSetOperation> parameters) {
+        if (parameters == null || !(fingerprint.startsWith("select ") || fingerprint.startsWith("with "))
+                || USERS_TABLE.matcher(fingerprint).find()) {
+            return false;
+        }
+        for (ParameterSetOperation parameter : parameters) {
+            for (Object value : parameter.getArgs()) {
+                if (value instanceof InputStream || value instanceof Reader || value instanceof Blob || value instanceof Clob
+                        || value instanceof CharSequence text && text.length() > MAX_EXPLAIN_VALUE_LENGTH
+                        || value instanceof byte[] bytes && bytes.length > MAX_EXPLAIN_VALUE_LENGTH) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static String idOf(String fingerprint) {
+        return HexFormat.of().toHexDigits(Hashing.hash64(fingerprint));
+    }
+
+    private static final class Entry {
+        private final String id;
+        private final String fingerprint;
+        private long count;
+        private long totalMillis;
+        private long maxMillis;
+        private Instant lastSeen;
+        private String slowestSql;
+        private List<ParameterSetOperation> slowestParameters;
+
+        private Entry(String id, String fingerprint) {
+            this.id = id;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
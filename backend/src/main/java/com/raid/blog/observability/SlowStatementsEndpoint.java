@@ -0,0 +1,50 @@
+package com.raid.blog.observability;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * {@code /actuator/slowstatements} lists the slowest statements, by total time
+ * unless {@code order} says otherwise; {@code /actuator/slowstatements/{id}}
+ * explains one and a DELETE starts the tally over.
+ */
+@Component
+@Endpoint(id = "slowstatements")
+@RequiredArgsConstructor
+public class SlowStatementsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SlowStatementLog slowStatementLog;
+
+    @ReadOperation
+    public List<SlowStatement> slowStatements(@Nullable SlowStatement.Order order, @Nullable Integer limit) {
+        return slowStatementLog.top(order == null ? SlowStatement.Order.TOTAL : order, limit == null ? DEFAULT_LIMIT : limit);
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Object> explain(@Selector String id) throws SQLException {
+        try {
+            return new WebEndpointResponse<>(slowStatementLog.explain(id));
+        } catch (EntityNotFoundException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(e.getMessage(), 409);
+        }
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowStatementLog.clear();
+    }
+}
@@ -0,0 +1,113 @@
+package com.raid.blog.observability;
+
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes SQL so that executions of the same statement share one fingerprint
+ * whatever their literals: string and numeric literals and {@code $n} parameters
+ * become {@code ?}, lists of placeholders such as IN lists and multi-row VALUES
+ * collapse to one, comments are dropped, whitespace is collapsed and everything
+ * outside quoted identifiers is lower-cased.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(?: ?, ?\\?)+");
+    private static final Pattern ROW_LIST = Pattern.compile("\\(\\?\\)(?: ?, ?\\(\\?\\))+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        StringBuilder fingerprint = new StringBuilder(sql.length());
+        boolean pendingSpace = false;
+        int i = 0;
+        int length = sql.length();
+        while (i < length) {
+            char c = sql.charAt(i);
+            char next = i + 1 < length ? sql.charAt(i + 1) : 0;
+
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+            if (c == '-' && next == '-') {
+                i = skipPast(sql, i + 2, "\n");
+                pendingSpace = true;
+                continue;
+            }
+            if (c == '/' && next == '*') {
+                i = skipPast(sql, i + 2, "*/");
+                pendingSpace = true;
+                continue;
+            }
+
+            if (pendingSpace && !fingerprint.isEmpty()) {
+                fingerprint.append(' ');
+            }
+            pendingSpace = false;
+
+            if (c == '\'') {
+                i = skipString(sql, i + 1);
+                fingerprint.append('?');
+            } else if (c == '"') {
+                int end = skipPast(sql, i + 1, "\"");
+                fingerprint.append(sql, i, end);
+                i = end;
+            } else if (c == '$' && Character.isDigit(next)) {
+                i = skipNumber(sql, i + 1);
+                fingerprint.append('?');
+            } else if (Character.isDigit(c) && !continuesIdentifier(fingerprint)) {
+                i = skipNumber(sql, i);
+                fingerprint.append('?');
+            } else {
+                fingerprint.append(Character.toLowerCase(c));
+                i++;
+            }
+        }
+
+        String collapsed = PLACEHOLDER_LIST.matcher(fingerprint).replaceAll("?");
+        return ROW_LIST.matcher(collapsed).replaceAll("(?)");
+    }
+
+    /**
+     * Skips a string literal whose opening quote is before {@code from}, where a
+     * doubled quote is an escaped one.
+     */
+    private static int skipString(String sql, int from) {
+        int i = from;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipPast(String sql, int from, String terminator) {
+        int end = sql.indexOf(terminator, from);
+        return end < 0 ? sql.length() : end + terminator.length();
+    }
+
+    private static int skipNumber(String sql, int from) {
+        int i = from;
+        while (i < sql.length() && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+            i++;
+        }
+        return i;
+    }
+
+    // Digits right after a letter or underscore are part of an alias like p1_0, not a literal
+    private static boolean continuesIdentifier(StringBuilder fingerprint) {
+        if (fingerprint.isEmpty()) {
+            return false;
+        }
+        char last = fingerprint.charAt(fingerprint.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_';
+    }
+}
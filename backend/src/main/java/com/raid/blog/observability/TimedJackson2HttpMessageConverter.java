@@ -0,0 +1,93 @@
+package com.raid.blog.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Writes JSON like the default converter, but for sampled requests serializes
+ * into a buffer first. The serialization time is then known before the response
+ * is committed and can go into its {@code Server-Timing} header, and it does not
+ * include the time the client takes to read the body.
+ * <p>
+ * While a flight recording is running, every body is also reported as a
+ * {@link ResponseSerializationEvent} with its size.
+ */
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTiming timing = RequestTiming.current();
+        ResponseSerializationEvent event = new ResponseSerializationEvent();
+        if (timing == null && !event.isEnabled()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        String bodyType = (type != null ? type : object.getClass()).getTypeName();
+        if (timing == null) {
+            // Only the size is needed, so the body is counted on its way out rather than buffered
+            CountingOutputStream body = new CountingOutputStream(outputMessage.getBody());
+            event.begin();
+            super.writeInternal(object, type, withBody(outputMessage, body));
+            event.record(bodyType, body.count);
+            return;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        event.begin();
+        long start = System.nanoTime();
+        super.writeInternal(object, type, withBody(outputMessage, buffer));
+        timing.addSerializationTime(System.nanoTime() - start);
+        event.record(bodyType, buffer.size());
+        buffer.writeTo(outputMessage.getBody());
+    }
+
+    private static HttpOutputMessage withBody(HttpOutputMessage outputMessage, OutputStream body) {
+        return new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        };
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
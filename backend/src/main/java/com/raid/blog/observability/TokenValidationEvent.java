@@ -0,0 +1,27 @@
+package com.raid.blog.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.raid.blog.TokenValidation")
+@Label("Token Validation")
+@Category({"Blog", "Security"})
+@Description("Verifying a bearer token and loading its user")
+@StackTrace(false)
+public class TokenValidationEvent extends Event {
+
+    @Label("Valid")
+    private boolean valid;
+
+    public void record(boolean valid) {
+        end();
+        if (shouldCommit()) {
+            this.valid = valid;
+            commit();
+        }
+    }
+}
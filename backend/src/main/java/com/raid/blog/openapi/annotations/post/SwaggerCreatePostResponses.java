@@ -25,6 +25,8 @@ import java.lang.annotation.Target;
                                           "id" : "a37927f0-305e-4923-ac6c-4999b8eef71c",
                                           "title" : "Title 1",
                                           "content" : "This is some testing content text",
+                                          "excerpt" : "This is some testing content text",
+                                          "wordCount" : 6,
                                           "author" : {
                                             "id" : "bc191238-263a-443c-8052-06a7ef45022a",
                                             "name" : "Raid"
@@ -42,7 +44,8 @@ import java.lang.annotation.Target;
                                           "readingTime" : 1,
                                           "createdAt" : "2025-08-05T20:04:19.771401",
                                           "updatedAt" : "2025-08-05T20:04:19.771424",
-                                          "status" : "PUBLISHED"
+                                          "status" : "PUBLISHED",
+                                          "viewCount" : 0
                                         }
                                         """
                         )
@@ -80,6 +83,14 @@ import java.lang.annotation.Target;
                         examples = @ExampleObject(
                                 value = "{\"status\":404,\"message\":\"User not found\",\"errors\":null}"
                         )
+                )),
+        @ApiResponse(responseCode = "409", description = "Content is a near duplicate of an existing post",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = @ExampleObject(
+                                value = "{\"status\":409,\"message\":\"Post content is a near duplicate of an existing post\",\"errors\":null}"
+                        )
                 ))})
 public @interface SwaggerCreatePostResponses {
 }
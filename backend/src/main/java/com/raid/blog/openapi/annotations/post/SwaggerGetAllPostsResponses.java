@@ -17,7 +17,7 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Found posts with specified category and tag",
+        @ApiResponse(responseCode = "200", description = "Found published posts matching all specified filters. Unknown category, tag or author ids match no posts",
                 content = {@Content(mediaType = "application/json",
                         array = @ArraySchema(schema = @Schema(implementation = PostDto.class)),
                 examples = @ExampleObject(
@@ -26,6 +26,8 @@ import java.lang.annotation.Target;
                                   "id" : "cee0ef62-1ba1-46a8-8093-b0d3aa4b48ff",
                                   "title" : "Title 1",
                                   "content" : "This is some testing content text",
+                                  "excerpt" : "This is some testing content text",
+                                  "wordCount" : 6,
                                   "author" : {
                                     "id" : "b89db9a8-27ac-4556-a220-cc9bb612462b",
                                     "name" : "Raid"
@@ -43,11 +45,14 @@ import java.lang.annotation.Target;
                                   "readingTime" : 1,
                                   "createdAt" : "2025-08-05T19:49:06.153099",
                                   "updatedAt" : "2025-08-05T19:49:06.153122",
-                                  "status" : "PUBLISHED"
+                                  "status" : "PUBLISHED",
+                                  "viewCount" : 0
                                 }, {
                                   "id" : "f4e36843-8367-43fe-8745-09e39a88bae2",
                                   "title" : "Title 2",
                                   "content" : "This is some testing content text",
+                                  "excerpt" : "This is some testing content text",
+                                  "wordCount" : 6,
                                   "author" : {
                                     "id" : "b89db9a8-27ac-4556-a220-cc9bb612462b",
                                     "name" : "Raid"
@@ -65,7 +70,8 @@ import java.lang.annotation.Target;
                                   "readingTime" : 1,
                                   "createdAt" : "2025-08-05T19:49:06.190593",
                                   "updatedAt" : "2025-08-05T19:49:06.190611",
-                                  "status" : "PUBLISHED"
+                                  "status" : "PUBLISHED",
+                                  "viewCount" : 0
                                 } ]
                                 """
                 ))}),
@@ -80,7 +86,7 @@ import java.lang.annotation.Target;
                                         value = """
                                                 {
                                                   "status" : 400,
-                                                  "message" : "Invalid value provided for parameter 'categoryId'. Expected type: 'UUID'.",
+                                                  "message" : "Invalid value provided for parameter 'categoryId'. Expected type: 'Set'.",
                                                   "errors" : null
                                                 }
                                                 """
@@ -91,27 +97,21 @@ import java.lang.annotation.Target;
                                         value = """
                                                 {
                                                   "status" : 400,
-                                                  "message" : "Invalid value provided for parameter 'tagId'. Expected type: 'UUID'.",
+                                                  "message" : "Invalid value provided for parameter 'tagId'. Expected type: 'Set'.",
                                                   "errors" : null
                                                 }
                                                 """
-                                )
-                        }
-                )),
-        @ApiResponse(responseCode = "404", description = "Category or tag not found",
-                content = @Content(
-                        mediaType = "application/json",
-                        schema = @Schema(implementation = ApiErrorResponse.class),
-                        examples = {
-                                @ExampleObject(
-                                        name = "CategoryNotFound",
-                                        summary = "When no category exists with the specified categoryId",
-                                        value = "{\"status\":404,\"message\":\"Category not found\",\"errors\":null}"
                                 ),
                                 @ExampleObject(
-                                        name = "TagNotFound",
-                                        summary = "When no tag exists with the specified tagId",
-                                        value = "{\"status\":404,\"message\":\"Tag not found\",\"errors\":null}"
+                                        name = "DateRangeInvalid",
+                                        summary = "When createdFrom is after createdTo",
+                                        value = """
+                                                {
+                                                  "status" : 400,
+                                                  "message" : "createdFrom must not be after createdTo",
+                                                  "errors" : null
+                                                }
+                                                """
                                 )
                         }
                 )),
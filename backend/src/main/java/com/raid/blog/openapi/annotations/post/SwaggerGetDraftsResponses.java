@@ -29,6 +29,8 @@ import java.lang.annotation.Target;
                                   "id" : "cee0ef62-1ba1-46a8-8093-b0d3aa4b48ff",
                                   "title" : "Title 1",
                                   "content" : "This is some testing content text",
+                                  "excerpt" : "This is some testing content text",
+                                  "wordCount" : 6,
                                   "author" : {
                                     "id" : "b89db9a8-27ac-4556-a220-cc9bb612462b",
                                     "name" : "Raid"
@@ -46,7 +48,8 @@ import java.lang.annotation.Target;
                                   "readingTime" : 1,
                                   "createdAt" : "2025-08-05T19:49:06.153099",
                                   "updatedAt" : "2025-08-05T19:49:06.153122",
-                                  "status" : "DRAFT"
+                                  "status" : "DRAFT",
+                                  "viewCount" : 0
                                   },
                                 ]
                                 """
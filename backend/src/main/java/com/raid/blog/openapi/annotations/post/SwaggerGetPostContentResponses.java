@@ -0,0 +1,44 @@
+package com.raid.blog.openapi.annotations.post;
+
+import com.raid.blog.domain.dtos.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Content of the post, including autosaved draft changes not yet written",
+                content = @Content(
+                        mediaType = "text/plain",
+                        schema = @Schema(type = "string"),
+                        examples = @ExampleObject(
+                                value = "Spring Boot is an open-source framework that makes it easy to create stand-alone applications."
+                        )
+                )),
+        @ApiResponse(responseCode = "400", description = "Invalid id",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = @ExampleObject(
+                                value = "{\"status\":400,\"message\":\"Invalid value provided for parameter 'id'. Expected type: 'UUID'.\",\"errors\":null}"
+                        )
+                )),
+        @ApiResponse(responseCode = "404", description = "Post with the specified id does not exist",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = @ExampleObject(
+                                value = "{\"status\":404,\"message\":\"Post does not exist\",\"errors\":null}"
+                        )
+                )),
+})
+public @interface SwaggerGetPostContentResponses {
+}
@@ -0,0 +1,58 @@
+package com.raid.blog.openapi.annotations.post;
+
+import com.raid.blog.domain.dtos.ApiErrorResponse;
+import com.raid.blog.domain.dtos.PostFacetsDto;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Counts of published posts matching the selection, per category and per tag",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = PostFacetsDto.class),
+                        examples = @ExampleObject(
+                                value = """
+                                        {
+                                          "total" : 2,
+                                          "categories" : {
+                                            "db28c9c6-0263-4143-8d70-d263e0f13352" : 1,
+                                            "d2315d61-151a-4758-ac2e-24901c7650bd" : 1
+                                          },
+                                          "tags" : {
+                                            "4d72f6ba-c473-4858-9387-13ec157390a8" : 1,
+                                            "2d884d78-b755-4d80-ae6e-6be0def828e0" : 1
+                                          }
+                                        }
+                                        """
+                        )
+                )),
+        @ApiResponse(responseCode = "400", description = "Invalid request param",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = {
+                                @ExampleObject(
+                                        name = "TagMatchInvalid",
+                                        summary = "When the tagMatch param is not ANY or ALL",
+                                        value = "{\"status\":400,\"message\":\"Invalid value provided for parameter 'tagMatch'. Expected type: 'TagMatch'.\",\"errors\":null}"
+                                ),
+                                @ExampleObject(
+                                        name = "DateRangeInvalid",
+                                        summary = "When createdFrom is after createdTo",
+                                        value = "{\"status\":400,\"message\":\"createdFrom must not be after createdTo\",\"errors\":null}"
+                                )
+                        }
+                )),
+})
+public @interface SwaggerGetPostFacetsResponses {
+}
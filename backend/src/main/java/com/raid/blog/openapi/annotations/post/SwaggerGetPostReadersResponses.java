@@ -0,0 +1,50 @@
+package com.raid.blog.openapi.annotations.post;
+
+import com.raid.blog.domain.dtos.ApiErrorResponse;
+import com.raid.blog.domain.dtos.PostReadersDto;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Estimated number of unique readers of the post, within about 2%",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = PostReadersDto.class),
+                        examples = @ExampleObject(
+                                value = """
+                                        {
+                                          "postId" : "7f8188c8-b123-4cb8-a7ff-262187307129",
+                                          "uniqueReaders" : 1342
+                                        }
+                                        """
+                        )
+                )),
+        @ApiResponse(responseCode = "400", description = "Invalid id",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = @ExampleObject(
+                                value = "{\"status\":400,\"message\":\"Invalid value provided for parameter 'id'. Expected type: 'UUID'.\",\"errors\":null}"
+                        )
+                )),
+        @ApiResponse(responseCode = "404", description = "Post with the specified id does not exist",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = @ExampleObject(
+                                value = "{\"status\":404,\"message\":\"Post does not exist\",\"errors\":null}"
+                        )
+                )),
+})
+public @interface SwaggerGetPostReadersResponses {
+}
@@ -26,6 +26,8 @@ import java.lang.annotation.Target;
                                           "id" : "7f8188c8-b123-4cb8-a7ff-262187307129",
                                           "title" : "Title 1",
                                           "content" : "This is some testing content text",
+                                          "excerpt" : "This is some testing content text",
+                                          "wordCount" : 6,
                                           "author" : {
                                             "id" : "e2312b47-5902-4b70-8497-d637bd291ee6",
                                             "name" : "Raid"
@@ -43,7 +45,8 @@ import java.lang.annotation.Target;
                                           "readingTime" : 1,
                                           "createdAt" : "2025-08-07T15:07:37.833726",
                                           "updatedAt" : "2025-08-07T15:07:37.833769",
-                                          "status" : "PUBLISHED"
+                                          "status" : "PUBLISHED",
+                                          "viewCount" : 0
                                         }
                                         """
                         )
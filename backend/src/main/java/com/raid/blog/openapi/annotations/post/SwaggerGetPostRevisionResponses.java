@@ -0,0 +1,54 @@
+package com.raid.blog.openapi.annotations.post;
+
+import com.raid.blog.domain.dtos.ApiErrorResponse;
+import com.raid.blog.domain.dtos.PostRevisionDto;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Title and content of the post as of the revision",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = PostRevisionDto.class),
+                        examples = @ExampleObject(
+                                value = """
+                                        {
+                                          "postId" : "7f8188c8-b123-4cb8-a7ff-262187307129",
+                                          "revision" : 1,
+                                          "title" : "Title 1",
+                                          "content" : "This is some testing content text",
+                                          "status" : "DRAFT",
+                                          "createdAt" : "2025-08-05T19:49:06.153099"
+                                        }
+                                        """
+                        )
+                )),
+        @ApiResponse(responseCode = "400", description = "Invalid id or revision",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = @ExampleObject(
+                                value = "{\"status\":400,\"message\":\"Invalid value provided for parameter 'id'. Expected type: 'UUID'.\",\"errors\":null}"
+                        )
+                )),
+        @ApiResponse(responseCode = "404", description = "Post or revision does not exist",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = @ExampleObject(
+                                value = "{\"status\":404,\"message\":\"Revision does not exist\",\"errors\":null}"
+                        )
+                )),
+})
+public @interface SwaggerGetPostRevisionResponses {
+}
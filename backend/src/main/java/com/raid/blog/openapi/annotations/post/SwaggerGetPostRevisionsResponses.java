@@ -0,0 +1,62 @@
+package com.raid.blog.openapi.annotations.post;
+
+import com.raid.blog.domain.dtos.ApiErrorResponse;
+import com.raid.blog.domain.dtos.PostRevisionSummaryDto;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Saved revisions of the post, newest first",
+                content = @Content(
+                        mediaType = "application/json",
+                        array = @ArraySchema(
+                                schema = @Schema(implementation = PostRevisionSummaryDto.class)
+                        ),
+                        examples = @ExampleObject(
+                                value = """
+                                        [ {
+                                          "revision" : 2,
+                                          "title" : "Title 1",
+                                          "status" : "PUBLISHED",
+                                          "contentLength" : 1840,
+                                          "createdAt" : "2025-08-05T19:52:41.402317"
+                                        }, {
+                                          "revision" : 1,
+                                          "title" : "Title 1",
+                                          "status" : "DRAFT",
+                                          "contentLength" : 1795,
+                                          "createdAt" : "2025-08-05T19:49:06.153099"
+                                        } ]
+                                        """
+                        )
+                )),
+        @ApiResponse(responseCode = "400", description = "Invalid id",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = @ExampleObject(
+                                value = "{\"status\":400,\"message\":\"Invalid value provided for parameter 'id'. Expected type: 'UUID'.\",\"errors\":null}"
+                        )
+                )),
+        @ApiResponse(responseCode = "404", description = "Post with the specified id does not exist",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = @ExampleObject(
+                                value = "{\"status\":404,\"message\":\"Post does not exist\",\"errors\":null}"
+                        )
+                )),
+})
+public @interface SwaggerGetPostRevisionsResponses {
+}
@@ -0,0 +1,61 @@
+package com.raid.blog.openapi.annotations.post;
+
+import com.raid.blog.domain.dtos.ApiErrorResponse;
+import com.raid.blog.domain.dtos.PostContentPatchResultDto;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Applied the operations; the new version is the base for the next patch",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = PostContentPatchResultDto.class),
+                        examples = @ExampleObject(
+                                value = """
+                                        {
+                                          "id" : "7f8188c8-b123-4cb8-a7ff-262187307129",
+                                          "version" : 8,
+                                          "readingTime" : 3,
+                                          "wordCount" : 512,
+                                          "updatedAt" : "2025-08-07T15:07:37.833769"
+                                        }
+                                        """
+                        )
+                )),
+        @ApiResponse(responseCode = "400", description = "Invalid operations, or patched content of invalid length",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = @ExampleObject(
+                                value = "{\"status\":400,\"message\":\"Operations must be ordered, non-overlapping and within the base content\",\"errors\":null}"
+                        )
+                )),
+        @ApiResponse(responseCode = "404", description = "Post with specified id not found",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = @ExampleObject(
+                                value = "{\"status\":404,\"message\":\"Post does not exist\",\"errors\":null}"
+                        )
+                )),
+        @ApiResponse(responseCode = "409", description = "Base version is stale; reload the post and retry",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = @ExampleObject(
+                                value = "{\"status\":409,\"message\":\"Post was modified since version 7\",\"errors\":null}"
+                        )
+                )),
+})
+public @interface SwaggerPatchPostContentResponses {
+}
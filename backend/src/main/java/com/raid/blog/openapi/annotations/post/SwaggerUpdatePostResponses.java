@@ -26,6 +26,8 @@ import java.lang.annotation.Target;
                                             "id":"1aa559f4-e620-42ff-b463-e553c8bea670",
                                             "title":"New Title 1",
                                             "content":"New content for post 1",
+                                            "excerpt":"New content for post 1",
+                                            "wordCount":5,
                                             "author":{
                                                 "id":"408f0d0c-74c8-4c40-975d-155737ad8242",
                                                 "name":"Raid"
@@ -80,6 +82,14 @@ import java.lang.annotation.Target;
                         examples = @ExampleObject(
                                 value = "{\"status\":404,\"message\":\"Post does not exist\",\"errors\":null}"
                         )
+                )),
+        @ApiResponse(responseCode = "409", description = "Content is a near duplicate of an existing post",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ApiErrorResponse.class),
+                        examples = @ExampleObject(
+                                value = "{\"status\":409,\"message\":\"Post content is a near duplicate of an existing post\",\"errors\":null}"
+                        )
                 ))})
 public @interface SwaggerUpdatePostResponses {
 }
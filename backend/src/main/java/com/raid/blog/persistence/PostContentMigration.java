@@ -0,0 +1,127 @@
+package com.raid.blog.persistence;
+
+import com.raid.blog.domain.ContentAnalysis;
+import com.raid.blog.domain.PostContent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves post content written before content_data existed out of the legacy TEXT
+ * column and fills in the word count and excerpt of posts saved before they were
+ * stored. Only those rows are selected, so once they are migrated a startup reads
+ * no content at all. After the compression settings change, {@link #reencode()}
+ * walks every row and re-encodes what is not stored as configured; it reads all
+ * content and so only runs at startup when asked to.
+ * <p>
+ * Rows are walked in id order in small batches, and each row is only rewritten if
+ * its version is unchanged, so posts saved meanwhile keep what they were saved with.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostContentMigration {
+
+    private static final String SELECT_UNMIGRATED_BATCH = """
+            select id, version, content, content_data, word_count from posts
+            where id > ? and (content is not null or word_count is null) order by id limit ?
+            """;
+    private static final String SELECT_BATCH = """
+            select id, version, content, content_data, word_count from posts
+            where id > ? order by id limit ?
+            """;
+    private static final String REWRITE_CONTENT =
+            "update posts set content_data = ?, content = null, word_count = ?, excerpt = ? where id = ? and coalesce(version, 0) = ?";
+    private static final String WRITE_ANALYSIS =
+            "update posts set word_count = ?, excerpt = ? where id = ? and coalesce(version, 0) = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostContentConverter postContentConverter;
+
+    @Value("${blog.posts.content-compression.migrate-on-startup:true}")
+    private boolean migrateOnStartup = true;
+
+    @Value("${blog.posts.content-compression.reencode-on-startup:false}")
+    private boolean reencodeOnStartup = false;
+
+    @Value("${blog.posts.content-compression.batch-size:200}")
+    private int batchSize = 200;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        int rewritten = reencodeOnStartup ? reencode() : migrateOnStartup ? migrate() : 0;
+        if (rewritten > 0) {
+            log.info("Migrated the stored content of {} posts", rewritten);
+        }
+    }
+
+    public int migrate() {
+        return walk(SELECT_UNMIGRATED_BATCH);
+    }
+
+    public int reencode() {
+        return walk(SELECT_BATCH);
+    }
+
+    private int walk(String selectBatch) {
+        int rewritten = 0;
+        UUID after = new UUID(0, 0);
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(selectBatch, (resultSet, rowNumber) -> new Row(
+                    resultSet.getObject("id", UUID.class),
+                    resultSet.getLong("version"),
+                    resultSet.getString("content"),
+                    resultSet.getBytes("content_data"),
+                    resultSet.getObject("word_count") == null
+            ), after, batchSize);
+            if (rows.isEmpty()) {
+                return rewritten;
+            }
+
+            List<Object[]> rewrites = new ArrayList<>();
+            List<Object[]> analyses = new ArrayList<>();
+            for (Row row : rows) {
+                PostContent stored = row.contentData() != null ? PostContent.fromStored(row.contentData()) : null;
+                boolean encodedAsConfigured = stored != null && row.legacyContent() == null && postContentConverter.isStoredAsConfigured(stored);
+                if (encodedAsConfigured && !row.missingAnalysis()) {
+                    continue;
+                }
+                String text = stored != null ? stored.text() : row.legacyContent();
+                if (text == null) {
+                    continue;
+                }
+                ContentAnalysis analysis = ContentAnalysis.of(text);
+                if (encodedAsConfigured) {
+                    analyses.add(new Object[]{analysis.wordCount(), analysis.excerpt(), row.id(), row.version()});
+                } else {
+                    byte[] encoded = postContentConverter.convertToDatabaseColumn(PostContent.of(text));
+                    rewrites.add(new Object[]{encoded, analysis.wordCount(), analysis.excerpt(), row.id(), row.version()});
+                }
+            }
+            rewritten += update(REWRITE_CONTENT, rewrites);
+            rewritten += update(WRITE_ANALYSIS, analyses);
+            after = rows.getLast().id();
+        }
+    }
+
+    private int update(String sql, List<Object[]> arguments) {
+        int updatedRows = 0;
+        if (!arguments.isEmpty()) {
+            for (int updated : jdbcTemplate.batchUpdate(sql, arguments)) {
+                updatedRows += Math.max(updated, 0);
+            }
+        }
+        return updatedRows;
+    }
+
+    private record Row(UUID id, long version, String legacyContent, byte[] contentData, boolean missingAnalysis) {
+    }
+}
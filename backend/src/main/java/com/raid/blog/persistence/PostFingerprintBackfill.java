@@ -0,0 +1,81 @@
+package com.raid.blog.persistence;
+
+import com.raid.blog.domain.PostContent;
+import com.raid.blog.services.PostFingerprintService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Records the fingerprint of posts saved before duplicate detection existed, which
+ * otherwise are only fingerprinted once they are updated, so new posts copying
+ * them are not recognised as duplicates. Near duplicates among them are flagged,
+ * never rejected. Drafts are skipped, as they are on save.
+ * <p>
+ * Only posts without a fingerprint are selected, in id order and small batches.
+ * Posts too short to be fingerprinted never get one and are read again on every
+ * startup, but their content is short.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostFingerprintBackfill {
+
+    private static final String SELECT_UNFINGERPRINTED_BATCH = """
+            select p.id, p.content, p.content_data from posts p
+            where p.id > ? and p.status <> 'DRAFT' and not exists (select 1 from post_fingerprints f where f.post_id = p.id)
+            order by p.id limit ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostFingerprintService postFingerprintService;
+
+    @Value("${blog.posts.duplicate-detection.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${blog.posts.duplicate-detection.backfill-on-startup:true}")
+    private boolean backfillOnStartup = true;
+
+    @Value("${blog.posts.duplicate-detection.batch-size:200}")
+    private int batchSize = 200;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        int backfilled = enabled && backfillOnStartup ? backfill() : 0;
+        if (backfilled > 0) {
+            log.info("Recorded the fingerprint of {} posts", backfilled);
+        }
+    }
+
+    public int backfill() {
+        int backfilled = 0;
+        UUID after = new UUID(0, 0);
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(SELECT_UNFINGERPRINTED_BATCH, (resultSet, rowNumber) -> new Row(
+                    resultSet.getObject("id", UUID.class),
+                    resultSet.getString("content"),
+                    resultSet.getBytes("content_data")
+            ), after, batchSize);
+            if (rows.isEmpty()) {
+                return backfilled;
+            }
+            for (Row row : rows) {
+                String text = row.contentData() != null ? PostContent.fromStored(row.contentData()).text() : row.legacyContent();
+                if (text != null && postFingerprintService.backfillFingerprint(row.id(), text)) {
+                    backfilled++;
+                }
+            }
+            after = rows.getLast().id();
+        }
+    }
+
+    private record Row(UUID id, String legacyContent, byte[] contentData) {
+    }
+}
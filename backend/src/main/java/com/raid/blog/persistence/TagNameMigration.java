@@ -0,0 +1,69 @@
+package com.raid.blog.persistence;
+
+import com.raid.blog.domain.TagNameNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fills in the normalized name of tags saved before the column existed, which
+ * the entity only sets when a tag is saved. Until then such tags are only found
+ * by their exact name, not by a differently written or similar one. The key comes
+ * from {@link TagNameNormalizer}, so it cannot be computed in a SQL migration.
+ * <p>
+ * Only rows without a normalized name are selected, in id order and small batches,
+ * so once they are filled in a startup reads nothing.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagNameMigration {
+
+    private static final String SELECT_UNMIGRATED_BATCH = """
+            select id, name from tags
+            where id > ? and normalized_name is null order by id limit ?
+            """;
+    private static final String WRITE_NORMALIZED_NAME =
+            "update tags set normalized_name = ? where id = ? and normalized_name is null";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${blog.tags.migrate-on-startup:true}")
+    private boolean migrateOnStartup = true;
+
+    @Value("${blog.tags.batch-size:200}")
+    private int batchSize = 200;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        int migrated = migrateOnStartup ? migrate() : 0;
+        if (migrated > 0) {
+            log.info("Filled in the normalized name of {} tags", migrated);
+        }
+    }
+
+    public int migrate() {
+        int migrated = 0;
+        UUID after = new UUID(0, 0);
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(SELECT_UNMIGRATED_BATCH, (resultSet, rowNumber) -> new Object[]{
+                    TagNameNormalizer.normalize(resultSet.getString("name")),
+                    resultSet.getObject("id", UUID.class)
+            }, after, batchSize);
+            if (rows.isEmpty()) {
+                return migrated;
+            }
+            for (int updated : jdbcTemplate.batchUpdate(WRITE_NORMALIZED_NAME, rows)) {
+                migrated += Math.max(updated, 0);
+            }
+            after = (UUID) rows.getLast()[1];
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.raid.blog.publishing;
+
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.events.PostSavedEvent;
+import com.raid.blog.domain.events.PostScheduledEvent;
+import com.raid.blog.repositories.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publishes scheduled posts when their publish time comes. Only posts due within
+ * the configured horizon are held in a {@link TimingWheel}; they are loaded with a
+ * range query on (status, publish_at), which also picks up posts that became due
+ * while the application was down. Due posts are re-checked against the database
+ * when they fire, so rescheduled or unpublished posts are never flipped.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledPublisher {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${blog.posts.scheduling.tick:PT1S}")
+    private Duration tick = Duration.ofSeconds(1);
+
+    @Value("${blog.posts.scheduling.horizon:PT1H}")
+    private Duration horizon = Duration.ofHours(1);
+
+    @Value("${blog.posts.scheduling.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${blog.posts.scheduling.retry-delay:PT10S}")
+    private Duration retryDelay = Duration.ofSeconds(10);
+
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    private TimingWheel<UUID> wheel;
+    private volatile LocalDateTime loadedUntil = LocalDateTime.MIN;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        wheel = new TimingWheel<>(tick.toMillis(), toMillis(LocalDateTime.now()));
+        loadUpcoming();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.posts.scheduling.load-interval:PT10M}",
+            initialDelayString = "${blog.posts.scheduling.load-interval:PT10M}")
+    public void loadUpcoming() {
+        if (wheel == null) {
+            return;
+        }
+        LocalDateTime until = LocalDateTime.now().plus(horizon);
+        List<PostRepository.ScheduledPostRow> rows = postRepository.findScheduledBefore(PostStatus.SCHEDULED, until);
+        rows.forEach(row -> schedule(row.getPostId(), row.getPublishAt()));
+        loadedUntil = until;
+        log.debug("Loaded {} scheduled posts due before {}", rows.size(), until);
+    }
+
+    @TransactionalEventListener
+    public void onPostScheduled(PostScheduledEvent event) {
+        // Posts beyond the loaded horizon are picked up by a later load
+        if (wheel != null && event.getPublishAt().isBefore(loadedUntil)) {
+            schedule(event.getPostId(), event.getPublishAt());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${blog.posts.scheduling.tick:PT1S}")
+    public void publishDue() {
+        if (wheel == null) {
+            return;
+        }
+        List<UUID> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return;
+        }
+        due.forEach(pending::remove);
+
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<UUID> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> publish(batch));
+            } catch (RuntimeException e) {
+                // The posts are still SCHEDULED, so they go back on the wheel rather than wait for the next load
+                log.error("Failed to publish scheduled posts {}, retrying in {}", batch, retryDelay, e);
+                LocalDateTime retryAt = LocalDateTime.now().plus(retryDelay);
+                batch.forEach(postId -> schedule(postId, retryAt));
+            }
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private void publish(List<UUID> postIds) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Post post : postRepository.findWithDetailsByIdInAndStatus(postIds, PostStatus.SCHEDULED)) {
+            if (post.getPublishAt() == null || post.getPublishAt().isAfter(now)) {
+                continue;
+            }
+            post.setStatus(PostStatus.PUBLISHED);
+            // Listeners such as the post index refresh their state once this batch commits
+            eventPublisher.publishEvent(PostSavedEvent.from(post));
+        }
+    }
+
+    private void schedule(UUID postId, LocalDateTime publishAt) {
+        if (publishAt.equals(pending.put(postId, publishAt))) {
+            return;
+        }
+        wheel.add(postId, toMillis(publishAt));
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
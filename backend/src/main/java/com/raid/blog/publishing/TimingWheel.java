@@ -0,0 +1,99 @@
+package com.raid.blog.publishing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: three levels of 64 buckets whose ticks grow by a
+ * factor of 64, so adding an item and advancing by one tick are both O(1) no
+ * matter how many items are pending. Items in a higher level are cascaded into
+ * the level below when its bucket comes up; deadlines beyond the top level wait
+ * in an overflow list that is re-examined whenever the top level advances.
+ */
+final class TimingWheel<T> {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int LEVELS = 3;
+
+    private final long tickMillis;
+    private final List<List<Entry<T>>> buckets = new ArrayList<>(LEVELS * WHEEL_SIZE);
+    private final List<Entry<T>> overflow = new ArrayList<>();
+    private final List<T> ready = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    TimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        for (int i = 0; i < LEVELS * WHEEL_SIZE; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    synchronized void add(T item, long deadlineMillis) {
+        size++;
+        place(new Entry<>(item, Math.floorDiv(deadlineMillis, tickMillis)));
+    }
+
+    /**
+     * Advances the wheel to the given time and returns every item that is due.
+     */
+    synchronized List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if (currentTick % span(level) == 0) {
+                    if (level == LEVELS - 1) {
+                        cascade(overflow);
+                    }
+                    cascade(bucket(level, currentTick));
+                }
+            }
+            bucket(0, currentTick).forEach(entry -> ready.add(entry.item()));
+            bucket(0, currentTick).clear();
+        }
+
+        List<T> due = List.copyOf(ready);
+        size -= due.size();
+        ready.clear();
+        return due;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    private void place(Entry<T> entry) {
+        long ticksLeft = entry.deadlineTick() - currentTick;
+        if (ticksLeft <= 0) {
+            ready.add(entry.item());
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if (ticksLeft < span(level + 1)) {
+                bucket(level, entry.deadlineTick()).add(entry);
+                return;
+            }
+        }
+        overflow.add(entry);
+    }
+
+    private void cascade(List<Entry<T>> entries) {
+        List<Entry<T>> pending = new ArrayList<>(entries);
+        entries.clear();
+        pending.forEach(this::place);
+    }
+
+    private List<Entry<T>> bucket(int level, long tick) {
+        int index = (int) Math.floorMod(tick / span(level), (long) WHEEL_SIZE);
+        return buckets.get(level * WHEEL_SIZE + index);
+    }
+
+    private static long span(int level) {
+        return 1L << (6 * level);
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
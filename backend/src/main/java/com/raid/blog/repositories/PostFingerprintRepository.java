@@ -0,0 +1,23 @@
+package com.raid.blog.repositories;
+
+import com.raid.blog.domain.entities.PostFingerprint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PostFingerprintRepository extends JpaRepository<PostFingerprint, UUID> {
+
+    @Query("""
+            select f from PostFingerprint f
+            where f.postId <> :postId
+              and (f.band0 = :band0 or f.band1 = :band1 or f.band2 = :band2 or f.band3 = :band3)
+            """)
+    List<PostFingerprint> findBandMatches(@Param("postId") UUID postId,
+                                          @Param("band0") int band0,
+                                          @Param("band1") int band1,
+                                          @Param("band2") int band2,
+                                          @Param("band3") int band3);
+}
@@ -1,23 +1,70 @@
 package com.raid.blog.repositories;
 
 import com.raid.blog.domain.PostStatus;
-import com.raid.blog.domain.entities.Category;
 import com.raid.blog.domain.entities.Post;
-import com.raid.blog.domain.entities.Tag;
 import com.raid.blog.domain.entities.User;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
-public interface PostRepository extends JpaRepository<Post, UUID> {
-    List<Post> findAllByStatusAndCategoryAndTagsContaining(PostStatus status, Category category, Tag tag);
+public interface PostRepository extends JpaRepository<Post, UUID>, JpaSpecificationExecutor<Post> {
+    @Override
+    @EntityGraph(attributePaths = {"author", "category", "tags", "storedContent", "legacyContent"})
+    List<Post> findAll(Specification<Post> specification);
 
-    List<Post> findAllByStatusAndCategory(PostStatus status, Category category);
+    // Content stays lazy, so posts looked up only to check they exist do not read it
+    @EntityGraph(attributePaths = {"author", "category", "tags"})
+    Optional<Post> findWithDetailsById(UUID id);
 
-    List<Post> findAllByStatusAndTagsContaining(PostStatus status, Tag tag);
+    @EntityGraph(attributePaths = {"author", "category", "tags", "storedContent", "legacyContent"})
+    List<Post> findAllByAuthorAndStatus(User author, PostStatus status);
 
-    List<Post> findAllByStatus(PostStatus status);
+    @EntityGraph(attributePaths = {"author", "category", "tags", "storedContent", "legacyContent"})
+    List<Post> findAllByIdInAndStatus(Collection<UUID> ids, PostStatus status);
 
-    List<Post> findAllByAuthorAndStatus(User author, PostStatus status);
-}
\ No newline at end of file
+    // Content stays lazy, so posts whose status is flipped do not read it
+    @EntityGraph(attributePaths = {"author", "category", "tags"})
+    List<Post> findWithDetailsByIdInAndStatus(Collection<UUID> ids, PostStatus status);
+
+    @Query("select p.id as postId, p.publishAt as publishAt from Post p where p.status = :status and p.publishAt < :until")
+    List<ScheduledPostRow> findScheduledBefore(PostStatus status, LocalDateTime until);
+
+    @Query("select p.id from Post p where p.id in :ids")
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+
+    @Query("""
+            select p.id as postId, p.status as status, p.category.id as categoryId, p.author.id as authorId,
+                   p.createdAt as createdAt, t.id as tagId
+            from Post p left join p.tags t
+            """)
+    List<PostTagRow> findAllPostTagRows();
+
+    interface ScheduledPostRow {
+        UUID getPostId();
+
+        LocalDateTime getPublishAt();
+    }
+
+    interface PostTagRow {
+        UUID getPostId();
+
+        PostStatus getStatus();
+
+        UUID getCategoryId();
+
+        UUID getAuthorId();
+
+        LocalDateTime getCreatedAt();
+
+        UUID getTagId();
+    }
+}
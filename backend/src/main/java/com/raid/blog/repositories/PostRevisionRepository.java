@@ -0,0 +1,43 @@
+package com.raid.blog.repositories;
+
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.entities.PostRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface PostRevisionRepository extends JpaRepository<PostRevision, PostRevision.Key> {
+
+    List<RevisionSummary> findAllByPostIdOrderByRevisionDesc(UUID postId);
+
+    @Query("select max(r.revision) from PostRevision r where r.postId = :postId")
+    Integer findLatestRevision(UUID postId);
+
+    @Query("""
+            select max(r.revision) from PostRevision r
+            where r.postId = :postId and r.revision <= :revision and r.kind = com.raid.blog.domain.RevisionKind.SNAPSHOT
+            """)
+    Integer findSnapshotRevisionAtOrBefore(UUID postId, int revision);
+
+    List<PostRevision> findAllByPostIdAndRevisionBetweenOrderByRevision(UUID postId, int from, int to);
+
+    @Modifying
+    @Query("delete from PostRevision r where r.postId = :postId")
+    void deleteAllByPostId(UUID postId);
+
+    interface RevisionSummary {
+        int getRevision();
+
+        String getTitle();
+
+        PostStatus getStatus();
+
+        int getContentLength();
+
+        LocalDateTime getCreatedAt();
+    }
+}
@@ -0,0 +1,70 @@
+package com.raid.blog.repositories;
+
+import com.raid.blog.domain.PostFilter;
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.TagMatch;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.entities.Tag;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public final class PostSpecifications {
+
+    private PostSpecifications() {
+    }
+
+    /**
+     * Builds a single query for every combination of feed filters. Category, tag and
+     * author ids are compared against the foreign key columns, so unknown ids simply
+     * match nothing instead of requiring a lookup beforehand.
+     */
+    public static Specification<Post> withStatusMatching(PostStatus status, PostFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("status"), status));
+
+            if (filter.getCategoryIds() != null && !filter.getCategoryIds().isEmpty()) {
+                predicates.add(root.get("category").get("id").in(filter.getCategoryIds()));
+            }
+
+            if (filter.getAuthorId() != null) {
+                predicates.add(cb.equal(root.get("author").get("id"), filter.getAuthorId()));
+            }
+
+            if (filter.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedFrom()));
+            }
+
+            if (filter.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), filter.getCreatedTo()));
+            }
+
+            Set<UUID> tagIds = filter.getTagIds();
+            if (tagIds != null && !tagIds.isEmpty()) {
+                Subquery<UUID> taggedPostIds = query.subquery(UUID.class);
+                Root<Post> taggedPost = taggedPostIds.from(Post.class);
+                Join<Post, Tag> tag = taggedPost.join("tags");
+                taggedPostIds.select(taggedPost.get("id"))
+                        .where(tag.get("id").in(tagIds));
+
+                if (filter.getTagMatch() == TagMatch.ALL) {
+                    taggedPostIds.groupBy(taggedPost.get("id"))
+                            .having(cb.equal(cb.countDistinct(tag.get("id")), (long) tagIds.size()));
+                }
+
+                predicates.add(root.get("id").in(taggedPostIds));
+            }
+
+            query.orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
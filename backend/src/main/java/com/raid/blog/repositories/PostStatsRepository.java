@@ -0,0 +1,16 @@
+package com.raid.blog.repositories;
+
+import com.raid.blog.domain.entities.PostStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface PostStatsRepository extends JpaRepository<PostStats, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<PostStats> findAllByPostIdIn(Collection<UUID> postIds);
+}
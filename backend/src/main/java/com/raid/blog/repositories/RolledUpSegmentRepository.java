@@ -0,0 +1,7 @@
+package com.raid.blog.repositories;
+
+import com.raid.blog.domain.entities.RolledUpSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RolledUpSegmentRepository extends JpaRepository<RolledUpSegment, RolledUpSegment.Key> {
+}
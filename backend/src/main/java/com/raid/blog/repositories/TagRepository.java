@@ -12,7 +12,12 @@ public interface TagRepository extends JpaRepository<Tag, UUID> {
     @Query("select t from Tag t left join fetch t.posts")
     List<Tag> findAllWithPostCount();
 
-    List<Tag> findByNameIn(Collection<String> names);
+    List<Tag> findByNormalizedNameInOrNameIn(Collection<String> normalizedNames, Collection<String> names);
+
+    List<Tag> findByNormalizedNameIn(Collection<String> normalizedNames);
+
+    @Query("select t.name from Tag t")
+    List<String> findAllNames();
 
     int countByName(String name);
 
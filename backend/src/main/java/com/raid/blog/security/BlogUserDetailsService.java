@@ -7,9 +7,17 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.util.Set;
+
+/**
+ * Loads users by their email. Users whose email is one of the configured admin
+ * emails are also given the ADMIN role; there is no way to become one through
+ * the API.
+ */
 @RequiredArgsConstructor
 public class BlogUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final Set<String> adminEmails;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -17,6 +25,6 @@ public class BlogUserDetailsService implements UserDetailsService {
                 () -> new UsernameNotFoundException("No user was found with email " + email)
         );
 
-        return new BlogUserDetails(user);
+        return new BlogUserDetails(user, adminEmails.contains(user.getEmail().toLowerCase()));
     }
 }
@@ -1,5 +1,7 @@
 package com.raid.blog.security;
 
+import com.raid.blog.observability.RequestTiming;
+import com.raid.blog.observability.TokenValidationEvent;
 import com.raid.blog.services.AuthenticationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -28,7 +30,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = extractToken(request);
             if (token != null) {
-                UserDetails userDetails = authenticationService.validateToken(token);
+                long start = System.nanoTime();
+                UserDetails userDetails = validateToken(token);
+                RequestTiming timing = RequestTiming.current();
+                if (timing != null) {
+                    timing.addAuthenticationTime(System.nanoTime() - start);
+                }
 
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails,
@@ -51,6 +58,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails validateToken(String token) {
+        TokenValidationEvent event = new TokenValidationEvent();
+        event.begin();
+        boolean valid = false;
+        try {
+            UserDetails userDetails = authenticationService.validateToken(token);
+            valid = true;
+            return userDetails;
+        } finally {
+            event.record(valid);
+        }
+    }
+
     private String extractToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -0,0 +1,9 @@
+package com.raid.blog.services;
+
+import java.util.UUID;
+
+public interface PostFingerprintService {
+    void recordFingerprint(UUID postId, String content);
+    boolean backfillFingerprint(UUID postId, String content);
+    void deleteFingerprint(UUID postId);
+}
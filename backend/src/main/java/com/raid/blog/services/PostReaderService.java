@@ -0,0 +1,10 @@
+package com.raid.blog.services;
+
+import java.util.UUID;
+
+public interface PostReaderService {
+    void recordReader(UUID postId, String readerKey);
+    long estimateReaders(UUID postId);
+    void flushReaders();
+    void deleteReaders(UUID postId);
+}
@@ -0,0 +1,15 @@
+package com.raid.blog.services;
+
+import com.raid.blog.domain.PostRevisionContent;
+import com.raid.blog.domain.events.PostRevisedEvent;
+import com.raid.blog.repositories.PostRevisionRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PostRevisionService {
+    void recordRevision(PostRevisedEvent event);
+    List<PostRevisionRepository.RevisionSummary> getRevisions(UUID postId);
+    PostRevisionContent getRevision(UUID postId, int revision);
+    void deleteRevisions(UUID postId);
+}
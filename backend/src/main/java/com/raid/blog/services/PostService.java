@@ -1,18 +1,28 @@
 package com.raid.blog.services;
 
 import com.raid.blog.domain.CreatePostRequest;
+import com.raid.blog.domain.PatchPostContentRequest;
+import com.raid.blog.domain.PostFacets;
+import com.raid.blog.domain.PostFilter;
 import com.raid.blog.domain.UpdatePostRequest;
 import com.raid.blog.domain.entities.Post;
 import com.raid.blog.domain.entities.User;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.UUID;
 
 public interface PostService {
-    List<Post> getAllPosts(UUID categoryId, UUID tagId);
+    List<Post> getAllPosts(PostFilter filter);
+    PostFacets getFacetCounts(PostFilter filter);
     Post getPost(UUID id);
+    ByteBuffer getPostContent(UUID id);
+    String getContentText(Post post);
+    List<Post> getRelatedPosts(UUID id, int limit);
+    List<Post> getTrendingPosts(UUID categoryId, int limit);
     List<Post> getDraftPosts(User user);
     Post createPost(User user, CreatePostRequest createPostRequest);
     Post updatePost(UUID id, UpdatePostRequest updatePostRequest);
+    Post patchPostContent(UUID id, PatchPostContentRequest patchPostContentRequest);
     void deletePost(UUID id);
 }
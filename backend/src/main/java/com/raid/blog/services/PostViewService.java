@@ -0,0 +1,9 @@
+package com.raid.blog.services;
+
+import java.util.UUID;
+
+public interface PostViewService {
+    void recordView(UUID postId);
+    void flushViews();
+    void deleteViews(UUID postId);
+}
@@ -3,6 +3,7 @@ package com.raid.blog.services.impl;
 import com.raid.blog.domain.entities.Category;
 import com.raid.blog.repositories.CategoryRepository;
 import com.raid.blog.services.CategoryService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Service
+@Timed("blog.service")
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
 
@@ -0,0 +1,116 @@
+package com.raid.blog.services.impl;
+
+import com.raid.blog.domain.DuplicateContentAction;
+import com.raid.blog.domain.SimHash;
+import com.raid.blog.domain.entities.PostFingerprint;
+import com.raid.blog.repositories.PostFingerprintRepository;
+import com.raid.blog.services.PostFingerprintService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@Timed("blog.service")
+@RequiredArgsConstructor
+@Slf4j
+public class PostFingerprintServiceImpl implements PostFingerprintService {
+
+    // Banding into four 16-bit bands only guarantees a shared band up to this distance
+    private static final int MAX_BANDED_DISTANCE = SimHash.BANDS - 1;
+
+    private final PostFingerprintRepository postFingerprintRepository;
+
+    @Value("${blog.posts.duplicate-detection.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${blog.posts.duplicate-detection.action:REJECT}")
+    private DuplicateContentAction action = DuplicateContentAction.REJECT;
+
+    @Value("${blog.posts.duplicate-detection.max-distance:3}")
+    private int maxDistance = 3;
+
+    @Value("${blog.posts.duplicate-detection.min-tokens:50}")
+    private int minTokens = 50;
+
+    @Override
+    public void recordFingerprint(UUID postId, String content) {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> tokens = SimHash.tokenize(content);
+        if (tokens.size() < minTokens) {
+            // Too short for a stable fingerprint; drop any left over from a longer version
+            postFingerprintRepository.findById(postId).ifPresent(postFingerprintRepository::delete);
+            return;
+        }
+
+        save(postId, SimHash.fingerprint(tokens), action);
+    }
+
+    @Override
+    public boolean backfillFingerprint(UUID postId, String content) {
+        if (!enabled || postFingerprintRepository.existsById(postId)) {
+            return false;
+        }
+        List<String> tokens = SimHash.tokenize(content);
+        if (tokens.size() < minTokens) {
+            return false;
+        }
+        // The post is already saved as it is, so a near duplicate can only be flagged
+        save(postId, SimHash.fingerprint(tokens), DuplicateContentAction.FLAG);
+        return true;
+    }
+
+    @Override
+    public void deleteFingerprint(UUID postId) {
+        postFingerprintRepository.findById(postId).ifPresent(postFingerprintRepository::delete);
+    }
+
+    private void save(UUID postId, long fingerprint, DuplicateContentAction onDuplicate) {
+        Optional<PostFingerprint> existing = postFingerprintRepository.findById(postId);
+        if (existing.isPresent() && existing.get().getFingerprint() == fingerprint) {
+            // Unchanged content, e.g. when only the title or tags were edited, keeps its verdict
+            return;
+        }
+        Optional<PostFingerprint> duplicate = findNearDuplicate(postId, fingerprint);
+        UUID duplicateOfPostId = duplicate.map(PostFingerprint::getPostId).orElse(null);
+        if (duplicateOfPostId != null) {
+            // A pair flagged before stays flagged, or neither post could be edited again
+            boolean flagged = existing.map(PostFingerprint::getDuplicateOfPostId).filter(duplicateOfPostId::equals).isPresent()
+                    || postId.equals(duplicate.get().getDuplicateOfPostId());
+            if (onDuplicate == DuplicateContentAction.REJECT && !flagged) {
+                throw new IllegalStateException("Post content is a near duplicate of an existing post");
+            }
+            log.warn("Post {} is a near duplicate of post {}", postId, duplicateOfPostId);
+        }
+
+        postFingerprintRepository.save(PostFingerprint.builder()
+                .postId(postId)
+                .fingerprint(fingerprint)
+                .band0(SimHash.band(fingerprint, 0))
+                .band1(SimHash.band(fingerprint, 1))
+                .band2(SimHash.band(fingerprint, 2))
+                .band3(SimHash.band(fingerprint, 3))
+                .duplicateOfPostId(duplicateOfPostId)
+                .build());
+    }
+
+    private Optional<PostFingerprint> findNearDuplicate(UUID postId, long fingerprint) {
+        int distanceLimit = Math.min(maxDistance, MAX_BANDED_DISTANCE);
+        return postFingerprintRepository.findBandMatches(postId,
+                        SimHash.band(fingerprint, 0),
+                        SimHash.band(fingerprint, 1),
+                        SimHash.band(fingerprint, 2),
+                        SimHash.band(fingerprint, 3)).stream()
+                .filter(candidate -> SimHash.distance(fingerprint, candidate.getFingerprint()) <= distanceLimit)
+                .min(Comparator.comparingInt(candidate -> SimHash.distance(fingerprint, candidate.getFingerprint())));
+    }
+}
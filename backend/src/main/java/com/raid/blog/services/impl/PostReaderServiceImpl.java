@@ -0,0 +1,121 @@
+package com.raid.blog.services.impl;
+
+import com.raid.blog.domain.HyperLogLog;
+import com.raid.blog.domain.entities.PostStats;
+import com.raid.blog.repositories.PostRepository;
+import com.raid.blog.repositories.PostStatsRepository;
+import com.raid.blog.services.PostReaderService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks unique readers per post with HyperLogLog sketches. Readers are added to an
+ * in-memory sketch per post, which is periodically merged into the sketch stored in
+ * post_stats under a row lock, so several nodes can flush into the same post.
+ */
+@Service
+@Timed("blog.service")
+@RequiredArgsConstructor
+@Slf4j
+public class PostReaderServiceImpl implements PostReaderService {
+
+    private final PostStatsRepository postStatsRepository;
+    private final PostRepository postRepository;
+
+    private final Map<UUID, HyperLogLog> pendingReaders = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordReader(UUID postId, String readerKey) {
+        // Sketches are only touched inside compute, which makes offers and flushes atomic per post
+        pendingReaders.compute(postId, (id, sketch) -> {
+            HyperLogLog readers = sketch != null ? sketch : new HyperLogLog();
+            readers.offer(readerKey);
+            return readers;
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long estimateReaders(UUID postId) {
+        HyperLogLog readers = postStatsRepository.findById(postId)
+                .map(stats -> HyperLogLog.fromBytes(stats.getReaderSketch()))
+                .orElseGet(HyperLogLog::new);
+
+        HyperLogLog[] pending = new HyperLogLog[1];
+        pendingReaders.computeIfPresent(postId, (id, sketch) -> {
+            pending[0] = sketch.copy();
+            return sketch;
+        });
+        if (pending[0] != null) {
+            readers.merge(pending[0]);
+        }
+        return readers.estimate();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${blog.posts.readers.flush-interval:PT30S}")
+    @Transactional
+    public void flushReaders() {
+        Map<UUID, HyperLogLog> drained = new HashMap<>();
+        for (UUID postId : pendingReaders.keySet()) {
+            HyperLogLog sketch = pendingReaders.remove(postId);
+            if (sketch != null) {
+                drained.put(postId, sketch);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<UUID, PostStats> statsByPostId = new HashMap<>();
+            postStatsRepository.findAllByPostIdIn(drained.keySet())
+                    .forEach(stats -> statsByPostId.put(stats.getPostId(), stats));
+
+            Set<UUID> missing = new HashSet<>(drained.keySet());
+            missing.removeAll(statsByPostId.keySet());
+            if (!missing.isEmpty()) {
+                postRepository.findExistingIds(missing)
+                        .forEach(postId -> statsByPostId.put(postId, PostStats.builder().postId(postId).build()));
+            }
+
+            List<PostStats> updated = new ArrayList<>(statsByPostId.size());
+            statsByPostId.forEach((postId, stats) -> {
+                HyperLogLog readers = HyperLogLog.fromBytes(stats.getReaderSketch());
+                readers.merge(drained.get(postId));
+                stats.setReaderSketch(readers.toBytes());
+                updated.add(stats);
+            });
+            postStatsRepository.saveAllAndFlush(updated);
+        } catch (RuntimeException e) {
+            // Merging is idempotent, so putting the sketches back is always safe
+            drained.forEach((postId, sketch) -> pendingReaders.merge(postId, sketch, (current, restored) -> {
+                current.merge(restored);
+                return current;
+            }));
+            throw e;
+        }
+    }
+
+    @Override
+    public void deleteReaders(UUID postId) {
+        pendingReaders.remove(postId);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flushReaders();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush pending post readers on shutdown", e);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.raid.blog.services.impl;
+
+import com.raid.blog.domain.PostRevisionContent;
+import com.raid.blog.domain.RevisionKind;
+import com.raid.blog.domain.TextDelta;
+import com.raid.blog.domain.entities.PostRevision;
+import com.raid.blog.domain.events.PostRevisedEvent;
+import com.raid.blog.repositories.PostRepository;
+import com.raid.blog.repositories.PostRevisionRepository;
+import com.raid.blog.services.PostRevisionService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stores every saved version of a post in post_revisions. A revision is either a
+ * full snapshot of the content or a {@link TextDelta} against the previous revision;
+ * a snapshot is taken every few revisions, or whenever the delta would not be
+ * smaller, so reconstructing any revision applies a bounded number of deltas.
+ * <p>
+ * Revisions are written after the saving transaction commits, on a single thread,
+ * which keeps each post's revisions in commit order and off the request path. When
+ * its queue is full a revision is dropped and counted, and the post's current
+ * state is recorded as a snapshot once the queue has drained. A revision number
+ * taken by another instance in the meantime is retried with the next one.
+ */
+@Service
+@Timed("blog.service")
+@RequiredArgsConstructor
+@Slf4j
+public class PostRevisionServiceImpl implements PostRevisionService {
+
+    private static final int MAX_CACHED_POSTS = 1024;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final PostRevisionRepository postRevisionRepository;
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor revisionExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${blog.posts.revisions.snapshot-interval:10}")
+    private int snapshotInterval = 10;
+
+    // Content of the latest revision per recently saved post, so most deltas need no reconstruction
+    private final Map<UUID, LatestRevision> latestRevisions = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, LatestRevision> eldest) {
+                    return size() > MAX_CACHED_POSTS;
+                }
+            });
+    private final LongAdder latestRevisionHits = new LongAdder();
+    private final LongAdder latestRevisionMisses = new LongAdder();
+
+    // Posts with a dropped revision, recorded from their current state when the queue has drained
+    private final Set<UUID> droppedPostIds = ConcurrentHashMap.newKeySet();
+    private final LongAdder droppedRevisions = new LongAdder();
+
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("cache.gets", latestRevisionHits, LongAdder::sum)
+                .tags("cache", "latest-revisions", "result", "hit")
+                .description("Deltas computed against the cached content of the latest revision")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", latestRevisionMisses, LongAdder::sum)
+                .tags("cache", "latest-revisions", "result", "miss")
+                .description("Deltas that needed the latest revision to be reconstructed")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", latestRevisions, Map::size)
+                .tag("cache", "latest-revisions")
+                .register(meterRegistry);
+        FunctionCounter.builder("blog.revisions.dropped", droppedRevisions, LongAdder::sum)
+                .description("Revisions not written because the revision queue was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @TransactionalEventListener
+    public void recordRevision(PostRevisedEvent event) {
+        try {
+            revisionExecutor.execute(() -> write(event, false));
+        } catch (TaskRejectedException e) {
+            droppedRevisions.increment();
+            droppedPostIds.add(event.getPostId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${blog.posts.revisions.catch-up-interval:PT10S}")
+    public void recordDroppedRevisions() {
+        if (droppedPostIds.isEmpty() || revisionExecutor.getQueueSize() > 0) {
+            return;
+        }
+        try {
+            revisionExecutor.execute(() -> {
+                for (UUID postId : List.copyOf(droppedPostIds)) {
+                    droppedPostIds.remove(postId);
+                    transactionTemplate.execute(status -> postRepository.findById(postId).map(PostRevisedEvent::from))
+                            .ifPresent(event -> write(event, true));
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // Still busy, tried again on the next run
+        }
+    }
+
+    private void write(PostRevisedEvent event, boolean snapshot) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                // The insert is only flushed on commit, which translates a key violation
+                LatestRevision written = transactionTemplate.execute(status -> insertRevision(event, snapshot));
+                if (written != null) {
+                    latestRevisions.put(event.getPostId(), written);
+                }
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // Another instance took the revision number; the cached latest revision is stale too
+                latestRevisions.remove(event.getPostId());
+                if (attempt == MAX_ATTEMPTS) {
+                    log.error("Could not record a revision of post {}", event.getPostId(), e);
+                    return;
+                }
+            }
+        }
+    }
+
+    private LatestRevision insertRevision(PostRevisedEvent event, boolean snapshot) {
+        UUID postId = event.getPostId();
+        if (!postRepository.existsById(postId)) {
+            return null;
+        }
+
+        Integer latest = postRevisionRepository.findLatestRevision(postId);
+        int revision = latest != null ? latest + 1 : 1;
+        byte[] content = event.getContent().getBytes(StandardCharsets.UTF_8);
+
+        RevisionKind kind = RevisionKind.SNAPSHOT;
+        byte[] data = content;
+        if (!snapshot && latest != null
+                && revision - postRevisionRepository.findSnapshotRevisionAtOrBefore(postId, latest) < snapshotInterval) {
+            LatestRevision cached = latestRevisions.get(postId);
+            boolean hit = cached != null && cached.revision() == latest;
+            (hit ? latestRevisionHits : latestRevisionMisses).increment();
+            String previousContent = hit ? cached.content() : reconstruct(postId, latest).getContent();
+            byte[] delta = TextDelta.diff(previousContent, event.getContent());
+            if (delta.length < content.length) {
+                kind = RevisionKind.DELTA;
+                data = delta;
+            }
+        }
+
+        // Persisted rather than saved, so a revision number that is already taken fails instead of being overwritten
+        entityManager.persist(PostRevision.builder()
+                .postId(postId)
+                .revision(revision)
+                .kind(kind)
+                .title(event.getTitle())
+                .status(event.getStatus())
+                .contentLength(event.getContent().length())
+                .data(data)
+                .createdAt(event.getRevisedAt())
+                .build());
+        return new LatestRevision(revision, event.getContent());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostRevisionRepository.RevisionSummary> getRevisions(UUID postId) {
+        return postRevisionRepository.findAllByPostIdOrderByRevisionDesc(postId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostRevisionContent getRevision(UUID postId, int revision) {
+        return reconstruct(postId, revision);
+    }
+
+    private PostRevisionContent reconstruct(UUID postId, int revision) {
+        Integer snapshot = postRevisionRepository.findSnapshotRevisionAtOrBefore(postId, revision);
+        if (snapshot == null) {
+            throw new EntityNotFoundException("Revision does not exist");
+        }
+        List<PostRevision> chain = postRevisionRepository.findAllByPostIdAndRevisionBetweenOrderByRevision(postId, snapshot, revision);
+        PostRevision target = chain.getLast();
+        if (target.getRevision() != revision) {
+            throw new EntityNotFoundException("Revision does not exist");
+        }
+
+        String content = new String(chain.getFirst().getData(), StandardCharsets.UTF_8);
+        for (PostRevision next : chain.subList(1, chain.size())) {
+            content = next.getKind() == RevisionKind.SNAPSHOT
+                    ? new String(next.getData(), StandardCharsets.UTF_8)
+                    : TextDelta.apply(content, next.getData());
+        }
+
+        return PostRevisionContent.builder()
+                .postId(postId)
+                .revision(revision)
+                .title(target.getTitle())
+                .content(content)
+                .status(target.getStatus())
+                .createdAt(target.getCreatedAt())
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public void deleteRevisions(UUID postId) {
+        latestRevisions.remove(postId);
+        postRevisionRepository.deleteAllByPostId(postId);
+    }
+
+    private record LatestRevision(int revision, String content) {
+    }
+}
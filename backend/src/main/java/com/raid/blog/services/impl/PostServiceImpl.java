@@ -1,106 +1,246 @@
 package com.raid.blog.services.impl;
 
+import com.raid.blog.contentstore.PostContentStore;
+import com.raid.blog.domain.ContentAnalysis;
 import com.raid.blog.domain.CreatePostRequest;
+import com.raid.blog.domain.PatchPostContentRequest;
+import com.raid.blog.domain.PostFacets;
+import com.raid.blog.domain.PostFilter;
 import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.TextOperation;
 import com.raid.blog.domain.UpdatePostRequest;
 import com.raid.blog.domain.entities.Category;
 import com.raid.blog.domain.entities.Post;
 import com.raid.blog.domain.entities.Tag;
 import com.raid.blog.domain.entities.User;
+import com.raid.blog.domain.events.PostDeletedEvent;
+import com.raid.blog.domain.events.PostRevisedEvent;
+import com.raid.blog.domain.events.PostSavedEvent;
+import com.raid.blog.domain.events.PostScheduledEvent;
+import com.raid.blog.drafts.DraftWriteCoalescer;
+import com.raid.blog.indexing.PostIndex;
+import com.raid.blog.indexing.TrendingPosts;
+import com.raid.blog.observability.FeedQueryEvent;
 import com.raid.blog.repositories.PostRepository;
+import com.raid.blog.repositories.PostSpecifications;
 import com.raid.blog.services.CategoryService;
+import com.raid.blog.services.PostFingerprintService;
+import com.raid.blog.services.PostReaderService;
+import com.raid.blog.services.PostRevisionService;
 import com.raid.blog.services.PostService;
+import com.raid.blog.services.PostViewService;
 import com.raid.blog.services.TagService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.UUID;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("blog.service")
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
     private final PostRepository postRepository;
     private final CategoryService categoryService;
     private final TagService tagService;
+    private final PostFingerprintService postFingerprintService;
+    private final PostViewService postViewService;
+    private final PostReaderService postReaderService;
+    private final PostRevisionService postRevisionService;
+    private final PostIndex postIndex;
+    private final TrendingPosts trendingPosts;
+    private final DraftWriteCoalescer draftWriteCoalescer;
+    private final PostContentStore postContentStore;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private static final int WORDS_PER_MINUTE = 200;
+    private static final int MIN_CONTENT_LENGTH = 10;
+    private static final int MAX_CONTENT_LENGTH = 50000;
 
     @Override
     @Transactional(readOnly = true)
-    public List<Post> getAllPosts(UUID categoryId, UUID tagId) {
-        if (categoryId != null && tagId != null) {
-            Category category = categoryService.getCategoryById(categoryId);
-            Tag tag = tagService.getTagById(tagId);
-            return postRepository.findAllByStatusAndCategoryAndTagsContaining(
-                    PostStatus.PUBLISHED,
-                    category,
-                    tag
-            );
-        }
-        if (categoryId != null) {
-            Category category = categoryService.getCategoryById(categoryId);
-            return postRepository.findAllByStatusAndCategory(
-                    PostStatus.PUBLISHED,
-                    category
-            );
-        }
-        if (tagId != null) {
-            Tag tag = tagService.getTagById(tagId);
-            return postRepository.findAllByStatusAndTagsContaining(
-                    PostStatus.PUBLISHED,
-                    tag
-            );
-        }
-        return postRepository.findAllByStatus(PostStatus.PUBLISHED);
+    public List<Post> getAllPosts(PostFilter filter) {
+        validateCreatedRange(filter);
+
+        FeedQueryEvent event = new FeedQueryEvent();
+        event.begin();
+        List<Post> posts = postRepository.findAll(PostSpecifications.withStatusMatching(PostStatus.PUBLISHED, filter));
+        event.record(FeedQueryEvent.ALL, filter, posts.size());
+        return posts;
+    }
+
+    @Override
+    public PostFacets getFacetCounts(PostFilter filter) {
+        validateCreatedRange(filter);
+
+        FeedQueryEvent event = new FeedQueryEvent();
+        event.begin();
+        PostFacets facets = postIndex.facetCounts(filter);
+        event.record(FeedQueryEvent.FACETS, filter, facets.getTotal());
+        return facets;
+    }
+
+    private static void validateCreatedRange(PostFilter filter) {
+        if (filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                && filter.getCreatedFrom().isAfter(filter.getCreatedTo())) {
+            throw new IllegalArgumentException("createdFrom must not be after createdTo");
+        }
     }
 
     @Override
     public Post getPost(UUID id) {
+        // Pending state is looked up first, so a write completing in between is seen in the row
+        Optional<DraftWriteCoalescer.PendingDraft> pendingDraft = draftWriteCoalescer.pending(id);
+        Post post = postRepository.findWithDetailsById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Post does not exist"));
+
+        return pendingDraft.map(draft -> draft.applyTo(post)).orElse(post);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ByteBuffer getPostContent(UUID id) {
+        Optional<DraftWriteCoalescer.PendingDraft> pendingDraft = draftWriteCoalescer.pending(id);
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Post does not exist"));
+        if (pendingDraft.isPresent()) {
+            return ByteBuffer.wrap(pendingDraft.get().applyTo(post).getContent().getBytes(StandardCharsets.UTF_8));
+        }
 
-        return post;
+        return storedContent(post);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getContentText(Post post) {
+        // Copies with a pending draft applied, and posts whose content was read anyway, already hold it
+        if (!postContentStore.isEnabled() || Hibernate.isPropertyInitialized(post, "storedContent")) {
+            return post.getContent();
+        }
+        return StandardCharsets.UTF_8.decode(storedContent(post)).toString();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Post> getRelatedPosts(UUID id, int limit) {
+        if (limit < 1 || limit > PostIndex.MAX_RELATED_POSTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + PostIndex.MAX_RELATED_POSTS);
+        }
+        if (!postIndex.contains(id)) {
+            throw new EntityNotFoundException("Post does not exist");
+        }
+
+        FeedQueryEvent event = new FeedQueryEvent();
+        event.begin();
+        List<Post> posts = findPublishedInOrder(postIndex.relatedPostIds(id, limit));
+        event.record(FeedQueryEvent.RELATED, "post", posts.size());
+        return posts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Post> getTrendingPosts(UUID categoryId, int limit) {
+        if (limit < 1 || limit > TrendingPosts.MAX_TRENDING_POSTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + TrendingPosts.MAX_TRENDING_POSTS);
+        }
+
+        FeedQueryEvent event = new FeedQueryEvent();
+        event.begin();
+        List<Post> posts = findPublishedInOrder(trendingPosts.trendingPostIds(categoryId, limit));
+        event.record(FeedQueryEvent.TRENDING, categoryId == null ? "none" : "category", posts.size());
+        return posts;
+    }
+
+    private ByteBuffer storedContent(Post post) {
+        // The post row is read without its content, which is only loaded when the store misses
+        long version = PostContentStore.versionOf(post);
+        return postContentStore.read(post.getId(), version).orElseGet(() -> {
+            byte[] content = post.getContent().getBytes(StandardCharsets.UTF_8);
+            postContentStore.offer(post.getId(), version, content);
+            return ByteBuffer.wrap(content).asReadOnlyBuffer();
+        });
+    }
+
+    private List<Post> findPublishedInOrder(List<UUID> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Post> postsById = postRepository.findAllByIdInAndStatus(postIds, PostStatus.PUBLISHED).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Override
     public List<Post> getDraftPosts(User user) {
-        return postRepository.findAllByAuthorAndStatus(user, PostStatus.DRAFT);
+        FeedQueryEvent event = new FeedQueryEvent();
+        event.begin();
+        List<Post> posts = postRepository.findAllByAuthorAndStatus(user, PostStatus.DRAFT).stream()
+                .map(post -> draftWriteCoalescer.pending(post.getId()).map(draft -> draft.applyTo(post)).orElse(post))
+                .toList();
+        event.record(FeedQueryEvent.DRAFTS, "author", posts.size());
+        return posts;
     }
 
     @Override
     @Transactional
     public Post createPost(User user, CreatePostRequest createPostRequest) {
-        var readingTime = calculateReadingTime(createPostRequest.getContent());
+        LocalDateTime publishAt = validatePublishAt(createPostRequest.getStatus(), createPostRequest.getPublishAt());
+        ContentAnalysis analysis = ContentAnalysis.of(createPostRequest.getContent());
         Category category = categoryService.getCategoryById(createPostRequest.getCategoryId());
         List<Tag> tags = tagService.getTagsByIds(createPostRequest.getTagIds());
         Post newPost = Post.builder()
                 .title(createPostRequest.getTitle())
                 .content(createPostRequest.getContent())
                 .status(createPostRequest.getStatus())
-                .readingTime(readingTime)
+                .publishAt(publishAt)
+                .readingTime(analysis.readingTime())
+                .wordCount(analysis.wordCount())
+                .excerpt(analysis.excerpt())
                 .author(user)
                 .category(category)
                 .tags(new HashSet<>(tags))
                 .build();
 
-        Post savedPost = postRepository.save(newPost);
+        // Flushed so the saved event carries the creation time, which is only set on insert
+        Post savedPost = postRepository.saveAndFlush(newPost);
+        if (savedPost.getStatus() != PostStatus.DRAFT) {
+            postFingerprintService.recordFingerprint(savedPost.getId(), savedPost.getContent());
+        }
+        postContentStore.putAfterCommit(savedPost);
+        publishSavedEvents(savedPost);
 
         return savedPost;
     }
 
-    private Integer calculateReadingTime(String content) {
-        if (content == null || content.isEmpty()) {
-            return 0;
+    private LocalDateTime validatePublishAt(PostStatus status, LocalDateTime publishAt) {
+        if (status != PostStatus.SCHEDULED) {
+            return null;
+        }
+        if (publishAt == null || !publishAt.isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Scheduled posts need a publishAt in the future");
         }
+        return publishAt;
+    }
 
-        int wordCount = content.trim().split("\\s+").length;
-        return (int) Math.ceil((double) wordCount / WORDS_PER_MINUTE);
+    private void publishSavedEvents(Post post) {
+        eventPublisher.publishEvent(PostSavedEvent.from(post));
+        eventPublisher.publishEvent(PostRevisedEvent.from(post));
+        if (post.getStatus() == PostStatus.SCHEDULED) {
+            eventPublisher.publishEvent(new PostScheduledEvent(post.getId(), post.getPublishAt()));
+        }
     }
 
     @Override
@@ -108,34 +248,125 @@ public class PostServiceImpl implements PostService {
     public Post updatePost(UUID id, UpdatePostRequest updatePostRequest) {
         Post existingPost = postRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Post does not exist"));
+        LocalDateTime publishAt = validatePublishAt(updatePostRequest.getStatus(), updatePostRequest.getPublishAt());
 
-        int newReadingTime = calculateReadingTime(updatePostRequest.getContent());
+        ContentAnalysis analysis = ContentAnalysis.of(updatePostRequest.getContent());
+
+        if (draftWriteCoalescer.isEnabled()
+                && existingPost.getStatus() == PostStatus.DRAFT && updatePostRequest.getStatus() == PostStatus.DRAFT) {
+            Post currentPost = draftWriteCoalescer.pending(id).map(draft -> draft.applyTo(existingPost)).orElse(existingPost);
+            Category category = resolveCategory(currentPost, updatePostRequest.getCategoryId());
+            Set<Tag> tags = resolveTags(currentPost, updatePostRequest.getTagIds());
+            Optional<Post> coalescedPost = draftWriteCoalescer.enqueue(existingPost, updatePostRequest, analysis, category, tags);
+            if (coalescedPost.isPresent()) {
+                return coalescedPost.get();
+            }
+        }
+        // This update carries the full state of the post, so anything still pending is superseded
+        draftWriteCoalescer.discard(id);
 
         existingPost.setTitle(updatePostRequest.getTitle());
         existingPost.setContent(updatePostRequest.getContent());
         existingPost.setStatus(updatePostRequest.getStatus());
-        existingPost.setReadingTime(newReadingTime);
+        existingPost.setPublishAt(publishAt);
+        existingPost.setReadingTime(analysis.readingTime());
+        existingPost.setWordCount(analysis.wordCount());
+        existingPost.setExcerpt(analysis.excerpt());
+        existingPost.setCategory(resolveCategory(existingPost, updatePostRequest.getCategoryId()));
+        existingPost.setTags(resolveTags(existingPost, updatePostRequest.getTagIds()));
+
+        Post savedPost = postRepository.save(existingPost);
+        if (savedPost.getStatus() == PostStatus.DRAFT) {
+            // Drafts carry no fingerprint, so unpublished text never blocks other posts
+            postFingerprintService.deleteFingerprint(id);
+        } else {
+            postFingerprintService.recordFingerprint(savedPost.getId(), savedPost.getContent());
+        }
+        postContentStore.putAfterCommit(savedPost);
+        publishSavedEvents(savedPost);
+
+        return savedPost;
+    }
+
+    private Category resolveCategory(Post post, UUID categoryId) {
+        if (post.getCategory().getId().equals(categoryId)) {
+            return post.getCategory();
+        }
+        return categoryService.getCategoryById(categoryId);
+    }
 
+    private Set<Tag> resolveTags(Post post, Set<UUID> tagIds) {
+        Set<UUID> existingTagIds = post.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
+        if (existingTagIds.equals(tagIds)) {
+            return post.getTags();
+        }
+        return new HashSet<>(tagService.getTagsByIds(tagIds));
+    }
 
-        UUID updatePostRequestCategoryId = updatePostRequest.getCategoryId();
-        if (!existingPost.getCategory().getId().equals(updatePostRequestCategoryId)) {
-            Category category = categoryService.getCategoryById(updatePostRequest.getCategoryId());
-            existingPost.setCategory(category);
+    @Override
+    @Transactional
+    public Post patchPostContent(UUID id, PatchPostContentRequest patchPostContentRequest) {
+        // Pending autosaves are written first, their version being the one clients were shown
+        draftWriteCoalescer.flush(id);
+        Post existingPost = postRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Post does not exist"));
+        if (!Objects.equals(existingPost.getVersion(), patchPostContentRequest.getBaseVersion())) {
+            throw new IllegalStateException("Post was modified since version " + patchPostContentRequest.getBaseVersion());
         }
 
-        Set<UUID> existingTagIds = existingPost.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
-        Set<UUID> updatePostRequestTagIds = updatePostRequest.getTagIds();
-        if (!existingTagIds.equals(updatePostRequestTagIds)) {
-            List<Tag> tags = tagService.getTagsByIds(updatePostRequest.getTagIds());
-            existingPost.setTags(new HashSet<>(tags));
+        String content = applyOperations(existingPost.getContent(), patchPostContentRequest.getOperations());
+        if (content.length() < MIN_CONTENT_LENGTH || content.length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("Content must be between " + MIN_CONTENT_LENGTH + " and " + MAX_CONTENT_LENGTH + " characters");
         }
 
-        return postRepository.save(existingPost);
+        // Dynamic updates only write the columns that actually changed, usually content and updatedAt
+        existingPost.setContent(content);
+        ContentAnalysis analysis = ContentAnalysis.of(content);
+        existingPost.setReadingTime(analysis.readingTime());
+        existingPost.setWordCount(analysis.wordCount());
+        existingPost.setExcerpt(analysis.excerpt());
+        if (existingPost.getStatus() != PostStatus.DRAFT) {
+            postFingerprintService.recordFingerprint(existingPost.getId(), content);
+        }
+
+        Post savedPost = postRepository.saveAndFlush(existingPost);
+        postContentStore.putAfterCommit(savedPost);
+        eventPublisher.publishEvent(PostRevisedEvent.from(savedPost));
+
+        return savedPost;
+    }
+
+    private static String applyOperations(String base, List<TextOperation> operations) {
+        StringBuilder patched = new StringBuilder(base.length());
+        int copiedUpTo = 0;
+        for (TextOperation operation : operations) {
+            int start = operation.getPosition();
+            // Compared without adding, so a huge delete count cannot overflow past the check
+            if (start < copiedUpTo || start > base.length() || operation.getDeleteCount() > base.length() - start) {
+                throw new IllegalArgumentException("Operations must be ordered, non-overlapping and within the base content");
+            }
+            int end = start + operation.getDeleteCount();
+            patched.append(base, copiedUpTo, start);
+            if (operation.getInsert() != null) {
+                patched.append(operation.getInsert());
+            }
+            copiedUpTo = end;
+        }
+        patched.append(base, copiedUpTo, base.length());
+        return patched.toString();
     }
 
     @Override
+    @Transactional
     public void deletePost(UUID id) {
-        Post existingPost = getPost(id);
+        // The stored row, not a copy with a pending draft applied, which the delete would find stale
+        Post existingPost = postRepository.findWithDetailsById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Post does not exist"));
         postRepository.delete(existingPost);
+        postFingerprintService.deleteFingerprint(id);
+        postViewService.deleteViews(id);
+        postReaderService.deleteReaders(id);
+        postRevisionService.deleteRevisions(id);
+        eventPublisher.publishEvent(new PostDeletedEvent(id));
     }
 }
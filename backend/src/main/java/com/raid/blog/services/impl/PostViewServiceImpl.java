@@ -0,0 +1,147 @@
+package com.raid.blog.services.impl;
+
+import com.raid.blog.indexing.TrendingPosts;
+import com.raid.blog.repositories.PostStatsRepository;
+import com.raid.blog.services.PostViewService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts post views in memory and writes the accumulated deltas to post_stats in
+ * one batch per flush interval, so the read path never writes to the database.
+ * Views recorded since the last flush are lost if the process dies without
+ * shutting down, which bounds the loss to one interval.
+ * <p>
+ * Counters are never reset: a flush writes how much each one grew since the last
+ * flush, so views recorded while it reads them are written by the next one.
+ * Counters that saw no views for the idle timeout are dropped, and read once more
+ * by the next flush in case a view reached them after they were dropped.
+ */
+@Service
+@Timed("blog.service")
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewServiceImpl implements PostViewService {
+
+    private static final String INCREMENT_VIEWS =
+            "update post_stats set view_count = view_count + ? where post_id = ?";
+    private static final String INSERT_VIEWS =
+            "insert into post_stats (post_id, view_count) select id, ? from posts where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostStatsRepository postStatsRepository;
+    private final TrendingPosts trendingPosts;
+
+    @Value("${blog.posts.view-counts.idle-timeout:PT1M}")
+    private Duration idleTimeout = Duration.ofMinutes(1);
+
+    private final Map<UUID, PendingViews> pendingViews = new ConcurrentHashMap<>();
+    private final List<PendingViews> droppedViews = new ArrayList<>();
+
+    @Override
+    public void recordView(UUID postId) {
+        pendingViews.computeIfAbsent(postId, PendingViews::new).views.increment();
+        trendingPosts.recordInteraction(postId, 1.0);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${blog.posts.view-counts.flush-interval:PT5S}")
+    @Transactional
+    public void flushViews() {
+        Map<UUID, Long> deltasByPost = new HashMap<>();
+        synchronized (droppedViews) {
+            for (PendingViews views : droppedViews) {
+                long late = views.takeUnflushed();
+                if (late > 0) {
+                    deltasByPost.merge(views.postId, late, Long::sum);
+                }
+            }
+            droppedViews.clear();
+            long now = System.nanoTime();
+            pendingViews.forEach((postId, views) -> {
+                long delta = views.takeUnflushed();
+                if (delta > 0) {
+                    views.lastViewedAt = now;
+                    deltasByPost.merge(postId, delta, Long::sum);
+                } else if (now - views.lastViewedAt > idleTimeout.toNanos() && pendingViews.remove(postId, views)) {
+                    // Idle counters are dropped so the map only holds recently viewed posts
+                    droppedViews.add(views);
+                }
+            });
+        }
+        if (deltasByPost.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> deltas = new ArrayList<>();
+        deltasByPost.forEach((postId, delta) -> deltas.add(new Object[]{delta, postId}));
+
+        try {
+            int[] updated = jdbcTemplate.batchUpdate(INCREMENT_VIEWS, deltas);
+            List<Object[]> missing = new ArrayList<>();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    missing.add(deltas.get(i));
+                }
+            }
+            if (!missing.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_VIEWS, missing);
+            }
+        } catch (RuntimeException e) {
+            // Put the deltas back so the next flush retries them
+            deltas.forEach(delta -> pendingViews.computeIfAbsent((UUID) delta[1], PendingViews::new).views.add((long) delta[0]));
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteViews(UUID postId) {
+        pendingViews.remove(postId);
+        postStatsRepository.findById(postId).ifPresent(postStatsRepository::delete);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flushViews();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush pending post views on shutdown", e);
+        }
+    }
+
+    private static final class PendingViews {
+        private final UUID postId;
+        private final LongAdder views = new LongAdder();
+        // Only read and written by flushes, which hold the dropped views lock
+        private long flushed;
+        private long lastViewedAt = System.nanoTime();
+
+        private PendingViews(UUID postId) {
+            this.postId = postId;
+        }
+
+        private long takeUnflushed() {
+            long total = views.sum();
+            long unflushed = total - flushed;
+            flushed = total;
+            return unflushed;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.raid.blog.services.impl;
 
+import com.raid.blog.domain.TagNameNormalizer;
 import com.raid.blog.domain.entities.Post;
 import com.raid.blog.domain.entities.Tag;
+import com.raid.blog.indexing.TagNameIndex;
 import com.raid.blog.repositories.TagRepository;
 import com.raid.blog.services.TagService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -13,10 +16,12 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("blog.service")
 @RequiredArgsConstructor
 public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
+    private final TagNameIndex tagNameIndex;
 
     @Override
     public List<Tag> getTags() {
@@ -26,22 +31,46 @@ public class TagServiceImpl implements TagService {
     @Transactional
     @Override
     public List<Tag> createTags(Set<String> tagNames) {
-        var existingTags = tagRepository.findByNameIn(tagNames);
-        Set<String> existingTagNames = existingTags.stream()
-                .map(Tag::getName)
-                .collect(Collectors.toSet());
-
-        var newTags = tagNames.stream()
-                .filter(name -> !existingTagNames.contains(name))
-                .map(name -> Tag.builder().name(name).posts(new HashSet<>()).build())
+        Map<String, String> namesByKey = new LinkedHashMap<>();
+        tagNames.forEach(name -> namesByKey.putIfAbsent(TagNameNormalizer.normalize(name), name));
+
+        Map<String, Tag> tagsByKey = new LinkedHashMap<>();
+        for (Tag existingTag : tagRepository.findByNormalizedNameInOrNameIn(namesByKey.keySet(), tagNames)) {
+            tagsByKey.putIfAbsent(TagNameNormalizer.normalize(existingTag.getName()), existingTag);
+        }
+
+        Map<String, String> similarKeys = new HashMap<>();
+        namesByKey.keySet().stream()
+                .filter(key -> !tagsByKey.containsKey(key))
+                .forEach(key -> tagNameIndex.findSimilar(key).stream()
+                        .findFirst()
+                        .ifPresent(similarKey -> similarKeys.put(key, similarKey)));
+
+        if (!similarKeys.isEmpty()) {
+            Map<String, Tag> similarTags = tagRepository.findByNormalizedNameIn(similarKeys.values()).stream()
+                    .collect(Collectors.toMap(Tag::getNormalizedName, tag -> tag, (first, second) -> first));
+            similarKeys.forEach((key, similarKey) -> {
+                Tag similarTag = similarTags.get(similarKey);
+                if (similarTag != null) {
+                    tagsByKey.put(key, similarTag);
+                }
+            });
+        }
+
+        var newTags = namesByKey.entrySet().stream()
+                .filter(entry -> !tagsByKey.containsKey(entry.getKey()))
+                .map(entry -> Tag.builder().name(entry.getValue()).posts(new HashSet<>()).build())
                 .toList();
 
         List<Tag> savedTags = new ArrayList<>();
         if (!newTags.isEmpty()) {
             savedTags = tagRepository.saveAll(newTags);
+            savedTags.forEach(tag -> tagNameIndex.add(TagNameNormalizer.normalize(tag.getName())));
         }
 
-        savedTags.addAll(existingTags);
+        tagsByKey.values().stream()
+                .distinct()
+                .forEach(savedTags::add);
 
         return savedTags;
     }
@@ -55,6 +84,7 @@ public class TagServiceImpl implements TagService {
                 throw new IllegalStateException("Cannot delete tag with posts");
             }
             tagRepository.deleteById(id);
+            tagNameIndex.remove(TagNameNormalizer.normalize(tag.getName()));
         });
     }
 
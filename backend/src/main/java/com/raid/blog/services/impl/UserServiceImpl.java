@@ -3,6 +3,7 @@ package com.raid.blog.services.impl;
 import com.raid.blog.domain.entities.User;
 import com.raid.blog.repositories.UserRepository;
 import com.raid.blog.services.UserService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Service;
 import java.util.UUID;
 
 @Service
+@Timed("blog.service")
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
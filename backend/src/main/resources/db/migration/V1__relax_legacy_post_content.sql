@@ -0,0 +1,14 @@
+-- Post content moved to content_data and new rows leave the legacy content column empty.
+-- Databases created before then have it NOT NULL; fresh ones get it nullable from Hibernate
+-- after this has run, when there is no posts table yet.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema()
+                 AND table_name = 'posts'
+                 AND column_name = 'content'
+                 AND is_nullable = 'NO') THEN
+        ALTER TABLE posts ALTER COLUMN content DROP NOT NULL;
+    END IF;
+END
+$$;
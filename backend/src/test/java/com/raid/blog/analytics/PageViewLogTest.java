@@ -0,0 +1,133 @@
+package com.raid.blog.analytics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageViewLogTest {
+
+    @TempDir
+    private Path directory;
+
+    private PageViewLog pageViewLog;
+
+    @AfterEach
+    public void afterEach() throws Exception {
+        if (pageViewLog != null) {
+            pageViewLog.stop();
+        }
+    }
+
+    @Test
+    public void should_roll_full_segments_and_read_back_every_event() throws Exception {
+        // Arrange
+        pageViewLog = startLog(DataSize.ofKilobytes(4), Duration.ofMillis(100));
+        UUID postId = UUID.randomUUID();
+        UUID categoryId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            pageViewLog.record(postId, i % 4 == 0 ? categoryId : null, i % 2 == 0 ? userId : null,
+                    i % 3 == 0 ? "https://example.com/" + i : null);
+        }
+        List<PageViewEvent> events = awaitSealedEvents(200);
+
+        // Assert
+        assertEquals(200, events.size());
+        assertTrue(pageViewLog.sealedSegments().size() > 1);
+        assertEquals(postId, events.getFirst().postId());
+        assertEquals(categoryId, events.getFirst().categoryId());
+        assertEquals(userId, events.getFirst().userId());
+        assertEquals("https://example.com/0", events.getFirst().referrer());
+        assertNull(events.get(1).categoryId());
+        assertNull(events.get(1).userId());
+        assertNull(events.get(2).categoryId());
+        assertEquals(userId, events.get(2).userId());
+        assertNull(events.get(1).referrer());
+        assertEquals(0, pageViewLog.droppedEvents());
+    }
+
+    @Test
+    public void should_keep_writing_after_an_event_fails_to_write() throws Exception {
+        // Arrange
+        pageViewLog = startLog(DataSize.ofMegabytes(1), Duration.ofMillis(50));
+        UUID postId = UUID.randomUUID();
+
+        // Act
+        pageViewLog.record(null, null, null, null);
+        pageViewLog.record(postId, null, null, null);
+        List<PageViewEvent> events = awaitSealedEvents(1);
+
+        // Assert
+        assertEquals(List.of(postId), events.stream().map(PageViewEvent::postId).toList());
+        assertEquals(1, pageViewLog.droppedEvents());
+    }
+
+    @Test
+    public void should_seal_segments_older_than_max_age() throws Exception {
+        // Arrange
+        pageViewLog = startLog(DataSize.ofMegabytes(1), Duration.ofMillis(50));
+
+        // Act
+        pageViewLog.record(UUID.randomUUID(), null, null, null);
+        List<PageViewEvent> events = awaitSealedEvents(1);
+
+        // Assert
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    public void should_continue_after_rolled_up_segments_when_restarted() throws Exception {
+        // Arrange
+        pageViewLog = startLog(DataSize.ofMegabytes(1), Duration.ofMillis(50));
+        pageViewLog.record(UUID.randomUUID(), null, null, null);
+        awaitSealedEvents(1);
+        Path sealed = pageViewLog.sealedSegments().getFirst();
+        pageViewLog.markRolledUp(sealed);
+        pageViewLog.stop();
+
+        // Act
+        pageViewLog = startLog(DataSize.ofMegabytes(1), Duration.ofMillis(50));
+        pageViewLog.record(UUID.randomUUID(), null, null, null);
+        awaitSealedEvents(1);
+
+        // Assert
+        assertTrue(PageViewLog.sequenceOf(pageViewLog.sealedSegments().getLast()) > PageViewLog.sequenceOf(sealed));
+    }
+
+    private PageViewLog startLog(DataSize segmentSize, Duration segmentMaxAge) throws IOException {
+        PageViewLog log = new PageViewLog();
+        ReflectionTestUtils.setField(log, "directory", directory);
+        ReflectionTestUtils.setField(log, "segmentSize", segmentSize);
+        ReflectionTestUtils.setField(log, "segmentMaxAge", segmentMaxAge);
+        ReflectionTestUtils.setField(log, "bufferCapacity", 1024);
+        log.start();
+        return log;
+    }
+
+    private List<PageViewEvent> awaitSealedEvents(int atLeast) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            List<PageViewEvent> events = new ArrayList<>();
+            for (Path segment : pageViewLog.sealedSegments()) {
+                PageViewSegment.read(segment, events::add);
+            }
+            if (events.size() >= atLeast || System.currentTimeMillis() > deadline) {
+                return events;
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.raid.blog.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageViewRingBufferTest {
+
+    @Test
+    public void should_reject_offers_when_full() {
+        // Arrange
+        PageViewRingBuffer buffer = new PageViewRingBuffer(2);
+        PageViewEvent event = new PageViewEvent(UUID.randomUUID(), null, null, 0, null);
+
+        // Act
+        boolean first = buffer.offer(event);
+        boolean second = buffer.offer(event);
+        boolean third = buffer.offer(event);
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertSame(event, buffer.poll());
+        assertTrue(buffer.offer(event));
+    }
+
+    @Test
+    public void should_deliver_every_event_from_concurrent_producers_exactly_once() throws InterruptedException {
+        // Arrange
+        int producers = 4;
+        int eventsPerProducer = 20_000;
+        PageViewRingBuffer buffer = new PageViewRingBuffer(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    PageViewEvent event = new PageViewEvent(new UUID(producer, i), null, null, i, null);
+                    while (!buffer.offer(event)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+
+        // Act
+        start.countDown();
+        Set<UUID> received = new HashSet<>();
+        while (received.size() < producers * eventsPerProducer) {
+            PageViewEvent event = buffer.poll();
+            if (event != null) {
+                assertTrue(received.add(event.postId()));
+            }
+        }
+        executor.shutdown();
+
+        // Assert
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertNull(buffer.poll());
+    }
+}
@@ -0,0 +1,90 @@
+package com.raid.blog.analytics;
+
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Segments are sealed almost immediately, and only the explicit roll up below consumes them
+@SpringBootTest(properties = {
+        "blog.analytics.segment-max-age=PT0.05S",
+        "blog.analytics.rollup-interval=PT1H"
+})
+@Transactional
+public class PageViewRollupJobIntegrationTest {
+
+    @Autowired
+    private PageViewLog pageViewLog;
+
+    @Autowired
+    private PageViewRollupJob pageViewRollupJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void should_roll_up_sealed_segments_into_hourly_post_and_category_views() throws Exception {
+        // Arrange
+        UUID categoryId = UUID.randomUUID();
+        UUID laterCategoryId = UUID.randomUUID();
+        UUID firstPostId = UUID.randomUUID();
+        UUID secondPostId = UUID.randomUUID();
+        UUID draftPostId = UUID.randomUUID();
+
+        for (int i = 0; i < 3; i++) {
+            pageViewLog.record(firstPostId, categoryId, null, "https://example.com");
+        }
+        pageViewLog.record(secondPostId, categoryId, UUID.randomUUID(), null);
+        // Read again after it was moved to another category
+        pageViewLog.record(secondPostId, laterCategoryId, null, null);
+        pageViewLog.record(draftPostId, null, null, null);
+        awaitSealedEvents(6);
+        List<Path> sealedSegments = pageViewLog.sealedSegments();
+
+        // Act
+        pageViewRollupJob.rollUp();
+        pageViewRollupJob.rollUp();
+
+        // Assert
+        assertEquals(3L, sumOf("select sum(views) from post_hourly_views where post_id = ?", firstPostId));
+        assertEquals(2L, sumOf("select sum(views) from post_hourly_views where post_id = ?", secondPostId));
+        assertEquals(1L, sumOf("select sum(views) from post_hourly_views where post_id = ?", draftPostId));
+        assertEquals(4L, sumOf("select sum(views) from category_hourly_views where category_id = ?", categoryId));
+        assertEquals(1L, sumOf("select sum(views) from category_hourly_views where category_id = ?", laterCategoryId));
+        assertTrue(pageViewLog.sealedSegments().isEmpty());
+        assertFalse(pageViewLog.rolledUpSegments().isEmpty());
+        for (Path segment : sealedSegments) {
+            Path rolledUp = segment.resolveSibling(segment.getFileName().toString()
+                    .replace(PageViewLog.SEGMENT_SUFFIX, PageViewLog.ROLLED_UP_SUFFIX));
+            assertTrue(Files.size(rolledUp) < DataSize.ofMegabytes(16).toBytes());
+        }
+    }
+
+    private long sumOf(String sql, UUID id) {
+        Long sum = jdbcTemplate.queryForObject(sql, Long.class, id);
+        return sum != null ? sum : 0;
+    }
+
+    private void awaitSealedEvents(int count) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            int[] sealed = new int[1];
+            for (Path segment : pageViewLog.sealedSegments()) {
+                PageViewSegment.read(segment, event -> sealed[0]++);
+            }
+            if (sealed[0] >= count) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+}
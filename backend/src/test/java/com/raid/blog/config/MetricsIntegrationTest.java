@@ -0,0 +1,57 @@
+package com.raid.blog.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=prometheus",
+        "management.metrics.distribution.percentiles-histogram.http.server.requests=true",
+        "management.metrics.distribution.percentiles-histogram.spring.data.repository.invocations=true",
+        "management.metrics.distribution.percentiles-histogram.blog.service=true"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+public class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void should_expose_request_service_repository_pool_executor_and_cache_metrics_to_prometheus() throws Exception {
+        // Arrange
+        mockMvc.perform(get("/api/v1/categories")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/posts/" + UUID.randomUUID() + "/related"));
+
+        // Act
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Assert
+        assertMetric(scrape, "http_server_requests_seconds_bucket{", "uri=\"/api/v1/categories\"");
+        assertMetric(scrape, "blog_service_seconds_bucket{", "class=\"com.raid.blog.services.impl.CategoryServiceImpl\"");
+        assertMetric(scrape, "spring_data_repository_invocations_seconds_bucket{", "repository=\"CategoryRepository\"");
+        assertMetric(scrape, "hikaricp_connections_active{", "pool=");
+        assertMetric(scrape, "hikaricp_connections_pending{", "pool=");
+        assertMetric(scrape, "executor_queued_tasks{", "name=\"revisionExecutor\"");
+        assertMetric(scrape, "cache_gets_total{", "cache=\"related-posts\"");
+        assertMetric(scrape, "blog_analytics_events_pending ", "");
+    }
+
+    private static void assertMetric(String scrape, String name, String tag) {
+        assertTrue(scrape.lines().anyMatch(line -> line.startsWith(name) && line.contains(tag)),
+                () -> "No " + name + " sample with " + tag);
+    }
+}
@@ -0,0 +1,140 @@
+package com.raid.blog.contentstore;
+
+import com.raid.blog.domain.CreatePostRequest;
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.UpdatePostRequest;
+import com.raid.blog.domain.entities.Category;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.entities.User;
+import com.raid.blog.repositories.CategoryRepository;
+import com.raid.blog.repositories.PostRepository;
+import com.raid.blog.repositories.UserRepository;
+import com.raid.blog.services.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "blog.posts.content-store.enabled=true",
+        "blog.posts.content-store.directory=${java.io.tmpdir}/blog-content-store-test-${random.uuid}",
+        "blog.posts.content-store.compaction-interval=PT1H"
+})
+public class PostContentStoreIntegrationTest {
+
+    @Autowired
+    private PostContentStore postContentStore;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Category category;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Writer")
+                .email("store-" + UUID.randomUUID() + "@example.com")
+                .password("some password")
+                .build());
+        category = categoryRepository.save(Category.builder().name("Stored " + UUID.randomUUID()).build());
+        post = postService.createPost(user, CreatePostRequest.builder()
+                .title("Stored")
+                .content("Content written when the post was created")
+                .categoryId(category.getId())
+                .status(PostStatus.PUBLISHED)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.findById(post.getId()).ifPresent(existing -> postService.deletePost(existing.getId()));
+        categoryRepository.deleteById(category.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    public void should_serve_content_written_by_create_and_update_from_the_store() {
+        // Act
+        ByteBuffer created = postService.getPostContent(post.getId());
+        postService.updatePost(post.getId(), UpdatePostRequest.builder()
+                .title("Stored")
+                .content("Content written when the post was updated")
+                .categoryId(category.getId())
+                .tagIds(Set.of())
+                .status(PostStatus.PUBLISHED)
+                .build());
+        ByteBuffer updated = postService.getPostContent(post.getId());
+
+        // Assert
+        assertTrue(created.isDirect());
+        assertEquals("Content written when the post was created", text(created));
+        assertTrue(updated.isDirect());
+        assertEquals("Content written when the post was updated", text(updated));
+    }
+
+    @Test
+    public void should_serve_content_of_viewed_posts_from_the_store() {
+        // Arrange
+        jdbcTemplate.update("update posts set content_data = ? where id = ?",
+                "Content changed behind the store's back".getBytes(StandardCharsets.UTF_8), post.getId());
+
+        // Act
+        String content = postService.getContentText(postService.getPost(post.getId()));
+
+        // Assert
+        assertEquals("Content written when the post was created", content);
+    }
+
+    @Test
+    public void should_not_serve_content_of_deleted_posts() {
+        // Act
+        postService.deletePost(post.getId());
+
+        // Assert
+        assertTrue(postContentStore.read(post.getId(), 0).isEmpty());
+    }
+
+    @Test
+    public void should_rebuild_from_the_database() {
+        // Arrange
+        jdbcTemplate.update("update posts set content_data = ? where id = ?",
+                "Content changed behind the store's back".getBytes(StandardCharsets.UTF_8), post.getId());
+
+        // Act
+        int rebuilt = postContentStore.rebuild();
+
+        // Assert
+        assertTrue(rebuilt >= 1);
+        ByteBuffer content = postService.getPostContent(post.getId());
+        assertTrue(content.isDirect());
+        assertEquals("Content changed behind the store's back", text(content));
+    }
+
+    private static String text(ByteBuffer content) {
+        return StandardCharsets.UTF_8.decode(content.duplicate()).toString();
+    }
+}
@@ -0,0 +1,198 @@
+package com.raid.blog.contentstore;
+
+import com.raid.blog.domain.events.PostDeletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostContentStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    private PostContentStore store;
+
+    @AfterEach
+    public void afterEach() throws Exception {
+        if (store != null) {
+            store.stop();
+        }
+    }
+
+    @Test
+    public void should_serve_content_only_for_the_version_it_was_stored_with() throws Exception {
+        // Arrange
+        store = startStore(DataSize.ofMegabytes(1));
+        UUID postId = UUID.randomUUID();
+
+        // Act
+        store.put(postId, 1, bytes("First version"));
+        store.put(postId, 2, bytes("Second version"));
+        store.put(postId, 1, bytes("Late write of the first version"));
+
+        // Assert
+        assertTrue(store.read(postId, 1).isEmpty());
+        ByteBuffer content = store.read(postId, 2).orElseThrow();
+        assertTrue(content.isDirect());
+        assertTrue(content.isReadOnly());
+        assertEquals("Second version", text(content));
+        assertTrue(store.read(UUID.randomUUID(), 0).isEmpty());
+    }
+
+    @Test
+    public void should_recover_latest_content_and_removals_when_restarted() throws Exception {
+        // Arrange
+        store = startStore(DataSize.ofMegabytes(1));
+        UUID keptPostId = UUID.randomUUID();
+        UUID removedPostId = UUID.randomUUID();
+        store.put(keptPostId, 0, bytes("Original"));
+        store.put(keptPostId, 1, bytes("Edited"));
+        store.put(removedPostId, 0, bytes("Soon gone"));
+        store.onPostDeleted(new PostDeletedEvent(removedPostId));
+        store.stop();
+
+        // Act
+        store = startStore(DataSize.ofMegabytes(1));
+
+        // Assert
+        assertEquals("Edited", text(store.read(keptPostId, 1).orElseThrow()));
+        assertTrue(store.read(removedPostId, 0).isEmpty());
+    }
+
+    @Test
+    public void should_treat_a_record_with_a_bad_checksum_as_the_end_of_the_segment() throws Exception {
+        // Arrange
+        store = startStore(DataSize.ofMegabytes(1));
+        UUID intactPostId = UUID.randomUUID();
+        UUID damagedPostId = UUID.randomUUID();
+        store.put(intactPostId, 0, bytes("Intact content"));
+        store.put(damagedPostId, 0, bytes("Damaged content"));
+        store.stop();
+        Path segment = segmentFiles().getFirst();
+        byte[] file = Files.readAllBytes(segment);
+        file[indexOf(file, bytes("Damaged content"))] ^= 1;
+        Files.write(segment, file);
+
+        // Act
+        store = startStore(DataSize.ofMegabytes(1));
+        UUID laterPostId = UUID.randomUUID();
+        store.put(laterPostId, 0, bytes("Written after the restart"));
+
+        // Assert
+        assertEquals("Intact content", text(store.read(intactPostId, 0).orElseThrow()));
+        assertTrue(store.read(damagedPostId, 0).isEmpty());
+        assertEquals("Written after the restart", text(store.read(laterPostId, 0).orElseThrow()));
+    }
+
+    @Test
+    public void should_compact_segments_of_superseded_records() throws Exception {
+        // Arrange
+        store = startStore(DataSize.ofKilobytes(1));
+        UUID stablePostId = UUID.randomUUID();
+        UUID editedPostId = UUID.randomUUID();
+        store.put(stablePostId, 0, bytes("Never edited"));
+        for (int version = 0; version < 40; version++) {
+            store.put(editedPostId, version, bytes("Edit number " + version + " of a frequently edited post"));
+        }
+        ByteBuffer sliceBeforeCompaction = store.read(stablePostId, 0).orElseThrow();
+        List<Path> segmentsBefore = segmentFiles();
+
+        // Act
+        store.compact();
+
+        // Assert
+        List<Path> segmentsAfter = segmentFiles();
+        assertTrue(segmentsBefore.size() > 2);
+        assertTrue(segmentsAfter.size() < segmentsBefore.size());
+        assertFalse(segmentsAfter.contains(segmentsBefore.getFirst()));
+        assertEquals("Never edited", text(store.read(stablePostId, 0).orElseThrow()));
+        assertEquals("Never edited", text(sliceBeforeCompaction));
+        assertEquals("Edit number 39 of a frequently edited post", text(store.read(editedPostId, 39).orElseThrow()));
+
+        // Act
+        store.stop();
+        store = startStore(DataSize.ofKilobytes(1));
+
+        // Assert
+        assertEquals("Never edited", text(store.read(stablePostId, 0).orElseThrow()));
+        assertEquals("Edit number 39 of a frequently edited post", text(store.read(editedPostId, 39).orElseThrow()));
+    }
+
+    @Test
+    public void should_keep_removals_while_older_segments_hold_the_removed_post() throws Exception {
+        // Arrange
+        store = startStore(DataSize.ofKilobytes(1));
+        UUID stablePostId = UUID.randomUUID();
+        UUID removedPostId = UUID.randomUUID();
+        UUID editedPostId = UUID.randomUUID();
+        store.put(stablePostId, 0, bytes("x".repeat(700)));
+        store.put(removedPostId, 0, bytes("Removed after it was stored"));
+        store.put(editedPostId, 0, bytes("y".repeat(300)));
+        store.onPostDeleted(new PostDeletedEvent(removedPostId));
+        for (int version = 1; version < 4; version++) {
+            store.put(editedPostId, version, bytes("y".repeat(300)));
+        }
+        List<Path> segmentsBefore = segmentFiles();
+
+        // Act
+        store.compact();
+        store.stop();
+        store = startStore(DataSize.ofKilobytes(1));
+
+        // Assert
+        List<Path> segmentsAfter = segmentFiles();
+        assertTrue(segmentsAfter.contains(segmentsBefore.getFirst()));
+        assertFalse(segmentsAfter.contains(segmentsBefore.get(1)));
+        assertTrue(store.read(removedPostId, 0).isEmpty());
+        assertEquals("x".repeat(700), text(store.read(stablePostId, 0).orElseThrow()));
+    }
+
+    private PostContentStore startStore(DataSize segmentSize) throws IOException {
+        PostContentStore contentStore = new PostContentStore(null, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(contentStore, "enabled", true);
+        ReflectionTestUtils.setField(contentStore, "directory", directory);
+        ReflectionTestUtils.setField(contentStore, "segmentSize", segmentSize);
+        contentStore.start();
+        return contentStore;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(PostContentStore.SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static int indexOf(byte[] file, byte[] part) {
+        for (int i = 0; i + part.length <= file.length; i++) {
+            if (Arrays.equals(file, i, i + part.length, part, 0, part.length)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Part not found");
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(ByteBuffer content) {
+        return StandardCharsets.UTF_8.decode(content.duplicate()).toString();
+    }
+}
@@ -9,10 +9,12 @@ import com.raid.blog.domain.dtos.LoginRequest;
 import com.raid.blog.domain.dtos.RegisterRequest;
 import com.raid.blog.domain.entities.User;
 import com.raid.blog.repositories.UserRepository;
+import com.raid.blog.support.RecordingRequestFilter;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.client.RestClientException;
@@ -20,9 +22,11 @@ import org.springframework.web.client.RestClientException;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.raid.blog.support.QueryBudget.assertStatementCount;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(RecordingRequestFilter.class)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class AuthControllerIntegrationTest {
@@ -52,13 +56,14 @@ public class AuthControllerIntegrationTest {
     }
 
     @Test
-    public void should_authenticate_existing_user_with_valid_credentials() throws JsonProcessingException {
+    public void should_authenticate_existing_user_with_valid_credentials() throws Exception {
         LoginRequest loginRequest = LoginRequest.builder()
                 .email("raid@mail.com")
                 .password("password")
                 .build();
 
-        ResponseEntity<String> response = sendPostRequest(loginRequest, "/api/v1/auth");
+        // The user is read once, to check the password
+        ResponseEntity<String> response = assertStatementCount(1, () -> sendPostRequest(loginRequest, "/api/v1/auth"));
 
         if (response.getStatusCode().is2xxSuccessful()) {
             assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -144,14 +149,14 @@ public class AuthControllerIntegrationTest {
     }
 
     @Test
-    public void should_register_a_new_user() throws JsonProcessingException {
+    public void should_register_a_new_user() throws Exception {
         RegisterRequest request = RegisterRequest.builder()
                 .name("Raid")
                 .email("raid2@mail.com")
                 .password("password")
                 .build();
 
-        ResponseEntity<String> response = sendPostRequest(request, "/api/v1/auth/register");
+        ResponseEntity<String> response = assertStatementCount(2, () -> sendPostRequest(request, "/api/v1/auth/register"));
 
         if (response.getStatusCode().is2xxSuccessful()) {
             assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
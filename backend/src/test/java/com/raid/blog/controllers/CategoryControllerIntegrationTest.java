@@ -23,12 +23,14 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import static com.raid.blog.support.QueryBudget.assertStatementCount;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -108,6 +110,40 @@ public class CategoryControllerIntegrationTest {
         assertEquals("Category 2", categoryDtos.getLast().getName());
     }
 
+    @Test
+    public void should_list_categories_with_a_fixed_number_of_statements() throws Exception {
+        // Arrange
+        User author = userRepository.findByEmail("user@mail.com").orElseThrow();
+        List<Category> categories = new ArrayList<>(categoryRepository.findAll());
+        for (int i = 3; i <= 10; i++) {
+            categories.add(categoryRepository.save(Category.builder().name("Category " + i).build()));
+        }
+        for (int i = 0; i < 30; i++) {
+            postRepository.save(Post.builder()
+                    .title("Title " + i)
+                    .content("Content " + i)
+                    .category(categories.get(i % categories.size()))
+                    .author(author)
+                    .readingTime(1)
+                    .status(i % 4 == 0 ? PostStatus.DRAFT : PostStatus.PUBLISHED)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        // Posts are fetched with the categories to count the published ones
+        MvcResult mvcResult = assertStatementCount(1, () -> mockMvc.perform(get("/api/v1/categories"))
+                .andExpect(status().isOk())
+                .andReturn());
+
+        // Assert
+        List<CategoryDto> categoryDtos = objectMapper.readValue(mvcResult.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+        assertEquals(10, categoryDtos.size());
+        assertEquals(23, categoryDtos.stream().mapToLong(CategoryDto::getPostCount).sum());
+    }
+
     @WithMockUser
     @Test
     public void should_create_new_category_with_valid_request() throws Exception {
@@ -1,18 +1,27 @@
 package com.raid.blog.controllers;
 
+import com.raid.blog.analytics.PageViewLog;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.raid.blog.config.TestSecurityConfig;
 import com.raid.blog.domain.CreatePostRequest;
+import com.raid.blog.domain.PostFacets;
+import com.raid.blog.domain.PostFilter;
+import com.raid.blog.domain.PostRevisionContent;
 import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.TagMatch;
 import com.raid.blog.domain.dtos.*;
 import com.raid.blog.domain.entities.Category;
 import com.raid.blog.domain.entities.Post;
 import com.raid.blog.domain.entities.Tag;
 import com.raid.blog.domain.entities.User;
 import com.raid.blog.mappers.PostMapper;
+import com.raid.blog.mappers.PostRevisionMapper;
 import com.raid.blog.services.AuthenticationService;
+import com.raid.blog.services.PostReaderService;
+import com.raid.blog.services.PostRevisionService;
 import com.raid.blog.services.PostService;
+import com.raid.blog.services.PostViewService;
 import com.raid.blog.services.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
@@ -24,14 +33,22 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PostController.class)
@@ -53,6 +70,21 @@ class PostControllerTest {
     @MockitoBean
     private PostMapper postMapper;
 
+    @MockitoBean
+    private PostViewService postViewService;
+
+    @MockitoBean
+    private PostReaderService postReaderService;
+
+    @MockitoBean
+    private PostRevisionService postRevisionService;
+
+    @MockitoBean
+    private PostRevisionMapper postRevisionMapper;
+
+    @MockitoBean
+    private PageViewLog pageViewLog;
+
     @MockitoBean
     private AuthenticationService authenticationService;
 
@@ -89,7 +121,12 @@ class PostControllerTest {
         List<Post> expectedPosts = List.of(post1, post2);
 
         // What to return
-        given(postService.getAllPosts(categoryId, tagId)).willReturn(expectedPosts);
+        PostFilter expectedFilter = PostFilter.builder()
+                .categoryIds(Set.of(categoryId))
+                .tagIds(Set.of(tagId))
+                .tagMatch(TagMatch.ANY)
+                .build();
+        given(postService.getAllPosts(expectedFilter)).willReturn(expectedPosts);
         given(postMapper.toDto(post1)).willReturn(post1Dto);
         given(postMapper.toDto(post2)).willReturn(post2Dto);
 
@@ -110,17 +147,56 @@ class PostControllerTest {
         assertEquals(post2Dto, returnedPosts.getLast());
     }
 
+    @WithMockUser
+    @Test
+    public void should_count_facets_for_the_author_and_creation_date_range() throws Exception {
+        // Arrange
+        UUID authorId = UUID.randomUUID();
+        UUID categoryId = UUID.randomUUID();
+        LocalDateTime createdFrom = LocalDateTime.of(2025, 8, 1, 0, 0);
+        LocalDateTime createdTo = LocalDateTime.of(2025, 9, 1, 0, 0);
+        PostFilter expectedFilter = PostFilter.builder()
+                .categoryIds(Set.of())
+                .tagIds(Set.of())
+                .tagMatch(TagMatch.ANY)
+                .authorId(authorId)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .build();
+        PostFacets facets = PostFacets.builder().total(1).categories(Map.of(categoryId, 1L)).build();
+        PostFacetsDto facetsDto = PostFacetsDto.builder().total(1).categories(Map.of(categoryId, 1L)).tags(Map.of()).build();
+
+        // What to return
+        given(postService.getFacetCounts(expectedFilter)).willReturn(facets);
+        given(postMapper.toDto(facets)).willReturn(facetsDto);
+
+        // Act and expect
+        MvcResult mvcResult = mockMvc
+                .perform(
+                        get("/api/v1/posts/facets")
+                                .param("authorId", String.valueOf(authorId))
+                                .param("createdFrom", "2025-08-01T00:00:00")
+                                .param("createdTo", "2025-09-01T00:00:00")
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+        PostFacetsDto returnedFacets = objectMapper.readValue(mvcResult.getResponse().getContentAsString(), PostFacetsDto.class);
+        assertEquals(facetsDto, returnedFacets);
+    }
+
     @WithMockUser
     @Test
     public void should_get_existing_post_by_id() throws Exception {
         // Arrange
         UUID postId = UUID.randomUUID();
-        Post post = Post.builder().id(postId).build();
+        Category category = Category.builder().id(UUID.randomUUID()).build();
+        Post post = Post.builder().id(postId).status(PostStatus.PUBLISHED).category(category).build();
         PostDto postDto = PostDto.builder().id(postId).build();
 
         // What to return
         given(postService.getPost(postId)).willReturn(post);
-        given(postMapper.toDto(post)).willReturn(postDto);
+        given(postService.getContentText(post)).willReturn("Content");
+        given(postMapper.toDto(post, "Content")).willReturn(postDto);
 
         // Act and expect
         MvcResult mvcResult = mockMvc
@@ -133,6 +209,9 @@ class PostControllerTest {
         PostDto returnedPostDto = objectMapper.readValue(responseJson, PostDto.class);
         assertNotNull(returnedPostDto);
         assertEquals(postDto, returnedPostDto);
+        verify(postViewService, times(1)).recordView(postId);
+        verify(postReaderService, times(1)).recordReader(eq(postId), startsWith("client:"));
+        verify(pageViewLog, times(1)).record(postId, category.getId(), null, null);
     }
 
     @WithMockUser
@@ -150,6 +229,71 @@ class PostControllerTest {
                         get("/api/v1/posts/" + postId)
                 )
                 .andExpect(status().isNotFound());
+        verifyNoInteractions(postViewService, postReaderService, pageViewLog);
+    }
+
+    @WithMockUser
+    @Test
+    public void should_get_post_content_as_plain_text() throws Exception {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        ByteBuffer body = ByteBuffer.allocateDirect(64);
+        body.put("Content with ünïcödé".getBytes(StandardCharsets.UTF_8)).flip();
+
+        // What to return
+        given(postService.getPostContent(postId)).willReturn(body.asReadOnlyBuffer());
+
+        // Act and expect
+        MvcResult mvcResult = mockMvc
+                .perform(
+                        get("/api/v1/posts/" + postId + "/content")
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/plain;charset=UTF-8"))
+                .andReturn();
+        assertEquals("Content with ünïcödé", mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(body.limit(), mvcResult.getResponse().getContentLength());
+        verifyNoInteractions(postViewService, postReaderService, pageViewLog);
+    }
+
+    @WithMockUser
+    @Test
+    public void should_get_post_revision() throws Exception {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        PostRevisionContent revision = PostRevisionContent.builder().postId(postId).revision(3).content("Content").build();
+        PostRevisionDto revisionDto = PostRevisionDto.builder().postId(postId).revision(3).content("Content").build();
+
+        // What to return
+        given(postRevisionService.getRevision(postId, 3)).willReturn(revision);
+        given(postRevisionMapper.toDto(revision)).willReturn(revisionDto);
+
+        // Act and expect
+        MvcResult mvcResult = mockMvc
+                .perform(
+                        get("/api/v1/posts/" + postId + "/revisions/3")
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+        String responseJson = mvcResult.getResponse().getContentAsString();
+        assertEquals(revisionDto, objectMapper.readValue(responseJson, PostRevisionDto.class));
+    }
+
+    @WithMockUser
+    @Test
+    public void should_fail_when_getting_missing_post_revision() throws Exception {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+
+        // What to return
+        given(postRevisionService.getRevision(postId, 7)).willThrow(new EntityNotFoundException("Revision does not exist"));
+
+        // Act and expect
+        mockMvc
+                .perform(
+                        get("/api/v1/posts/" + postId + "/revisions/7")
+                )
+                .andExpect(status().isNotFound());
     }
 
     @WithMockUser
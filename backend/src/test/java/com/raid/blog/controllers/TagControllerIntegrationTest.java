@@ -6,10 +6,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.raid.blog.domain.dtos.*;
 import com.raid.blog.repositories.TagRepository;
+import com.raid.blog.support.RecordingRequestFilter;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.*;
 import org.springframework.web.client.RestClientException;
 
@@ -19,9 +21,11 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static com.raid.blog.support.QueryBudget.assertStatementCount;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(RecordingRequestFilter.class)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class TagControllerIntegrationTest {
@@ -198,8 +202,8 @@ public class TagControllerIntegrationTest {
 
     @Test
     @Order(2)
-    public void should_list_all_tags() throws JsonProcessingException {
-        ResponseEntity<String> response = getAllTags();
+    public void should_list_all_tags() throws Exception {
+        ResponseEntity<String> response = assertStatementCount(2, this::getAllTags);
 
         var statusCode = response.getStatusCode();
         if (statusCode.is2xxSuccessful()) {
@@ -0,0 +1,88 @@
+package com.raid.blog.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentAnalysisTest {
+
+    @Test
+    public void should_count_words_separated_by_any_whitespace() {
+        // Arrange
+        String content = "  Spring Boot\tmakes it\n\neasy to create   stand-alone applications.  ";
+
+        // Act
+        ContentAnalysis analysis = ContentAnalysis.of(content);
+
+        // Assert
+        assertEquals(9, analysis.wordCount());
+        assertEquals(1, analysis.readingTime());
+        assertEquals(content.length(), analysis.characterCount());
+        assertEquals("Spring Boot makes it easy to create stand-alone applications.", analysis.excerpt());
+    }
+
+    @Test
+    public void should_round_reading_time_up_to_whole_minutes() {
+        // Act & Assert
+        assertEquals(1, ContentAnalysis.of("word ".repeat(200)).readingTime());
+        assertEquals(2, ContentAnalysis.of("word ".repeat(201)).readingTime());
+        assertEquals(3, ContentAnalysis.of("word ".repeat(600)).readingTime());
+    }
+
+    @Test
+    public void should_analyze_empty_and_blank_content_as_no_words() {
+        // Act & Assert
+        assertEquals(0, ContentAnalysis.of(null).wordCount());
+        assertEquals(0, ContentAnalysis.of("").readingTime());
+        ContentAnalysis blank = ContentAnalysis.of(" \n\t ");
+        assertEquals(0, blank.wordCount());
+        assertEquals(0, blank.readingTime());
+        assertEquals("", blank.excerpt());
+    }
+
+    @Test
+    public void should_strip_markdown_markers_from_the_excerpt() {
+        // Arrange
+        String content = "## Getting started\n\n> Read this **first**, then run `mvn test`.\n# Not a heading # here";
+
+        // Act
+        ContentAnalysis analysis = ContentAnalysis.of(content);
+
+        // Assert
+        assertEquals("Getting started Read this first, then run mvn test. Not a heading # here", analysis.excerpt());
+        assertEquals(17, analysis.wordCount());
+    }
+
+    @Test
+    public void should_cut_long_excerpts_at_a_word_boundary() {
+        // Arrange
+        String content = "Repositories hide the queries behind interfaces. ".repeat(20);
+
+        // Act
+        ContentAnalysis analysis = ContentAnalysis.of(content);
+
+        // Assert
+        String excerpt = analysis.excerpt();
+        assertTrue(excerpt.length() <= ContentAnalysis.EXCERPT_LENGTH + 1);
+        assertTrue(excerpt.endsWith("…"));
+        assertFalse(excerpt.endsWith(" …"));
+        assertTrue(content.startsWith(excerpt.substring(0, excerpt.length() - 1)));
+        assertEquals(120, analysis.wordCount());
+    }
+
+    @Test
+    public void should_count_code_points_and_keep_surrogate_pairs_whole() {
+        // Arrange
+        String content = "😀".repeat(ContentAnalysis.EXCERPT_LENGTH);
+
+        // Act
+        ContentAnalysis analysis = ContentAnalysis.of(content);
+
+        // Assert
+        assertEquals(ContentAnalysis.EXCERPT_LENGTH, analysis.characterCount());
+        assertEquals(1, analysis.wordCount());
+        String excerpt = analysis.excerpt();
+        assertEquals(ContentAnalysis.EXCERPT_LENGTH / 2, excerpt.codePointCount(0, excerpt.length() - 1));
+        assertFalse(Character.isHighSurrogate(excerpt.charAt(excerpt.length() - 2)));
+    }
+}
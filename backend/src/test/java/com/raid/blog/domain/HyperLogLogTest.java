@@ -0,0 +1,79 @@
+package com.raid.blog.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    public void should_estimate_cardinality_within_a_few_percent() {
+        // Arrange
+        HyperLogLog sketch = new HyperLogLog();
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            sketch.offer("user:" + i);
+            sketch.offer("user:" + i);
+        }
+
+        // Assert
+        assertEquals(100_000, sketch.estimate(), 100_000 * 0.05);
+    }
+
+    @Test
+    public void should_count_small_sets_closely() {
+        // Arrange
+        HyperLogLog sketch = new HyperLogLog();
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            sketch.offer("client:10.0.0." + i);
+        }
+
+        // Assert
+        assertEquals(50, sketch.estimate(), 50 * 0.05);
+    }
+
+    @Test
+    public void should_merge_overlapping_sketches_as_union() {
+        // Arrange
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 30_000; i++) {
+            first.offer("user:" + i);
+        }
+        for (int i = 20_000; i < 50_000; i++) {
+            second.offer("user:" + i);
+        }
+
+        // Act
+        first.merge(second);
+
+        // Assert
+        assertEquals(50_000, first.estimate(), 50_000 * 0.05);
+    }
+
+    @Test
+    public void should_round_trip_sparse_and_dense_encodings() {
+        // Arrange
+        HyperLogLog sparse = new HyperLogLog();
+        HyperLogLog dense = new HyperLogLog();
+        for (int i = 0; i < 10; i++) {
+            sparse.offer("user:" + i);
+        }
+        for (int i = 0; i < 20_000; i++) {
+            dense.offer("user:" + i);
+        }
+
+        // Act
+        byte[] sparseBytes = sparse.toBytes();
+        byte[] denseBytes = dense.toBytes();
+
+        // Assert
+        assertTrue(sparseBytes.length < 40);
+        assertEquals(2 + (1 << HyperLogLog.PRECISION), denseBytes.length);
+        assertEquals(sparse, HyperLogLog.fromBytes(sparseBytes));
+        assertEquals(dense, HyperLogLog.fromBytes(denseBytes));
+    }
+}
@@ -0,0 +1,78 @@
+package com.raid.blog.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostContentTest {
+
+    private static final String ARTICLE = "Long-form articles about Spring Boot, JPA and PostgreSQL repeat a lot of words. ".repeat(100);
+
+    @Test
+    public void should_deflate_content_above_threshold() {
+        // Arrange
+        PostContent content = PostContent.of(ARTICLE);
+
+        // Act
+        byte[] stored = content.encode(4096, 6);
+
+        // Assert
+        assertEquals((byte) 0xFF, stored[0]);
+        assertTrue(stored.length < ARTICLE.length() / 4, "stored " + stored.length + " bytes");
+        assertEquals(ARTICLE, PostContent.fromStored(stored).text());
+    }
+
+    @Test
+    public void should_store_content_below_threshold_as_utf8() {
+        // Arrange
+        String text = "Short post with an emoji 😀";
+
+        // Act
+        byte[] stored = PostContent.of(text).encode(4096, 6);
+
+        // Assert
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), stored);
+        assertEquals(text, PostContent.fromStored(stored).text());
+    }
+
+    @Test
+    public void should_keep_utf8_when_deflating_does_not_pay_off() {
+        // Arrange
+        String text = "Short, all distinct: qwzxjvkp";
+
+        // Act
+        byte[] stored = PostContent.of(text).encode(16, 6);
+
+        // Assert
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), stored);
+        assertEquals(text, PostContent.fromStored(stored).text());
+    }
+
+    @Test
+    public void should_tell_whether_stored_content_matches_settings() {
+        // Arrange
+        PostContent compressed = PostContent.fromStored(PostContent.of(ARTICLE).encode(4096, 6));
+        PostContent plain = PostContent.fromStored(PostContent.of(ARTICLE).encode(-1, 6));
+
+        // Act & Assert
+        assertTrue(compressed.isStoredAs(4096, 6));
+        assertFalse(compressed.isStoredAs(-1, 6));
+        assertFalse(compressed.isStoredAs(ARTICLE.length() + 1, 6));
+        assertTrue(plain.isStoredAs(-1, 6));
+        assertFalse(plain.isStoredAs(4096, 6));
+        assertFalse(PostContent.of(ARTICLE).isStoredAs(-1, 6));
+    }
+
+    @Test
+    public void should_compare_by_text_regardless_of_encoding() {
+        // Arrange
+        PostContent compressed = PostContent.fromStored(PostContent.of(ARTICLE).encode(0, 6));
+        PostContent plain = PostContent.of(ARTICLE);
+
+        // Act & Assert
+        assertEquals(plain, compressed);
+        assertEquals(plain.hashCode(), compressed.hashCode());
+    }
+}
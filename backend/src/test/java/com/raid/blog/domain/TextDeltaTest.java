@@ -0,0 +1,118 @@
+package com.raid.blog.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextDeltaTest {
+
+    private static final String PARAGRAPH = "Spring Boot makes it easy to create stand-alone applications that you can just run. ";
+
+    @Test
+    public void should_encode_small_edit_in_a_fraction_of_the_content() {
+        // Arrange
+        String base = PARAGRAPH.repeat(40);
+        String target = base.substring(0, 1000) + "a few inserted words " + base.substring(1010);
+
+        // Act
+        byte[] delta = TextDelta.diff(base, target);
+
+        // Assert
+        assertEquals(target, TextDelta.apply(base, delta));
+        assertTrue(delta.length < 40, "delta was " + delta.length + " bytes");
+    }
+
+    @Test
+    public void should_copy_moved_paragraphs_instead_of_inserting_them() {
+        // Arrange
+        String first = "The first paragraph talks about entities and repositories in some detail.\n";
+        String second = "The second paragraph explains how the controllers map requests to services.\n";
+        String third = "The third paragraph closes with a few words about testing the whole thing.\n";
+        String base = first + second + third;
+        String target = third + first + second;
+
+        // Act
+        byte[] delta = TextDelta.diff(base, target);
+
+        // Assert
+        assertEquals(target, TextDelta.apply(base, delta));
+        assertTrue(delta.length < target.length() / 4, "delta was " + delta.length + " bytes");
+    }
+
+    @Test
+    public void should_round_trip_unrelated_and_empty_texts() {
+        // Arrange
+        String text = "Completely different content";
+
+        // Act & Assert
+        assertEquals(text, TextDelta.apply("", TextDelta.diff("", text)));
+        assertEquals("", TextDelta.apply(text, TextDelta.diff(text, "")));
+        assertEquals(text, TextDelta.apply(PARAGRAPH, TextDelta.diff(PARAGRAPH, text)));
+        assertEquals(text, TextDelta.apply(text, TextDelta.diff(text, text)));
+    }
+
+    @Test
+    public void should_never_split_surrogate_pairs() {
+        // Arrange
+        String base = "Emoji 😀 in the middle of a sentence that repeats 😁 a few times. ".repeat(5);
+        String target = base.replace("😀", "😂");
+
+        // Act
+        byte[] delta = TextDelta.diff(base, target);
+
+        // Assert
+        assertEquals(target, TextDelta.apply(base, delta));
+    }
+
+    @Test
+    public void should_round_trip_random_edits() {
+        // Arrange
+        Random random = new Random(42);
+        String alphabet = "abcde 😀\n";
+
+        for (int run = 0; run < 500; run++) {
+            String base = randomText(random, alphabet, random.nextInt(300));
+            StringBuilder target = new StringBuilder(base);
+            for (int edit = 0; edit < 1 + random.nextInt(5); edit++) {
+                int position = random.nextInt(target.length() + 1);
+                if (random.nextBoolean() && position < target.length()) {
+                    target.delete(position, Math.min(target.length(), position + random.nextInt(20)));
+                } else {
+                    target.insert(position, randomText(random, alphabet, random.nextInt(20)));
+                }
+            }
+            if (!isWellFormed(target.toString())) {
+                // Edits landing inside a surrogate pair produce text no post could contain
+                continue;
+            }
+
+            // Act
+            byte[] delta = TextDelta.diff(base, target.toString());
+
+            // Assert
+            assertEquals(target.toString(), TextDelta.apply(base, delta));
+            assertTrue(delta.length <= target.toString().getBytes(StandardCharsets.UTF_8).length + 16);
+        }
+    }
+
+    private static boolean isWellFormed(String text) {
+        return text.equals(new String(text.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < length) {
+            int index = random.nextInt(alphabet.length());
+            char c = alphabet.charAt(index);
+            if (Character.isHighSurrogate(c)) {
+                text.append(c).append(alphabet.charAt(index + 1));
+            } else if (!Character.isLowSurrogate(c)) {
+                text.append(c);
+            }
+        }
+        return text.toString();
+    }
+}
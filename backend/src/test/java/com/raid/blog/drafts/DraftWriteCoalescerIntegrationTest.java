@@ -0,0 +1,224 @@
+package com.raid.blog.drafts;
+
+import com.raid.blog.domain.PatchPostContentRequest;
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.TextOperation;
+import com.raid.blog.domain.UpdatePostRequest;
+import com.raid.blog.domain.entities.Category;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.entities.Tag;
+import com.raid.blog.domain.entities.User;
+import com.raid.blog.repositories.CategoryRepository;
+import com.raid.blog.repositories.PostRepository;
+import com.raid.blog.repositories.TagRepository;
+import com.raid.blog.repositories.UserRepository;
+import com.raid.blog.services.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Drafts are only written by the explicit flushes below, as the scheduled flush and the quiet period are pushed out
+@SpringBootTest(properties = {
+        "blog.posts.draft-coalescing.enabled=true",
+        "blog.posts.draft-coalescing.tick=PT1H",
+        "blog.posts.draft-coalescing.quiet-period=PT1H",
+        "blog.posts.draft-coalescing.max-delay=PT1H",
+        "blog.posts.draft-coalescing.max-updates=3",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class DraftWriteCoalescerIntegrationTest {
+
+    @Autowired
+    private DraftWriteCoalescer draftWriteCoalescer;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private Category category;
+    private Post draft;
+    private Tag tag;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Writer")
+                .email("writer-" + UUID.randomUUID() + "@example.com")
+                .password("some password")
+                .build());
+        category = categoryRepository.save(Category.builder().name("Drafts " + UUID.randomUUID()).build());
+        draft = postRepository.save(Post.builder()
+                .title("Draft")
+                .content("The first version of a draft")
+                .status(PostStatus.DRAFT)
+                .readingTime(1)
+                .author(user)
+                .category(category)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        draftWriteCoalescer.discard(draft.getId());
+        postRepository.deleteById(draft.getId());
+        if (tag != null) {
+            tagRepository.deleteById(tag.getId());
+        }
+        categoryRepository.deleteById(category.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    public void should_serve_pending_draft_and_write_it_once() {
+        // Arrange
+        double updatesBefore = meterRegistry.get("blog.posts.draft.updates").counter().count();
+        double writesBefore = meterRegistry.get("blog.posts.draft.writes").counter().count();
+
+        // Act
+        postService.updatePost(draft.getId(), draftUpdate("The second version of a draft"));
+        Post returnedPost = postService.updatePost(draft.getId(), draftUpdate("The third version of a draft"));
+
+        // Assert
+        assertEquals("The third version of a draft", returnedPost.getContent());
+        assertEquals("The first version of a draft", contentOf(draft.getId()));
+
+        Post readPost = postService.getPost(draft.getId());
+        assertEquals("The third version of a draft", readPost.getContent());
+        assertEquals(draft.getVersion() + 1, readPost.getVersion());
+
+        // Act
+        draftWriteCoalescer.flushDue(Instant.now().plus(Duration.ofHours(2)));
+
+        // Assert
+        Post storedPost = postRepository.findById(draft.getId()).orElseThrow();
+        assertEquals("The third version of a draft", contentOf(draft.getId()));
+        assertEquals(draft.getVersion() + 1, storedPost.getVersion());
+        assertTrue(draftWriteCoalescer.pending(draft.getId()).isEmpty());
+        assertEquals(2, meterRegistry.get("blog.posts.draft.updates").counter().count() - updatesBefore);
+        assertEquals(1, meterRegistry.get("blog.posts.draft.writes").counter().count() - writesBefore);
+    }
+
+    @Test
+    public void should_write_draft_once_max_updates_are_absorbed() {
+        // Arrange
+        postService.updatePost(draft.getId(), draftUpdate("The second version of a draft"));
+        postService.updatePost(draft.getId(), draftUpdate("The third version of a draft"));
+
+        // Act
+        draftWriteCoalescer.flushDue(Instant.now());
+        String contentBeforeCap = contentOf(draft.getId());
+        postService.updatePost(draft.getId(), draftUpdate("The fourth version of a draft"));
+        draftWriteCoalescer.flushDue(Instant.now());
+
+        // Assert
+        assertEquals("The first version of a draft", contentBeforeCap);
+        assertEquals("The fourth version of a draft", contentOf(draft.getId()));
+    }
+
+    @Test
+    public void should_write_pending_draft_before_patching_it() {
+        // Arrange
+        postService.updatePost(draft.getId(), draftUpdate("The second version of a draft"));
+        Post readPost = postService.getPost(draft.getId());
+
+        PatchPostContentRequest patchRequest = PatchPostContentRequest.builder()
+                .baseVersion(readPost.getVersion())
+                .operations(List.of(TextOperation.builder().position(4).deleteCount(6).insert("final").build()))
+                .build();
+
+        // Act
+        Post patchedPost = postService.patchPostContent(draft.getId(), patchRequest);
+
+        // Assert
+        assertEquals("The final version of a draft", contentOf(draft.getId()));
+        assertEquals(readPost.getVersion() + 1, patchedPost.getVersion());
+        assertTrue(draftWriteCoalescer.pending(draft.getId()).isEmpty());
+    }
+
+    @Test
+    public void should_not_rewrite_the_tags_of_a_draft_when_they_are_unchanged() {
+        // Arrange
+        tag = tagRepository.save(Tag.builder().name("Drafted " + UUID.randomUUID()).build());
+        postService.updatePost(draft.getId(), draftUpdate("The second version of a draft", Set.of(tag.getId())));
+        draftWriteCoalescer.flush(draft.getId());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        postService.updatePost(draft.getId(), draftUpdate("The third version of a draft", Set.of(tag.getId())));
+
+        // Act
+        draftWriteCoalescer.flush(draft.getId());
+
+        // Assert
+        assertEquals("The third version of a draft", contentOf(draft.getId()));
+        assertEquals(0, statistics.getCollectionRemoveCount());
+        assertEquals(0, statistics.getCollectionRecreateCount());
+    }
+
+    @Test
+    public void should_delete_a_draft_with_a_pending_update() {
+        // Arrange
+        postService.updatePost(draft.getId(), draftUpdate("The second version of a draft"));
+
+        // Act
+        postService.deletePost(draft.getId());
+
+        // Assert
+        assertTrue(postRepository.findById(draft.getId()).isEmpty());
+        assertTrue(draftWriteCoalescer.pending(draft.getId()).isEmpty());
+    }
+
+    private UpdatePostRequest draftUpdate(String content) {
+        return draftUpdate(content, Set.of());
+    }
+
+    private UpdatePostRequest draftUpdate(String content, Set<UUID> tagIds) {
+        return UpdatePostRequest.builder()
+                .title("Draft")
+                .content(content)
+                .status(PostStatus.DRAFT)
+                .categoryId(category.getId())
+                .tagIds(tagIds)
+                .build();
+    }
+
+    // Content is loaded lazily, so it has to be read while the post is still attached
+    private String contentOf(UUID id) {
+        return transactionTemplate.execute(status -> postRepository.findById(id).orElseThrow().getContent());
+    }
+}
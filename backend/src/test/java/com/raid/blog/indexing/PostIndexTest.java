@@ -0,0 +1,177 @@
+package com.raid.blog.indexing;
+
+import com.raid.blog.domain.PostFacets;
+import com.raid.blog.domain.PostFilter;
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.TagMatch;
+import com.raid.blog.domain.events.PostDeletedEvent;
+import com.raid.blog.domain.events.PostSavedEvent;
+import com.raid.blog.repositories.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class PostIndexTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private PostIndex postIndex;
+
+    private final UUID backend = UUID.randomUUID();
+    private final UUID frontend = UUID.randomUUID();
+    private final UUID java = UUID.randomUUID();
+    private final UUID spring = UUID.randomUUID();
+    private final UUID react = UUID.randomUUID();
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final LocalDateTime january = LocalDateTime.of(2026, 1, 10, 12, 0);
+    private final LocalDateTime february = LocalDateTime.of(2026, 2, 10, 12, 0);
+
+    private final UUID javaAndSpringPost = UUID.randomUUID();
+    private final UUID javaPost = UUID.randomUUID();
+    private final UUID reactPost = UUID.randomUUID();
+    private final UUID draftPost = UUID.randomUUID();
+
+    @BeforeEach
+    public void beforeEach() {
+        postIndex.onPostSaved(new PostSavedEvent(javaAndSpringPost, PostStatus.PUBLISHED, backend, Set.of(java, spring), alice, january));
+        postIndex.onPostSaved(new PostSavedEvent(javaPost, PostStatus.PUBLISHED, backend, Set.of(java), bob, february));
+        postIndex.onPostSaved(new PostSavedEvent(reactPost, PostStatus.PUBLISHED, frontend, Set.of(react), alice, february));
+        postIndex.onPostSaved(new PostSavedEvent(draftPost, PostStatus.DRAFT, frontend, Set.of(java, react), bob, january));
+    }
+
+    @Test
+    public void should_count_all_published_posts_without_selection() {
+        // Act
+        PostFacets facets = postIndex.facetCounts(PostFilter.builder().build());
+
+        // Assert
+        assertEquals(3, facets.getTotal());
+        assertEquals(Map.of(backend, 2L, frontend, 1L), facets.getCategories());
+        assertEquals(Map.of(java, 2L, spring, 1L, react, 1L), facets.getTags());
+    }
+
+    @Test
+    public void should_count_posts_for_category_and_tag_selection() {
+        // Act
+        PostFacets facets = postIndex.facetCounts(PostFilter.builder()
+                .categoryIds(Set.of(backend))
+                .tagIds(Set.of(spring))
+                .build());
+
+        // Assert
+        assertEquals(1, facets.getTotal());
+        assertEquals(Map.of(backend, 1L), facets.getCategories());
+        assertEquals(Map.of(java, 2L, spring, 1L), facets.getTags());
+    }
+
+    @Test
+    public void should_narrow_tag_counts_when_all_tags_must_match() {
+        // Act
+        PostFacets facets = postIndex.facetCounts(PostFilter.builder()
+                .tagIds(Set.of(java, spring))
+                .tagMatch(TagMatch.ALL)
+                .build());
+
+        // Assert
+        assertEquals(1, facets.getTotal());
+        assertEquals(Map.of(backend, 1L), facets.getCategories());
+        assertEquals(Map.of(java, 1L, spring, 1L), facets.getTags());
+    }
+
+    @Test
+    public void should_reflect_updated_and_deleted_posts() {
+        // Act
+        postIndex.onPostSaved(new PostSavedEvent(draftPost, PostStatus.PUBLISHED, frontend, Set.of(react), bob, january));
+        postIndex.onPostDeleted(new PostDeletedEvent(javaAndSpringPost));
+        PostFacets facets = postIndex.facetCounts(PostFilter.builder().build());
+
+        // Assert
+        assertEquals(3, facets.getTotal());
+        assertEquals(Map.of(backend, 1L, frontend, 2L), facets.getCategories());
+        assertEquals(Map.of(java, 1L, react, 2L), facets.getTags());
+    }
+
+    @Test
+    public void should_restrict_all_counts_to_the_author_and_creation_time() {
+        // Act
+        PostFacets byAuthor = postIndex.facetCounts(PostFilter.builder()
+                .authorId(alice)
+                .build());
+        PostFacets byCreationTime = postIndex.facetCounts(PostFilter.builder()
+                .createdFrom(february)
+                .createdTo(february.plusDays(1))
+                .build());
+
+        // Assert
+        assertEquals(2, byAuthor.getTotal());
+        assertEquals(Map.of(backend, 1L, frontend, 1L), byAuthor.getCategories());
+        assertEquals(Map.of(java, 1L, spring, 1L, react, 1L), byAuthor.getTags());
+        assertEquals(2, byCreationTime.getTotal());
+        assertEquals(Map.of(backend, 1L, frontend, 1L), byCreationTime.getCategories());
+        assertEquals(Map.of(java, 1L, react, 1L), byCreationTime.getTags());
+    }
+
+    @Test
+    public void should_reuse_ordinals_of_deleted_posts() {
+        // Arrange
+        UUID newPost = UUID.randomUUID();
+
+        // Act
+        postIndex.onPostDeleted(new PostDeletedEvent(javaPost));
+        postIndex.onPostSaved(new PostSavedEvent(newPost, PostStatus.PUBLISHED, frontend, Set.of(spring), alice, february));
+        PostFacets facets = postIndex.facetCounts(PostFilter.builder().build());
+
+        // Assert
+        assertEquals(4, ((List<?>) ReflectionTestUtils.getField(postIndex, "entriesByOrdinal")).size());
+        assertEquals(3, facets.getTotal());
+        assertEquals(Map.of(backend, 1L, frontend, 2L), facets.getCategories());
+        assertEquals(Map.of(java, 1L, spring, 2L, react, 1L), facets.getTags());
+        assertEquals(List.of(newPost), postIndex.relatedPostIds(javaAndSpringPost, 1));
+    }
+
+    @Test
+    public void should_rank_related_posts_by_shared_tags_favouring_rarer_tags() {
+        // Arrange
+        UUID springPost = UUID.randomUUID();
+        UUID anotherJavaPost = UUID.randomUUID();
+        postIndex.onPostSaved(new PostSavedEvent(springPost, PostStatus.PUBLISHED, backend, Set.of(spring), alice, february));
+        postIndex.onPostSaved(new PostSavedEvent(anotherJavaPost, PostStatus.PUBLISHED, backend, Set.of(java, react), bob, february));
+
+        // Act
+        List<UUID> related = postIndex.relatedPostIds(javaAndSpringPost, PostIndex.MAX_RELATED_POSTS);
+
+        // Assert
+        assertEquals(List.of(springPost, javaPost, anotherJavaPost), related);
+    }
+
+    @Test
+    public void should_limit_related_posts_and_refresh_them_after_updates() {
+        // Arrange
+        assertEquals(List.of(javaPost), postIndex.relatedPostIds(javaAndSpringPost, 1));
+
+        // Act
+        postIndex.onPostDeleted(new PostDeletedEvent(javaPost));
+        List<UUID> related = postIndex.relatedPostIds(javaAndSpringPost, 1);
+
+        // Assert
+        assertTrue(related.isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package com.raid.blog.indexing;
+
+import com.raid.blog.repositories.TagRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TagNameIndexTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @InjectMocks
+    private TagNameIndex tagNameIndex;
+
+    @Test
+    public void should_find_existing_keys_within_one_edit() {
+        // What to return
+        when(tagRepository.findAllNames()).thenReturn(List.of("Kubernetes", "JavaScript", "Databases"));
+
+        // Act & Assert
+        assertEquals(Set.of("kubernetes"), tagNameIndex.findSimilar("kubernets"));
+        assertEquals(Set.of("kubernetes"), tagNameIndex.findSimilar("kubernetse"));
+        assertEquals(Set.of("javascript"), tagNameIndex.findSimilar("javascropt"));
+        assertEquals(Set.of("databases"), tagNameIndex.findSimilar("database"));
+        assertEquals(Set.of(), tagNameIndex.findSimilar("kubernetes"));
+        assertEquals(Set.of(), tagNameIndex.findSimilar("typescript"));
+
+        verify(tagRepository, times(1)).findAllNames();
+    }
+
+    @Test
+    public void should_ignore_short_keys_and_keys_with_digits() {
+        // Act & Assert
+        assertEquals(Set.of(), tagNameIndex.findSimilar("spring"));
+        assertEquals(Set.of(), tagNameIndex.findSimilar("category11"));
+
+        verifyNoInteractions(tagRepository);
+    }
+
+    @Test
+    public void should_track_added_and_removed_keys() {
+        // What to return
+        when(tagRepository.findAllNames()).thenReturn(List.of());
+
+        // Act
+        assertEquals(Set.of(), tagNameIndex.findSimilar("observability"));
+        tagNameIndex.add("observabilty");
+
+        // Assert
+        assertEquals(Set.of("observabilty"), tagNameIndex.findSimilar("observability"));
+
+        tagNameIndex.remove("observabilty");
+        assertEquals(Set.of(), tagNameIndex.findSimilar("observability"));
+    }
+
+    @Test
+    public void should_compare_keys_with_optimal_string_alignment() {
+        assertTrue(TagNameIndex.withinOneEdit("springboot", "springboot"));
+        assertTrue(TagNameIndex.withinOneEdit("springboot", "springbot"));
+        assertTrue(TagNameIndex.withinOneEdit("springboot", "sprignboot"));
+        assertTrue(TagNameIndex.withinOneEdit("springboot", "springboat"));
+        assertFalse(TagNameIndex.withinOneEdit("springboot", "sprngbot"));
+        assertFalse(TagNameIndex.withinOneEdit("springboot", "bootspring"));
+    }
+}
@@ -0,0 +1,143 @@
+package com.raid.blog.indexing;
+
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.events.PostDeletedEvent;
+import com.raid.blog.domain.events.PostSavedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingPostsTest {
+
+    @Mock
+    private PostIndex postIndex;
+
+    @InjectMocks
+    private TrendingPosts trendingPosts;
+
+    private final UUID backend = UUID.randomUUID();
+    private final UUID frontend = UUID.randomUUID();
+    private final UUID author = UUID.randomUUID();
+
+    private final UUID oldFavourite = UUID.randomUUID();
+    private final UUID risingPost = UUID.randomUUID();
+    private final UUID frontendPost = UUID.randomUUID();
+    private final UUID draftPost = UUID.randomUUID();
+
+    private final Instant now = Instant.now();
+
+    @BeforeEach
+    public void beforeEach() {
+        lenient().when(postIndex.publishedCategoryOf(oldFavourite)).thenReturn(backend);
+        lenient().when(postIndex.publishedCategoryOf(risingPost)).thenReturn(backend);
+        lenient().when(postIndex.publishedCategoryOf(frontendPost)).thenReturn(frontend);
+        lenient().when(postIndex.publishedCategoryOf(draftPost)).thenReturn(null);
+    }
+
+    @Test
+    public void should_rank_recent_interactions_above_older_ones() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            trendingPosts.recordInteraction(oldFavourite, 1.0);
+        }
+        trendingPosts.drainInteractions(now.minus(Duration.ofHours(24)));
+        trendingPosts.recordInteraction(frontendPost, 1.0);
+        trendingPosts.drainInteractions(now.minus(Duration.ofHours(1)));
+        for (int i = 0; i < 3; i++) {
+            trendingPosts.recordInteraction(risingPost, 1.0);
+        }
+        trendingPosts.drainInteractions(now);
+
+        // Act
+        List<UUID> trending = trendingPosts.trendingPostIds(null, 10);
+
+        // Assert
+        assertEquals(List.of(risingPost, frontendPost, oldFavourite), trending);
+    }
+
+    @Test
+    public void should_filter_by_category_and_ignore_unpublished_posts() {
+        // Arrange
+        trendingPosts.recordInteraction(oldFavourite, 1.0);
+        trendingPosts.recordInteraction(risingPost, 2.0);
+        trendingPosts.recordInteraction(frontendPost, 5.0);
+        trendingPosts.recordInteraction(draftPost, 10.0);
+        trendingPosts.drainInteractions(now);
+
+        // Act
+        List<UUID> trending = trendingPosts.trendingPostIds(backend, 10);
+
+        // Assert
+        assertEquals(List.of(risingPost, oldFavourite), trending);
+    }
+
+    @Test
+    public void should_keep_only_the_strongest_posts() {
+        // Arrange
+        for (int i = 0; i < TrendingPosts.MAX_TRENDING_POSTS + 10; i++) {
+            UUID postId = UUID.randomUUID();
+            lenient().when(postIndex.publishedCategoryOf(postId)).thenReturn(frontend);
+            trendingPosts.recordInteraction(postId, 1.0);
+        }
+        trendingPosts.recordInteraction(frontendPost, 3.0);
+        trendingPosts.drainInteractions(now);
+
+        // Act
+        List<UUID> trending = trendingPosts.trendingPostIds(frontend, TrendingPosts.MAX_TRENDING_POSTS);
+
+        // Assert
+        assertEquals(TrendingPosts.MAX_TRENDING_POSTS, trending.size());
+        assertEquals(frontendPost, trending.getFirst());
+    }
+
+    @Test
+    public void should_only_rank_interactions_once_they_are_drained() {
+        // Arrange
+        trendingPosts.recordInteraction(oldFavourite, 3.0);
+        trendingPosts.drainInteractions(now);
+        trendingPosts.recordInteraction(risingPost, 2.0);
+
+        // Act
+        List<UUID> beforeDrain = trendingPosts.trendingPostIds(null, 10);
+        // Drains only apply what was recorded since the last one
+        trendingPosts.drainInteractions(now);
+        trendingPosts.drainInteractions(now);
+        List<UUID> afterDrain = trendingPosts.trendingPostIds(null, 10);
+
+        // Assert
+        assertEquals(List.of(oldFavourite), beforeDrain);
+        assertEquals(List.of(oldFavourite, risingPost), afterDrain);
+    }
+
+    @Test
+    public void should_drop_posts_that_are_unpublished_moved_or_deleted() {
+        // Arrange
+        trendingPosts.recordInteraction(oldFavourite, 1.0);
+        trendingPosts.recordInteraction(risingPost, 1.0);
+        trendingPosts.recordInteraction(frontendPost, 1.0);
+        trendingPosts.drainInteractions(now);
+
+        // Act
+        trendingPosts.onPostSaved(new PostSavedEvent(oldFavourite, PostStatus.DRAFT, backend, Set.of(), author, LocalDateTime.now()));
+        trendingPosts.onPostSaved(new PostSavedEvent(risingPost, PostStatus.PUBLISHED, frontend, Set.of(), author, LocalDateTime.now()));
+        trendingPosts.onPostDeleted(new PostDeletedEvent(frontendPost));
+
+        // Assert
+        assertEquals(List.of(risingPost), trendingPosts.trendingPostIds(null, 10));
+        assertEquals(List.of(), trendingPosts.trendingPostIds(backend, 10));
+    }
+}
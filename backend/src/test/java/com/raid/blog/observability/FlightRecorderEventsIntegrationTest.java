@@ -0,0 +1,120 @@
+package com.raid.blog.observability;
+
+import com.raid.blog.domain.entities.User;
+import com.raid.blog.repositories.UserRepository;
+import com.raid.blog.security.BlogUserDetails;
+import com.raid.blog.services.AuthenticationService;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class FlightRecorderEventsIntegrationTest {
+
+    private static final List<String> EVENTS = List.of(
+            "com.raid.blog.FeedQuery",
+            "com.raid.blog.TokenValidation",
+            "com.raid.blog.DtoMapping",
+            "com.raid.blog.ResponseSerialization");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @TempDir
+    private Path recordingDir;
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Recorded")
+                .email("recorded-" + UUID.randomUUID() + "@example.com")
+                .password("some password")
+                .build());
+        token = authenticationService.generateToken(new BlogUserDetails(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    public void should_enable_the_blog_events_in_the_shipped_profile() throws Exception {
+        // Act
+        Configuration configuration = Configuration.create(Path.of("jfr", "blog.jfc"));
+
+        // Assert
+        for (String event : EVENTS) {
+            assertEquals("true", configuration.getSettings().get(event + "#enabled"), event);
+        }
+    }
+
+    @Test
+    public void should_record_feed_queries_token_validation_mapping_and_serialization() throws Exception {
+        // Arrange
+        Path file = recordingDir.resolve("blog.jfr");
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording(Configuration.create(Path.of("jfr", "blog.jfc")))) {
+            // Requests against the test database are faster than the profile's thresholds
+            EVENTS.forEach(event -> recording.enable(event).withThreshold(Duration.ZERO));
+            recording.start();
+
+            // Act
+            mockMvc.perform(get("/api/v1/posts/facets").param("tagMatch", "ALL")).andExpect(status().isOk());
+            mockMvc.perform(get("/api/v1/posts/drafts").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/v1/posts/drafts").header("Authorization", "Bearer not-a-token"))
+                    .andExpect(status().isForbidden());
+
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        // Assert
+        assertRecorded(events, "com.raid.blog.FeedQuery",
+                event -> event.getString("feed").equals("facets") && event.getString("filterType").equals("none"));
+        assertRecorded(events, "com.raid.blog.FeedQuery",
+                event -> event.getString("feed").equals("drafts") && event.getLong("postCount") == 0);
+        assertRecorded(events, "com.raid.blog.TokenValidation", event -> event.getBoolean("valid"));
+        assertRecorded(events, "com.raid.blog.TokenValidation", event -> !event.getBoolean("valid"));
+        assertRecorded(events, "com.raid.blog.DtoMapping",
+                event -> event.getString("method").equals("toDto") && event.getString("sourceType").equals("PostFacets"));
+        assertRecorded(events, "com.raid.blog.ResponseSerialization",
+                event -> event.getString("bodyType").endsWith("PostFacetsDto") && event.getLong("size") > 0);
+    }
+
+    private static void assertRecorded(List<RecordedEvent> events, String name, Predicate<RecordedEvent> matching) {
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals(name) && matching.test(event)),
+                () -> "No matching " + name + " event in " + events.stream().map(event -> event.getEventType().getName()).distinct().toList());
+    }
+}
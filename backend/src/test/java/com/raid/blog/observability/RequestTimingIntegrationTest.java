@@ -0,0 +1,113 @@
+package com.raid.blog.observability;
+
+import com.raid.blog.domain.entities.User;
+import com.raid.blog.repositories.UserRepository;
+import com.raid.blog.security.BlogUserDetails;
+import com.raid.blog.services.AuthenticationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "blog.observability.request-timing.sample-rate=1")
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+public class RequestTimingIntegrationTest {
+
+    private static final Pattern SERVER_TIMING = Pattern.compile(
+            "db;dur=\\d+\\.\\d{2};desc=\"(\\d+) statements\", auth;dur=(\\d+\\.\\d{2}), ser;dur=(\\d+\\.\\d{2}), app;dur=\\d+\\.\\d{2}");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RequestTimingFilter requestTimingFilter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Timed")
+                .email("timed-" + UUID.randomUUID() + "@example.com")
+                .password("some password")
+                .build());
+        token = authenticationService.generateToken(new BlogUserDetails(user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(user.getId());
+        ReflectionTestUtils.setField(requestTimingFilter, "sampleRate", 1.0);
+    }
+
+    @Test
+    public void should_report_statements_and_timings_of_sampled_requests(CapturedOutput output) throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/v1/posts/drafts").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Assert
+        String serverTiming = result.getResponse().getHeader(RequestTimingFilter.SERVER_TIMING);
+        assertNotNull(serverTiming);
+        Matcher matcher = SERVER_TIMING.matcher(serverTiming);
+        assertTrue(matcher.matches(), serverTiming);
+        // The user looked up by the token, the user looked up by id and the drafts
+        assertEquals("3", matcher.group(1));
+        assertTrue(Double.parseDouble(matcher.group(2)) > 0);
+        assertTrue(Double.parseDouble(matcher.group(3)) > 0);
+        assertTrue(output.getOut().contains("method=GET path=/api/v1/posts/drafts status=200 duration_ms="));
+        assertTrue(output.getOut().contains("db_statements=3 "));
+    }
+
+    @Test
+    public void should_add_the_header_to_responses_without_a_body() throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/v1/posts/drafts"))
+                .andExpect(status().isForbidden())
+                .andReturn();
+
+        // Assert
+        String serverTiming = result.getResponse().getHeader(RequestTimingFilter.SERVER_TIMING);
+        assertNotNull(serverTiming);
+        assertTrue(SERVER_TIMING.matcher(serverTiming).matches(), serverTiming);
+    }
+
+    @Test
+    public void should_leave_requests_that_are_not_sampled_alone() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(requestTimingFilter, "sampleRate", 0.0);
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/v1/posts/drafts").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Assert
+        assertNull(result.getResponse().getHeader(RequestTimingFilter.SERVER_TIMING));
+    }
+}
@@ -0,0 +1,169 @@
+package com.raid.blog.observability;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raid.blog.domain.entities.User;
+import com.raid.blog.repositories.UserRepository;
+import com.raid.blog.security.BlogUserDetails;
+import com.raid.blog.services.AuthenticationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=slowstatements",
+        "blog.observability.slow-statements.threshold=PT0S",
+        "blog.security.admin-emails=" + SlowStatementsEndpointIntegrationTest.ADMIN_EMAIL
+})
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+public class SlowStatementsEndpointIntegrationTest {
+
+    static final String ADMIN_EMAIL = "Slow-Statements-Admin@example.com";
+
+    private static final String TAG_BY_NAME = "select id from tags where name = ?";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private SlowStatementLog slowStatementLog;
+
+    @BeforeEach
+    void setUp() {
+        slowStatementLog.clear();
+    }
+
+    @Test
+    public void should_tally_statements_by_fingerprint() throws Exception {
+        // Arrange
+        jdbcTemplate.queryForList("SELECT id FROM tags WHERE name = 'java'");
+        jdbcTemplate.queryForList("select id from tags where name = ?", "spring");
+
+        // Act
+        JsonNode statement = slowStatement(TAG_BY_NAME);
+
+        // Assert
+        assertEquals(2, statement.get("count").asLong());
+        assertTrue(statement.get("maxMillis").asLong() <= statement.get("totalMillis").asLong());
+        assertTrue(statement.get("explainable").asBoolean());
+    }
+
+    @Test
+    public void should_start_the_tally_over() throws Exception {
+        // Arrange
+        jdbcTemplate.queryForList("select id from tags where name = ?", "spring");
+
+        // Act
+        mockMvc.perform(delete("/actuator/slowstatements")).andExpect(status().isNoContent());
+
+        // Assert
+        assertTrue(slowStatementLog.top(SlowStatement.Order.TOTAL, 100).stream()
+                .noneMatch(statement -> statement.fingerprint().equals(TAG_BY_NAME)));
+    }
+
+    @Test
+    public void should_explain_the_slowest_execution_with_its_parameters() throws Exception {
+        // Arrange
+        jdbcTemplate.queryForList("select id from tags where name = ?", "spring");
+        String id = slowStatement(TAG_BY_NAME).get("id").asText();
+
+        // Act
+        String plan = mockMvc.perform(get("/actuator/slowstatements/" + id))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Assert
+        assertTrue(plan.toUpperCase().contains("TAGS"), plan);
+    }
+
+    @Test
+    public void should_not_explain_statements_that_change_data() throws Exception {
+        // Arrange
+        jdbcTemplate.update("update tags set name = name where name = ?", "nothing");
+        String id = slowStatement("update tags set name = name where name = ?").get("id").asText();
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/slowstatements/" + id)).andExpect(status().isConflict());
+        mockMvc.perform(get("/actuator/slowstatements/unknown")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    public void should_only_be_available_to_admins() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/slowstatements")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/slowstatements/unknown")).andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/slowstatements")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithAnonymousUser
+    public void should_give_users_with_a_configured_admin_email_the_admin_role() throws Exception {
+        // Arrange
+        User admin = userRepository.save(User.builder()
+                .name("Admin")
+                .email(ADMIN_EMAIL.toLowerCase())
+                .password("some password")
+                .build());
+        String token = authenticationService.generateToken(new BlogUserDetails(admin));
+
+        try {
+            // Act & Assert
+            mockMvc.perform(get("/actuator/slowstatements").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+        } finally {
+            userRepository.deleteById(admin.getId());
+        }
+    }
+
+    @Test
+    public void should_not_keep_parameters_of_statements_that_read_users() throws Exception {
+        // Arrange
+        jdbcTemplate.queryForList("select id from users where email = ?", "someone@example.com");
+        JsonNode statement = slowStatement("select id from users where email = ?");
+
+        // Act & Assert
+        assertFalse(statement.get("explainable").asBoolean());
+        mockMvc.perform(get("/actuator/slowstatements/" + statement.get("id").asText())).andExpect(status().isConflict());
+    }
+
+    private JsonNode slowStatement(String fingerprint) throws Exception {
+        String body = mockMvc.perform(get("/actuator/slowstatements").param("order", "count").param("limit", "100"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return StreamSupport.stream(objectMapper.readTree(body).spliterator(), false)
+                .filter(statement -> statement.get("fingerprint").asText().equals(fingerprint))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No slow statement " + fingerprint + " in " + body));
+    }
+}
@@ -0,0 +1,46 @@
+package com.raid.blog.observability;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlFingerprintTest {
+
+    @Test
+    public void should_replace_literals_and_collapse_whitespace() {
+        // Act
+        String fingerprint = SqlFingerprint.of("SELECT *\n  FROM posts\tWHERE title = 'It''s here' AND reading_time > 12.5 AND id = $1");
+
+        // Assert
+        assertEquals("select * from posts where title = ? and reading_time > ? and id = ?", fingerprint);
+    }
+
+    @Test
+    public void should_give_statements_differing_only_in_literals_the_same_fingerprint() {
+        // Act & Assert
+        assertEquals(
+                SqlFingerprint.of("select * from tags where name in ('java', 'spring', 'jpa') limit 10"),
+                SqlFingerprint.of("SELECT * FROM tags WHERE name IN ('go') LIMIT 20"));
+        assertEquals(
+                SqlFingerprint.of("insert into tags (name) values ('a'), ('b'), ('c')"),
+                SqlFingerprint.of("insert into tags (name) values (?)"));
+    }
+
+    @Test
+    public void should_keep_digits_that_belong_to_identifiers() {
+        // Act
+        String fingerprint = SqlFingerprint.of("select p1_0.id from posts p1_0 join tags t2 on t2.id = 3");
+
+        // Assert
+        assertEquals("select p1_0.id from posts p1_0 join tags t2 on t2.id = ?", fingerprint);
+    }
+
+    @Test
+    public void should_drop_comments_and_keep_quoted_identifiers() {
+        // Act
+        String fingerprint = SqlFingerprint.of("/* load posts */ select \"Title\" -- the title\nfrom posts");
+
+        // Assert
+        assertEquals("select \"Title\" from posts", fingerprint);
+    }
+}
@@ -0,0 +1,157 @@
+package com.raid.blog.persistence;
+
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.entities.Category;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.entities.User;
+import com.raid.blog.repositories.CategoryRepository;
+import com.raid.blog.repositories.PostRepository;
+import com.raid.blog.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "blog.posts.content-compression.enabled=true",
+        "blog.posts.content-compression.threshold=256",
+        "blog.posts.content-compression.migrate-on-startup=false"
+})
+public class PostContentMigrationIntegrationTest {
+
+    private static final String ARTICLE = "Compressible article content that keeps repeating itself. ".repeat(50);
+
+    @Autowired
+    private PostContentMigration postContentMigration;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private Category category;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Author")
+                .email("author-" + UUID.randomUUID() + "@example.com")
+                .password("some password")
+                .build());
+        category = categoryRepository.save(Category.builder().name("Compression " + UUID.randomUUID()).build());
+        post = postRepository.save(Post.builder()
+                .title("Compressed")
+                .content(ARTICLE)
+                .status(PostStatus.PUBLISHED)
+                .readingTime(1)
+                .author(user)
+                .category(category)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteById(post.getId());
+        categoryRepository.deleteById(category.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    public void should_store_large_content_compressed() {
+        // Act
+        byte[] stored = storedContent();
+
+        // Assert
+        assertEquals((byte) 0xFF, stored[0]);
+        assertTrue(stored.length < ARTICLE.length() / 4);
+        assertEquals(ARTICLE, contentOf(post.getId()));
+    }
+
+    @Test
+    public void should_move_legacy_content_into_compressed_column() {
+        // Arrange
+        jdbcTemplate.update("update posts set content = ?, content_data = null where id = ?", ARTICLE, post.getId());
+        assertEquals(ARTICLE, contentOf(post.getId()));
+
+        // Act
+        int rewritten = postContentMigration.migrate();
+
+        // Assert
+        assertTrue(rewritten >= 1);
+        assertNull(jdbcTemplate.queryForObject("select content from posts where id = ?", String.class, post.getId()));
+        assertEquals((byte) 0xFF, storedContent()[0]);
+        assertEquals(ARTICLE, contentOf(post.getId()));
+    }
+
+    @Test
+    public void should_compress_content_stored_before_compression_was_enabled() {
+        // Arrange
+        jdbcTemplate.update("update posts set content_data = ? where id = ?", ARTICLE.getBytes(StandardCharsets.UTF_8), post.getId());
+
+        // Act
+        postContentMigration.reencode();
+        int rewrittenAgain = postContentMigration.reencode();
+
+        // Assert
+        assertEquals((byte) 0xFF, storedContent()[0]);
+        assertEquals(0, rewrittenAgain);
+        assertEquals(ARTICLE, contentOf(post.getId()));
+    }
+
+    @Test
+    public void should_only_read_rows_that_are_not_migrated_yet_unless_reencoding() {
+        // Arrange
+        byte[] uncompressed = ARTICLE.getBytes(StandardCharsets.UTF_8);
+        jdbcTemplate.update("update posts set content_data = ?, word_count = 350, excerpt = '' where id = ?", uncompressed, post.getId());
+
+        // Act
+        postContentMigration.migrate();
+
+        // Assert
+        assertArrayEquals(uncompressed, storedContent());
+    }
+
+    @Test
+    public void should_fill_in_word_count_and_excerpt_of_posts_saved_without_them() {
+        // Arrange
+        jdbcTemplate.update("update posts set word_count = null, excerpt = null where id = ?", post.getId());
+
+        // Act
+        int migrated = postContentMigration.migrate();
+
+        // Assert
+        assertTrue(migrated >= 1);
+        assertEquals(350, jdbcTemplate.queryForObject("select word_count from posts where id = ?", Integer.class, post.getId()));
+        String excerpt = jdbcTemplate.queryForObject("select excerpt from posts where id = ?", String.class, post.getId());
+        assertTrue(excerpt.startsWith("Compressible article content that keeps repeating itself."));
+        assertTrue(excerpt.endsWith("…"));
+    }
+
+    private byte[] storedContent() {
+        return jdbcTemplate.queryForObject("select content_data from posts where id = ?", byte[].class, post.getId());
+    }
+
+    private String contentOf(UUID id) {
+        return transactionTemplate.execute(status -> postRepository.findById(id).orElseThrow().getContent());
+    }
+}
@@ -0,0 +1,93 @@
+package com.raid.blog.persistence;
+
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.entities.Category;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.entities.User;
+import com.raid.blog.repositories.CategoryRepository;
+import com.raid.blog.repositories.PostFingerprintRepository;
+import com.raid.blog.repositories.PostRepository;
+import com.raid.blog.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "blog.posts.duplicate-detection.backfill-on-startup=false")
+public class PostFingerprintBackfillIntegrationTest {
+
+    @Autowired
+    private PostFingerprintBackfill postFingerprintBackfill;
+
+    @Autowired
+    private PostFingerprintRepository postFingerprintRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Category category;
+    private Post longPost;
+    private Post shortPost;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Author")
+                .email("author-" + UUID.randomUUID() + "@example.com")
+                .password("some password")
+                .build());
+        category = categoryRepository.save(Category.builder().name("Backfill " + UUID.randomUUID()).build());
+        String article = ("Article " + UUID.randomUUID() + " written before fingerprints were recorded. ").repeat(10);
+        longPost = savePost(article);
+        shortPost = savePost("A post too short to fingerprint");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from post_fingerprints where post_id in (?, ?)", longPost.getId(), shortPost.getId());
+        postRepository.deleteById(longPost.getId());
+        postRepository.deleteById(shortPost.getId());
+        categoryRepository.deleteById(category.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    public void should_record_the_fingerprint_of_posts_saved_without_one() {
+        // Act
+        int backfilled = postFingerprintBackfill.backfill();
+        int backfilledAgain = postFingerprintBackfill.backfill();
+
+        // Assert
+        assertTrue(backfilled >= 1);
+        assertEquals(0, backfilledAgain);
+        assertTrue(postFingerprintRepository.existsById(longPost.getId()));
+        assertFalse(postFingerprintRepository.existsById(shortPost.getId()));
+    }
+
+    private Post savePost(String content) {
+        return postRepository.save(Post.builder()
+                .title("Saved before fingerprints")
+                .content(content)
+                .status(PostStatus.PUBLISHED)
+                .readingTime(1)
+                .author(user)
+                .category(category)
+                .build());
+    }
+}
@@ -0,0 +1,131 @@
+package com.raid.blog.publishing;
+
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.entities.Category;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.events.PostSavedEvent;
+import com.raid.blog.repositories.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledPublisherTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ScheduledPublisher scheduledPublisher;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_publish_overdue_posts_loaded_at_startup() {
+        // Arrange
+        Post overdue = scheduledPost(LocalDateTime.now().minusMinutes(5));
+        Post rescheduled = scheduledPost(LocalDateTime.now().plusDays(1));
+        PostRepository.ScheduledPostRow overdueRow = row(overdue.getId(), overdue.getPublishAt());
+        PostRepository.ScheduledPostRow staleRow = row(rescheduled.getId(), LocalDateTime.now().minusMinutes(1));
+
+        // What to return
+        when(postRepository.findScheduledBefore(eq(PostStatus.SCHEDULED), any(LocalDateTime.class)))
+                .thenReturn(List.of(overdueRow, staleRow));
+        when(postRepository.findWithDetailsByIdInAndStatus(anyCollection(), eq(PostStatus.SCHEDULED)))
+                .thenReturn(List.of(overdue, rescheduled));
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // Act
+        scheduledPublisher.start();
+        scheduledPublisher.publishDue();
+
+        // Assert
+        assertEquals(PostStatus.PUBLISHED, overdue.getStatus());
+        assertEquals(PostStatus.SCHEDULED, rescheduled.getStatus());
+        ArgumentCaptor<PostSavedEvent> captor = ArgumentCaptor.forClass(PostSavedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(overdue.getId(), captor.getValue().getPostId());
+        assertEquals(PostStatus.PUBLISHED, captor.getValue().getStatus());
+        assertEquals(0, scheduledPublisher.pendingCount());
+    }
+
+    @Test
+    public void should_hold_posts_until_they_are_due() {
+        // What to return
+        when(postRepository.findScheduledBefore(eq(PostStatus.SCHEDULED), any(LocalDateTime.class)))
+                .thenReturn(List.of(row(UUID.randomUUID(), LocalDateTime.now().plusMinutes(30))));
+
+        // Act
+        scheduledPublisher.start();
+        scheduledPublisher.publishDue();
+
+        // Assert
+        assertEquals(1, scheduledPublisher.pendingCount());
+        verifyNoInteractions(transactionTemplate, eventPublisher);
+    }
+
+    @Test
+    public void should_put_posts_of_a_failed_batch_back_on_the_wheel() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+
+        // What to return
+        when(postRepository.findScheduledBefore(eq(PostStatus.SCHEDULED), any(LocalDateTime.class)))
+                .thenReturn(List.of(row(postId, LocalDateTime.now().minusMinutes(1))));
+        doThrow(new IllegalStateException("Database is down")).when(transactionTemplate).executeWithoutResult(any());
+
+        // Act
+        scheduledPublisher.start();
+        scheduledPublisher.publishDue();
+        scheduledPublisher.publishDue();
+
+        // Assert
+        assertEquals(1, scheduledPublisher.pendingCount());
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+    }
+
+    private static Post scheduledPost(LocalDateTime publishAt) {
+        return Post.builder()
+                .id(UUID.randomUUID())
+                .status(PostStatus.SCHEDULED)
+                .publishAt(publishAt)
+                .category(Category.builder().id(UUID.randomUUID()).build())
+                .build();
+    }
+
+    private static PostRepository.ScheduledPostRow row(UUID postId, LocalDateTime publishAt) {
+        return new PostRepository.ScheduledPostRow() {
+            @Override
+            public UUID getPostId() {
+                return postId;
+            }
+
+            @Override
+            public LocalDateTime getPublishAt() {
+                return publishAt;
+            }
+        };
+    }
+}
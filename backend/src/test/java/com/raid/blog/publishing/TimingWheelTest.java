@@ -0,0 +1,69 @@
+package com.raid.blog.publishing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1_000;
+
+    @Test
+    public void should_release_items_only_once_they_are_due() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 0);
+        wheel.add("soon", 5 * TICK);
+        wheel.add("later", 70 * TICK);
+
+        // Act
+        List<String> beforeDue = wheel.advance(4 * TICK);
+        List<String> atFirstDeadline = wheel.advance(5 * TICK);
+        List<String> beforeSecond = wheel.advance(69 * TICK);
+        List<String> atSecondDeadline = wheel.advance(70 * TICK);
+
+        // Assert
+        assertEquals(List.of(), beforeDue);
+        assertEquals(List.of("soon"), atFirstDeadline);
+        assertEquals(List.of(), beforeSecond);
+        assertEquals(List.of("later"), atSecondDeadline);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void should_release_overdue_items_immediately() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 100 * TICK);
+
+        // Act
+        wheel.add("overdue", 10 * TICK);
+
+        // Assert
+        assertEquals(List.of("overdue"), wheel.advance(100 * TICK));
+    }
+
+    @Test
+    public void should_cascade_items_from_every_level_in_deadline_order() {
+        // Arrange
+        long start = 12_345 * TICK;
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK, start);
+        long[] offsets = {1, 63, 64, 65, 4_095, 4_096, 4_097, 100_000, 262_143, 262_144, 300_000};
+        for (long offset : offsets) {
+            wheel.add(offset, start + offset * TICK);
+        }
+
+        // Act
+        List<Long> released = new ArrayList<>();
+        for (long offset : offsets) {
+            List<Long> due = wheel.advance(start + offset * TICK);
+            assertEquals(List.of(offset), due, "at offset " + offset);
+            released.addAll(due);
+        }
+
+        // Assert
+        assertEquals(offsets.length, released.size());
+        assertEquals(0, wheel.size());
+    }
+}
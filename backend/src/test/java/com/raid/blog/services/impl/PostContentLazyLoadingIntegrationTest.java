@@ -0,0 +1,157 @@
+package com.raid.blog.services.impl;
+
+import com.raid.blog.domain.PostFilter;
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.UpdatePostRequest;
+import com.raid.blog.domain.entities.Category;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.entities.Tag;
+import com.raid.blog.domain.entities.User;
+import com.raid.blog.repositories.CategoryRepository;
+import com.raid.blog.repositories.PostRepository;
+import com.raid.blog.repositories.TagRepository;
+import com.raid.blog.repositories.UserRepository;
+import com.raid.blog.services.PostService;
+import com.raid.blog.support.RecordingStatementInspector;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+public class PostContentLazyLoadingIntegrationTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Category category;
+    private Tag tag;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Author")
+                .email("lazy-" + UUID.randomUUID() + "@example.com")
+                .password("some password")
+                .build());
+        category = categoryRepository.save(Category.builder().name("Lazy " + UUID.randomUUID()).build());
+        tag = tagRepository.save(Tag.builder().name("Lazy " + UUID.randomUUID()).build());
+        post = postRepository.save(Post.builder()
+                .title("Lazy")
+                .content("A body that should only be fetched when it is read")
+                .status(PostStatus.PUBLISHED)
+                .readingTime(1)
+                .author(user)
+                .category(category)
+                .tags(Set.of(tag))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void should_load_post_without_content_until_it_is_read() {
+        // Act
+        RecordingStatementInspector.start();
+        Post loadedPost = postService.getPost(post.getId());
+        List<String> beforeRead = RecordingStatementInspector.stop();
+
+        RecordingStatementInspector.start();
+        String content = loadedPost.getContent();
+        List<String> onRead = RecordingStatementInspector.stop();
+
+        // Assert
+        assertSelectsWithoutContent(beforeRead);
+        assertEquals("A body that should only be fetched when it is read", content);
+        assertEquals(1, onRead.size());
+        assertTrue(onRead.getFirst().contains("content_data"));
+    }
+
+    @Test
+    public void should_delete_post_without_selecting_content() {
+        // Act
+        RecordingStatementInspector.start();
+        postService.deletePost(post.getId());
+        entityManager.flush();
+        List<String> statements = RecordingStatementInspector.stop();
+
+        // Assert
+        assertSelectsWithoutContent(statements);
+        assertTrue(statements.stream().anyMatch(sql -> sql.startsWith("delete from posts")));
+    }
+
+    @Test
+    public void should_change_category_and_tags_without_selecting_content() {
+        // Arrange
+        Category newCategory = categoryRepository.save(Category.builder().name("Other " + UUID.randomUUID()).build());
+        UpdatePostRequest request = UpdatePostRequest.builder()
+                .title("Lazy")
+                .content("A body that should only be fetched when it is read")
+                .status(PostStatus.PUBLISHED)
+                .categoryId(newCategory.getId())
+                .tagIds(Set.of())
+                .build();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        RecordingStatementInspector.start();
+        postService.updatePost(post.getId(), request);
+        entityManager.flush();
+        List<String> statements = RecordingStatementInspector.stop();
+
+        // Assert
+        assertSelectsWithoutContent(statements);
+        entityManager.clear();
+        Post updatedPost = postRepository.findById(post.getId()).orElseThrow();
+        assertEquals(newCategory.getId(), updatedPost.getCategory().getId());
+        assertEquals("A body that should only be fetched when it is read", updatedPost.getContent());
+    }
+
+    @Test
+    public void should_list_posts_with_content_in_a_single_select() {
+        // Act
+        RecordingStatementInspector.start();
+        List<Post> posts = postService.getAllPosts(PostFilter.builder().categoryIds(Set.of(category.getId())).build());
+        posts.forEach(Post::getContent);
+        List<String> statements = RecordingStatementInspector.stop();
+
+        // Assert
+        assertEquals(1, posts.size());
+        assertEquals(1, statements.size());
+        assertTrue(statements.getFirst().contains("content_data"));
+    }
+
+    private static void assertSelectsWithoutContent(List<String> statements) {
+        assertFalse(statements.isEmpty());
+        statements.stream()
+                .filter(sql -> sql.startsWith("select"))
+                .forEach(sql -> assertFalse(sql.contains("content_data") || sql.matches("(?s).*\\.content\\b.*"), sql));
+    }
+}
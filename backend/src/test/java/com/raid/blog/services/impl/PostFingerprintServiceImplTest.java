@@ -0,0 +1,248 @@
+package com.raid.blog.services.impl;
+
+import com.raid.blog.domain.DuplicateContentAction;
+import com.raid.blog.domain.SimHash;
+import com.raid.blog.domain.entities.PostFingerprint;
+import com.raid.blog.repositories.PostFingerprintRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostFingerprintServiceImplTest {
+
+    private static final String ARTICLE = """
+            Spring Boot makes it easy to create stand-alone, production-grade Spring based applications
+            that you can just run. We take an opinionated view of the Spring platform and third-party
+            libraries so you can get started with minimum fuss. Most Spring Boot applications need
+            minimal Spring configuration. You can use Spring Boot to create Java applications that can
+            be started by using java -jar or more traditional war deployments. Our primary goals are to
+            provide a radically faster and widely accessible getting-started experience for all Spring
+            development and to be opinionated out of the box but get out of the way quickly as
+            requirements start to diverge from the defaults.
+            """;
+
+    private static final String LIGHTLY_EDITED_ARTICLE = ARTICLE
+            .replace("radically faster", "much faster")
+            .replace("out of the box", "out-of-the-box");
+
+    private static final String UNRELATED_ARTICLE = """
+            Sourdough bread relies on a natural leaven made from flour and water that has been left to
+            ferment with wild yeast and lactic acid bacteria. Feeding the starter every day keeps the
+            culture active, and a long cold proof in the refrigerator develops a more complex flavour
+            and a crust that blisters nicely in a hot dutch oven. Bakers adjust hydration, salt and the
+            amount of starter depending on the flour they use and the temperature of their kitchen, and
+            most loaves benefit from several sets of stretch and folds during the bulk fermentation.
+            """;
+
+    @Mock
+    private PostFingerprintRepository postFingerprintRepository;
+
+    @InjectMocks
+    private PostFingerprintServiceImpl postFingerprintService;
+
+    @Test
+    public void should_place_lightly_edited_content_within_banded_distance() {
+        // Arrange
+        long original = SimHash.fingerprint(SimHash.tokenize(ARTICLE));
+
+        // Act
+        int editedDistance = SimHash.distance(original, SimHash.fingerprint(SimHash.tokenize(LIGHTLY_EDITED_ARTICLE)));
+        int unrelatedDistance = SimHash.distance(original, SimHash.fingerprint(SimHash.tokenize(UNRELATED_ARTICLE)));
+
+        // Assert
+        assertTrue(editedDistance <= 3, "edited distance was " + editedDistance);
+        assertTrue(unrelatedDistance > 10, "unrelated distance was " + unrelatedDistance);
+    }
+
+    @Test
+    public void should_record_fingerprint_of_original_content() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+
+        // What to return
+        when(postFingerprintRepository.findBandMatches(eq(postId), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(List.of());
+
+        // Act
+        postFingerprintService.recordFingerprint(postId, ARTICLE);
+
+        // Assert
+        ArgumentCaptor<PostFingerprint> captor = ArgumentCaptor.forClass(PostFingerprint.class);
+        verify(postFingerprintRepository, times(1)).save(captor.capture());
+        PostFingerprint saved = captor.getValue();
+        assertEquals(postId, saved.getPostId());
+        assertEquals(SimHash.fingerprint(SimHash.tokenize(ARTICLE)), saved.getFingerprint());
+        assertEquals(SimHash.band(saved.getFingerprint(), 2), saved.getBand2());
+        assertNull(saved.getDuplicateOfPostId());
+    }
+
+    @Test
+    public void should_reject_near_duplicate_content() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        PostFingerprint existing = fingerprintOf(UUID.randomUUID(), ARTICLE);
+
+        // What to return
+        when(postFingerprintRepository.findBandMatches(eq(postId), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(List.of(existing));
+
+        // Act
+        Exception exp = assertThrows(IllegalStateException.class,
+                () -> postFingerprintService.recordFingerprint(postId, LIGHTLY_EDITED_ARTICLE));
+
+        // Assert
+        assertEquals("Post content is a near duplicate of an existing post", exp.getMessage());
+        verify(postFingerprintRepository, never()).save(any());
+    }
+
+    @Test
+    public void should_flag_near_duplicate_content_when_configured() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        PostFingerprint existing = fingerprintOf(UUID.randomUUID(), ARTICLE);
+        ReflectionTestUtils.setField(postFingerprintService, "action", DuplicateContentAction.FLAG);
+
+        // What to return
+        when(postFingerprintRepository.findBandMatches(eq(postId), anyInt(), anyInt(), anyInt(), anyInt()))
+                .thenReturn(List.of(fingerprintOf(UUID.randomUUID(), UNRELATED_ARTICLE), existing));
+
+        // Act
+        postFingerprintService.recordFingerprint(postId, LIGHTLY_EDITED_ARTICLE);
+
+        // Assert
+        ArgumentCaptor<PostFingerprint> captor = ArgumentCaptor.forClass(PostFingerprint.class);
+        verify(postFingerprintRepository, times(1)).save(captor.capture());
+        assertEquals(existing.getPostId(), captor.getValue().getDuplicateOfPostId());
+    }
+
+    @Test
+    public void should_not_check_unchanged_content_again() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        PostFingerprint flagged = fingerprintOf(postId, LIGHTLY_EDITED_ARTICLE);
+        flagged.setDuplicateOfPostId(UUID.randomUUID());
+
+        // What to return
+        when(postFingerprintRepository.findById(postId)).thenReturn(Optional.of(flagged));
+
+        // Act
+        postFingerprintService.recordFingerprint(postId, LIGHTLY_EDITED_ARTICLE);
+
+        // Assert
+        verify(postFingerprintRepository, never()).findBandMatches(any(), anyInt(), anyInt(), anyInt(), anyInt());
+        verify(postFingerprintRepository, never()).save(any());
+    }
+
+    @Test
+    public void should_keep_near_duplicates_flagged_before_editable() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        PostFingerprint original = fingerprintOf(UUID.randomUUID(), ARTICLE);
+        PostFingerprint flagged = fingerprintOf(postId, LIGHTLY_EDITED_ARTICLE);
+        flagged.setDuplicateOfPostId(original.getPostId());
+
+        // What to return
+        when(postFingerprintRepository.findById(postId)).thenReturn(Optional.of(flagged));
+        when(postFingerprintRepository.findBandMatches(eq(postId), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(List.of(original));
+
+        // Act
+        postFingerprintService.recordFingerprint(postId, LIGHTLY_EDITED_ARTICLE + " One more sentence.");
+
+        // Assert
+        ArgumentCaptor<PostFingerprint> captor = ArgumentCaptor.forClass(PostFingerprint.class);
+        verify(postFingerprintRepository, times(1)).save(captor.capture());
+        assertEquals(original.getPostId(), captor.getValue().getDuplicateOfPostId());
+    }
+
+    @Test
+    public void should_keep_the_original_of_a_flagged_pair_editable() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        PostFingerprint flagged = fingerprintOf(UUID.randomUUID(), LIGHTLY_EDITED_ARTICLE);
+        flagged.setDuplicateOfPostId(postId);
+
+        // What to return
+        when(postFingerprintRepository.findBandMatches(eq(postId), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(List.of(flagged));
+
+        // Act
+        postFingerprintService.recordFingerprint(postId, ARTICLE);
+
+        // Assert
+        verify(postFingerprintRepository, times(1)).save(any(PostFingerprint.class));
+    }
+
+    @Test
+    public void should_skip_content_too_short_to_fingerprint() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+
+        // What to return
+        when(postFingerprintRepository.findById(postId)).thenReturn(Optional.empty());
+
+        // Act
+        postFingerprintService.recordFingerprint(postId, "This is some testing content text");
+
+        // Assert
+        verify(postFingerprintRepository, never()).findBandMatches(any(), anyInt(), anyInt(), anyInt(), anyInt());
+        verify(postFingerprintRepository, never()).save(any());
+    }
+
+    @Test
+    public void should_flag_near_duplicate_content_when_backfilling() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        PostFingerprint existing = fingerprintOf(UUID.randomUUID(), ARTICLE);
+
+        // What to return
+        when(postFingerprintRepository.existsById(postId)).thenReturn(false);
+        when(postFingerprintRepository.findBandMatches(eq(postId), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(List.of(existing));
+
+        // Act
+        boolean backfilled = postFingerprintService.backfillFingerprint(postId, LIGHTLY_EDITED_ARTICLE);
+
+        // Assert
+        assertTrue(backfilled);
+        ArgumentCaptor<PostFingerprint> captor = ArgumentCaptor.forClass(PostFingerprint.class);
+        verify(postFingerprintRepository, times(1)).save(captor.capture());
+        assertEquals(existing.getPostId(), captor.getValue().getDuplicateOfPostId());
+    }
+
+    @Test
+    public void should_not_backfill_posts_fingerprinted_meanwhile() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+
+        // What to return
+        when(postFingerprintRepository.existsById(postId)).thenReturn(true);
+
+        // Act
+        boolean backfilled = postFingerprintService.backfillFingerprint(postId, ARTICLE);
+
+        // Assert
+        assertFalse(backfilled);
+        verify(postFingerprintRepository, never()).save(any());
+    }
+
+    private static PostFingerprint fingerprintOf(UUID postId, String content) {
+        long fingerprint = SimHash.fingerprint(SimHash.tokenize(content));
+        return PostFingerprint.builder()
+                .postId(postId)
+                .fingerprint(fingerprint)
+                .band0(SimHash.band(fingerprint, 0))
+                .band1(SimHash.band(fingerprint, 1))
+                .band2(SimHash.band(fingerprint, 2))
+                .band3(SimHash.band(fingerprint, 3))
+                .build();
+    }
+}
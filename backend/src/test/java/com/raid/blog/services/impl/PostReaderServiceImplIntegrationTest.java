@@ -0,0 +1,82 @@
+package com.raid.blog.services.impl;
+
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.entities.Category;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.entities.User;
+import com.raid.blog.repositories.CategoryRepository;
+import com.raid.blog.repositories.PostRepository;
+import com.raid.blog.repositories.UserRepository;
+import com.raid.blog.services.PostReaderService;
+import com.raid.blog.services.PostViewService;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Scheduled flushes are pushed out so only the explicit flushes below write sketches
+@SpringBootTest(properties = {
+        "blog.posts.view-counts.flush-interval=PT1H",
+        "blog.posts.readers.flush-interval=PT1H"
+})
+@Transactional
+public class PostReaderServiceImplIntegrationTest {
+
+    @Autowired
+    private PostReaderService postReaderService;
+
+    @Autowired
+    private PostViewService postViewService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void should_merge_flushed_and_pending_readers_without_touching_view_counts() {
+        // Arrange
+        User user = userRepository.save(User.builder()
+                .name("Reader")
+                .email("reader-" + UUID.randomUUID() + "@example.com")
+                .password("some password")
+                .build());
+        Category category = categoryRepository.save(Category.builder().name("Readers " + UUID.randomUUID()).build());
+        Post post = postRepository.saveAndFlush(Post.builder()
+                .title("Read post")
+                .content("This post is going to be read by a few people")
+                .status(PostStatus.PUBLISHED)
+                .readingTime(1)
+                .author(user)
+                .category(category)
+                .build());
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            postReaderService.recordReader(post.getId(), "user:" + i);
+            postViewService.recordView(post.getId());
+        }
+        postViewService.flushViews();
+        postReaderService.flushReaders();
+        for (int i = 10; i < 30; i++) {
+            postReaderService.recordReader(post.getId(), "user:" + i);
+        }
+        entityManager.clear();
+
+        // Assert
+        assertEquals(30, postReaderService.estimateReaders(post.getId()), 30 * 0.05);
+        assertEquals(20L, postRepository.findById(post.getId()).orElseThrow().getViewCount());
+    }
+}
@@ -0,0 +1,131 @@
+package com.raid.blog.services.impl;
+
+import com.raid.blog.domain.CreatePostRequest;
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.RevisionKind;
+import com.raid.blog.domain.UpdatePostRequest;
+import com.raid.blog.domain.entities.Category;
+import com.raid.blog.domain.entities.PostRevision;
+import com.raid.blog.domain.entities.User;
+import com.raid.blog.repositories.CategoryRepository;
+import com.raid.blog.repositories.PostRevisionRepository;
+import com.raid.blog.repositories.UserRepository;
+import com.raid.blog.services.PostRevisionService;
+import com.raid.blog.services.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Without a queue every revision is dropped while the revision thread is busy
+@SpringBootTest(properties = {
+        "blog.posts.revisions.queue-capacity=0",
+        "blog.posts.revisions.catch-up-interval=PT0.1S"
+})
+public class PostRevisionServiceImplDroppedRevisionsIntegrationTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRevisionService postRevisionService;
+
+    @Autowired
+    private PostRevisionRepository postRevisionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ThreadPoolTaskExecutor revisionExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private Category category;
+    private UUID postId;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Editor")
+                .email("editor-" + UUID.randomUUID() + "@example.com")
+                .password("some password")
+                .build());
+        category = categoryRepository.save(Category.builder().name("Dropped " + UUID.randomUUID()).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (postId != null) {
+            postService.deletePost(postId);
+        }
+        categoryRepository.deleteById(category.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    public void should_record_the_current_post_as_a_snapshot_after_dropping_revisions() throws Exception {
+        // Arrange
+        CountDownLatch busy = new CountDownLatch(1);
+        revisionExecutor.execute(() -> {
+            try {
+                busy.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        double droppedBefore = meterRegistry.get("blog.revisions.dropped").functionCounter().count();
+
+        // Act
+        String content = "A draft whose revisions are dropped. ".repeat(10);
+        postId = postService.createPost(user, CreatePostRequest.builder()
+                .title("Dropped")
+                .content(content)
+                .status(PostStatus.DRAFT)
+                .categoryId(category.getId())
+                .build()).getId();
+        for (int i = 1; i <= 3; i++) {
+            content = content + " Edit " + i + ".";
+            postService.updatePost(postId, UpdatePostRequest.builder()
+                    .title("Dropped")
+                    .content(content)
+                    .status(PostStatus.DRAFT)
+                    .categoryId(category.getId())
+                    .tagIds(Set.of())
+                    .build());
+        }
+        busy.countDown();
+        awaitRevisions(1);
+
+        // Assert
+        assertEquals(4, meterRegistry.get("blog.revisions.dropped").functionCounter().count() - droppedBefore);
+        assertEquals(List.of(1), postRevisionService.getRevisions(postId).stream()
+                .map(PostRevisionRepository.RevisionSummary::getRevision)
+                .toList());
+        PostRevision revision = postRevisionRepository.findById(new PostRevision.Key(postId, 1)).orElseThrow();
+        assertEquals(RevisionKind.SNAPSHOT, revision.getKind());
+        assertEquals(content, postRevisionService.getRevision(postId, 1).getContent());
+    }
+
+    private void awaitRevisions(int count) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline && postRevisionService.getRevisions(postId).size() < count) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.raid.blog.services.impl;
+
+import com.raid.blog.domain.CreatePostRequest;
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.RevisionKind;
+import com.raid.blog.domain.UpdatePostRequest;
+import com.raid.blog.domain.entities.Category;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.entities.PostRevision;
+import com.raid.blog.domain.entities.User;
+import com.raid.blog.repositories.CategoryRepository;
+import com.raid.blog.repositories.PostRevisionRepository;
+import com.raid.blog.repositories.UserRepository;
+import com.raid.blog.services.PostRevisionService;
+import com.raid.blog.services.PostService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Revisions are written after commit, so the posts here are saved in real transactions
+@SpringBootTest(properties = "blog.posts.revisions.snapshot-interval=4")
+public class PostRevisionServiceImplIntegrationTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRevisionService postRevisionService;
+
+    @Autowired
+    private PostRevisionRepository postRevisionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private User user;
+    private Category category;
+    private UUID postId;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Editor")
+                .email("editor-" + UUID.randomUUID() + "@example.com")
+                .password("some password")
+                .build());
+        category = categoryRepository.save(Category.builder().name("Revisions " + UUID.randomUUID()).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (postId != null) {
+            postService.deletePost(postId);
+        }
+        categoryRepository.deleteById(category.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    public void should_store_snapshots_and_deltas_and_reconstruct_every_revision() throws Exception {
+        // Arrange
+        List<String> contents = new ArrayList<>();
+        String content = "A draft about revision history. ".repeat(20);
+        contents.add(content);
+        Post post = postService.createPost(user, CreatePostRequest.builder()
+                .title("Revisions")
+                .content(content)
+                .status(PostStatus.DRAFT)
+                .categoryId(category.getId())
+                .build());
+        postId = post.getId();
+
+        // Act
+        for (int i = 1; i < 6; i++) {
+            content = content.replaceFirst("revision", "edit " + i);
+            contents.add(content);
+            postService.updatePost(postId, UpdatePostRequest.builder()
+                    .title("Revisions")
+                    .content(content)
+                    .status(PostStatus.DRAFT)
+                    .categoryId(category.getId())
+                    .tagIds(Set.of())
+                    .build());
+        }
+        awaitRevisions(6);
+
+        // Assert
+        assertEquals(List.of(6, 5, 4, 3, 2, 1), postRevisionService.getRevisions(postId).stream()
+                .map(PostRevisionRepository.RevisionSummary::getRevision)
+                .toList());
+        assertEquals(List.of(RevisionKind.SNAPSHOT, RevisionKind.DELTA, RevisionKind.DELTA,
+                RevisionKind.DELTA, RevisionKind.SNAPSHOT, RevisionKind.DELTA), kindsOfRevisions(6));
+        for (int revision = 1; revision <= 6; revision++) {
+            assertEquals(contents.get(revision - 1), postRevisionService.getRevision(postId, revision).getContent());
+        }
+        PostRevision delta = postRevisionRepository.findById(new PostRevision.Key(postId, 2)).orElseThrow();
+        assertTrue(delta.getData().length < 64);
+    }
+
+    @Test
+    public void should_not_find_missing_revision() throws Exception {
+        // Arrange
+        postId = postService.createPost(user, CreatePostRequest.builder()
+                .title("Revisions")
+                .content("Only a single revision")
+                .status(PostStatus.DRAFT)
+                .categoryId(category.getId())
+                .build()).getId();
+        awaitRevisions(1);
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> postRevisionService.getRevision(postId, 2));
+    }
+
+    private List<RevisionKind> kindsOfRevisions(int count) {
+        List<RevisionKind> kinds = new ArrayList<>();
+        for (int revision = 1; revision <= count; revision++) {
+            kinds.add(postRevisionRepository.findById(new PostRevision.Key(postId, revision)).orElseThrow().getKind());
+        }
+        return kinds;
+    }
+
+    private void awaitRevisions(int count) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline && postRevisionService.getRevisions(postId).size() < count) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.raid.blog.services.impl;
 
 import com.raid.blog.domain.CreatePostRequest;
+import com.raid.blog.domain.PatchPostContentRequest;
+import com.raid.blog.domain.PostFilter;
 import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.TagMatch;
+import com.raid.blog.domain.TextOperation;
 import com.raid.blog.domain.UpdatePostRequest;
 import com.raid.blog.domain.entities.Category;
 import com.raid.blog.domain.entities.Post;
@@ -17,8 +21,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -237,7 +245,104 @@ public class PostServiceImplIntegrationTest {
         Post persistedPost = postRepository.findById(createdPost.getId()).orElse(null);
         assertNotNull(persistedPost);
         assertEquals(3, persistedPost.getReadingTime());
+        assertEquals(600, persistedPost.getWordCount());
+        assertTrue(persistedPost.getExcerpt().startsWith("word word"));
+        assertTrue(persistedPost.getExcerpt().endsWith("word…"));
     }
 
+    @Test
+    public void should_filter_published_posts_by_categories_tags_and_author() {
+        // Arrange
+        User author = userRepository.save(User.builder().name("Author").email("author@example.com").password("some pass").build());
+        User otherAuthor = userRepository.save(User.builder().name("Other").email("other@example.com").password("some pass").build());
+        Category backend = categoryRepository.save(Category.builder().name("Backend").build());
+        Category frontend = categoryRepository.save(Category.builder().name("Frontend").build());
+        Category devops = categoryRepository.save(Category.builder().name("DevOps").build());
+        Tag java = tagRepository.save(Tag.builder().name("Java").build());
+        Tag spring = tagRepository.save(Tag.builder().name("Spring").build());
+
+        Post javaAndSpring = savePost("Java and Spring", author, backend, PostStatus.PUBLISHED, Set.of(java, spring));
+        Post javaOnly = savePost("Java only", otherAuthor, frontend, PostStatus.PUBLISHED, Set.of(java));
+        savePost("DevOps", author, devops, PostStatus.PUBLISHED, Set.of(spring));
+        savePost("Draft", author, backend, PostStatus.DRAFT, Set.of(java, spring));
+
+        // Act
+        List<Post> inCategories = postService.getAllPosts(PostFilter.builder()
+                .categoryIds(Set.of(backend.getId(), frontend.getId()))
+                .build());
+        List<Post> withAnyTag = postService.getAllPosts(PostFilter.builder()
+                .categoryIds(Set.of(backend.getId(), frontend.getId()))
+                .tagIds(Set.of(java.getId(), spring.getId()))
+                .tagMatch(TagMatch.ANY)
+                .build());
+        List<Post> withAllTags = postService.getAllPosts(PostFilter.builder()
+                .tagIds(Set.of(java.getId(), spring.getId()))
+                .tagMatch(TagMatch.ALL)
+                .build());
+        List<Post> byAuthor = postService.getAllPosts(PostFilter.builder()
+                .categoryIds(Set.of(backend.getId(), frontend.getId()))
+                .authorId(otherAuthor.getId())
+                .build());
+        List<Post> createdInFuture = postService.getAllPosts(PostFilter.builder()
+                .categoryIds(Set.of(backend.getId(), frontend.getId()))
+                .createdFrom(LocalDateTime.now().plusDays(1))
+                .build());
+        List<Post> unknownCategory = postService.getAllPosts(PostFilter.builder()
+                .categoryIds(Set.of(UUID.randomUUID()))
+                .build());
+
+        // Assert
+        assertEquals(Set.of(javaAndSpring.getId(), javaOnly.getId()), idsOf(inCategories));
+        assertEquals(Set.of(javaAndSpring.getId(), javaOnly.getId()), idsOf(withAnyTag));
+        assertEquals(Set.of(javaAndSpring.getId()), idsOf(withAllTags));
+        assertEquals(Set.of(javaOnly.getId()), idsOf(byAuthor));
+        assertTrue(createdInFuture.isEmpty());
+        assertTrue(unknownCategory.isEmpty());
+    }
+
+    @Test
+    public void should_patch_draft_content_and_bump_version() {
+        // Arrange
+        User author = userRepository.save(User.builder().name("Autosaver").email("autosaver@example.com").password("password").build());
+        Category category = categoryRepository.save(Category.builder().name("Autosave").build());
+        Post draft = postRepository.saveAndFlush(Post.builder()
+                .title("Autosaved draft")
+                .content("First draft sentence.")
+                .status(PostStatus.DRAFT)
+                .author(author)
+                .category(category)
+                .readingTime(1)
+                .build());
+        Long baseVersion = draft.getVersion();
+
+        // Act
+        Post patched = postService.patchPostContent(draft.getId(), PatchPostContentRequest.builder()
+                .baseVersion(baseVersion)
+                .operations(List.of(TextOperation.builder().position(21).insert(" Second sentence.").build()))
+                .build());
+
+        // Assert
+        assertEquals("First draft sentence. Second sentence.", postRepository.findById(draft.getId()).orElseThrow().getContent());
+        assertEquals(baseVersion + 1, patched.getVersion());
+        assertThrows(IllegalStateException.class, () -> postService.patchPostContent(draft.getId(), PatchPostContentRequest.builder()
+                .baseVersion(baseVersion)
+                .operations(List.of(TextOperation.builder().position(0).deleteCount(5).insert("Last").build()))
+                .build()));
+    }
 
+    private Post savePost(String title, User author, Category category, PostStatus status, Set<Tag> tags) {
+        return postRepository.save(Post.builder()
+                .title(title)
+                .content("Content")
+                .status(status)
+                .author(author)
+                .category(category)
+                .tags(new HashSet<>(tags))
+                .readingTime(1)
+                .build());
+    }
+
+    private Set<UUID> idsOf(List<Post> posts) {
+        return posts.stream().map(Post::getId).collect(Collectors.toSet());
+    }
 }
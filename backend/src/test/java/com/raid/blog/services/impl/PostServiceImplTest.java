@@ -1,14 +1,31 @@
 package com.raid.blog.services.impl;
 
+import com.raid.blog.contentstore.PostContentStore;
+import com.raid.blog.domain.ContentAnalysis;
 import com.raid.blog.domain.CreatePostRequest;
+import com.raid.blog.domain.PatchPostContentRequest;
+import com.raid.blog.domain.PostFilter;
 import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.TagMatch;
+import com.raid.blog.domain.TextOperation;
 import com.raid.blog.domain.UpdatePostRequest;
 import com.raid.blog.domain.entities.Category;
 import com.raid.blog.domain.entities.Post;
 import com.raid.blog.domain.entities.Tag;
 import com.raid.blog.domain.entities.User;
+import com.raid.blog.domain.events.PostDeletedEvent;
+import com.raid.blog.domain.events.PostRevisedEvent;
+import com.raid.blog.domain.events.PostSavedEvent;
+import com.raid.blog.domain.events.PostScheduledEvent;
+import com.raid.blog.drafts.DraftWriteCoalescer;
+import com.raid.blog.indexing.PostIndex;
+import com.raid.blog.indexing.TrendingPosts;
 import com.raid.blog.repositories.PostRepository;
 import com.raid.blog.services.CategoryService;
+import com.raid.blog.services.PostFingerprintService;
+import com.raid.blog.services.PostReaderService;
+import com.raid.blog.services.PostRevisionService;
+import com.raid.blog.services.PostViewService;
 import com.raid.blog.services.TagService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
@@ -16,7 +33,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -35,124 +57,127 @@ class PostServiceImplTest {
     @Mock
     private TagService tagService;
 
-    @InjectMocks
-    private PostServiceImpl postService;
+    @Mock
+    private PostFingerprintService postFingerprintService;
 
-    @Test
-    public void should_get_all_published_posts_if_no_filters() {
-        // Arrange
-        Category category1 = new Category();
-        Category category2 = new Category();
+    @Mock
+    private PostViewService postViewService;
 
-        category1.setId(UUID.randomUUID());
-        category1.setName("Category 1");
+    @Mock
+    private PostReaderService postReaderService;
 
-        category2.setId(UUID.randomUUID());
-        category2.setName("Category 2");
+    @Mock
+    private PostRevisionService postRevisionService;
 
-        Tag tag1 = new Tag();
-        Tag tag2 = new Tag();
+    @Mock
+    private PostIndex postIndex;
 
-        tag1.setId(UUID.randomUUID());
-        tag1.setName("Tag 1");
+    @Mock
+    private TrendingPosts trendingPosts;
 
-        tag2.setId(UUID.randomUUID());
-        tag2.setName("Tag 2");
+    @Mock
+    private DraftWriteCoalescer draftWriteCoalescer;
 
-        UUID categoryId = null;
-        UUID tagId = null;
+    @Mock
+    private PostContentStore postContentStore;
 
-        List<Post> allPosts = Arrays.asList(
-                Post.builder()
-                        .id(UUID.randomUUID())
-                        .title("Test Post 1")
-                        .content("Test content 1")
-                        .status(PostStatus.DRAFT)
-                        .category(category1)
-                        .tags(Set.of(tag1))
-                        .build(),
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PostServiceImpl postService;
+
+    @Test
+    public void should_get_all_published_posts_if_no_filters() {
+        // Arrange
+        Category category = Category.builder().id(UUID.randomUUID()).name("Category 1").build();
+        Tag tag = Tag.builder().id(UUID.randomUUID()).name("Tag 1").build();
+
+        List<Post> expectedPosts = List.of(
                 Post.builder()
                         .id(UUID.randomUUID())
                         .title("Test Post 2")
                         .content("Test content 2")
                         .status(PostStatus.PUBLISHED)
-                        .category(category2)
-                        .tags(Set.of(tag2))
+                        .category(category)
+                        .tags(Set.of(tag))
                         .build()
         );
 
-        List<Post> expectedPosts = allPosts.subList(1, 2);
-
         // What to return
-        when(postRepository.findAllByStatus(PostStatus.PUBLISHED)).thenReturn(expectedPosts);
+        when(postRepository.findAll(any(Specification.class))).thenReturn(expectedPosts);
 
         // Act
-        List<Post> result = postService.getAllPosts(categoryId, tagId);
+        List<Post> result = postService.getAllPosts(PostFilter.builder().build());
 
         // Assert
         assertNotNull(result);
         assertEquals(expectedPosts, result);
         assertEquals(1, result.size());
 
-        verify(postRepository, times(1)).findAllByStatus(PostStatus.PUBLISHED);
+        verify(postRepository, times(1)).findAll(any(Specification.class));
     }
 
     @Test
-    public void should_return_published_posts_with_specified_category() {
-        // Arrangevs
-        UUID categoryId = UUID.randomUUID();
-        Category category = new Category();
-        category.setId(categoryId);
+    public void should_filter_posts_in_a_single_query_without_resolving_filter_ids() {
+        // Arrange
+        PostFilter filter = PostFilter.builder()
+                .categoryIds(Set.of(UUID.randomUUID(), UUID.randomUUID()))
+                .tagIds(Set.of(UUID.randomUUID(), UUID.randomUUID()))
+                .tagMatch(TagMatch.ALL)
+                .authorId(UUID.randomUUID())
+                .build();
 
         List<Post> expectedPosts = Collections.singletonList(
                 Post.builder()
                         .id(UUID.randomUUID())
-                        .category(category)
                         .status(PostStatus.PUBLISHED)
                         .build()
         );
 
         // What to return
-        when(categoryService.getCategoryById(categoryId)).thenReturn(category);
-        when(postRepository.findAllByStatusAndCategory(PostStatus.PUBLISHED, category)).thenReturn(expectedPosts);
+        when(postRepository.findAll(any(Specification.class))).thenReturn(expectedPosts);
 
         // Act
-        List<Post> result = postService.getAllPosts(categoryId, null);
+        List<Post> result = postService.getAllPosts(filter);
 
         // Assert
-        assertEquals(1, result.size());
         assertEquals(expectedPosts, result);
 
-        verify(postRepository, times(1)).findAllByStatusAndCategory(PostStatus.PUBLISHED, category);
+        verify(postRepository, times(1)).findAll(any(Specification.class));
+        verifyNoInteractions(categoryService, tagService);
     }
 
     @Test
-    public void should_return_published_posts_with_specified_tag() {
+    public void should_reject_inverted_creation_date_range() {
         // Arrange
-        UUID tagId = UUID.randomUUID();
-        Tag tag = new Tag();
-        tag.setId(tagId);
+        PostFilter filter = PostFilter.builder()
+                .createdFrom(LocalDateTime.of(2025, 8, 2, 0, 0))
+                .createdTo(LocalDateTime.of(2025, 8, 1, 0, 0))
+                .build();
 
-        List<Post> expectedPosts = Collections.singletonList(
-                Post.builder()
-                        .id(UUID.randomUUID())
-                        .tags(Set.of(tag))
-                        .status(PostStatus.PUBLISHED)
-                        .build()
-        );
+        // Act
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> postService.getAllPosts(filter));
 
-        // What to return
-        when(tagService.getTagById(tagId)).thenReturn(tag);
-        when(postRepository.findAllByStatusAndTagsContaining(PostStatus.PUBLISHED, tag)).thenReturn(expectedPosts);
+        // Assert
+        assertEquals("createdFrom must not be after createdTo", exception.getMessage());
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    public void should_reject_inverted_creation_date_range_when_counting_facets() {
+        // Arrange
+        PostFilter filter = PostFilter.builder()
+                .createdFrom(LocalDateTime.of(2025, 8, 2, 0, 0))
+                .createdTo(LocalDateTime.of(2025, 8, 1, 0, 0))
+                .build();
 
         // Act
-        List<Post> result = postService.getAllPosts(null, tagId);
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> postService.getFacetCounts(filter));
 
         // Assert
-        assertEquals(1, result.size());
-        assertEquals(expectedPosts, result);
-
-        verify(postRepository, times(1)).findAllByStatusAndTagsContaining(PostStatus.PUBLISHED, tag);
+        assertEquals("createdFrom must not be after createdTo", exception.getMessage());
+        verifyNoInteractions(postIndex);
     }
 
     @Test
@@ -163,7 +188,7 @@ class PostServiceImplTest {
         post.setId(postId);
 
         // What to return
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        when(postRepository.findWithDetailsById(postId)).thenReturn(Optional.of(post));
 
         // Act
         Post retrievedPost = postService.getPost(postId);
@@ -172,7 +197,7 @@ class PostServiceImplTest {
         assertNotNull(retrievedPost);
         assertEquals(retrievedPost.getId(), postId);
 
-        verify(postRepository, times(1)).findById(postId);
+        verify(postRepository, times(1)).findWithDetailsById(postId);
     }
 
     @Test
@@ -181,14 +206,117 @@ class PostServiceImplTest {
         UUID nonExistentPostId = UUID.randomUUID();
 
         // What to return
-        when(postRepository.findById(nonExistentPostId)).thenReturn(Optional.empty());
+        when(postRepository.findWithDetailsById(nonExistentPostId)).thenReturn(Optional.empty());
 
         // Act
         Exception exp = assertThrows(EntityNotFoundException.class, () -> postService.getPost(nonExistentPostId));
 
         // Assert
         assertEquals("Post does not exist", exp.getMessage());
-        verify(postRepository, times(1)).findById(nonExistentPostId);
+        verify(postRepository, times(1)).findWithDetailsById(nonExistentPostId);
+    }
+
+    @Test
+    public void should_serve_post_content_from_store_when_version_matches() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        Post post = Post.builder().id(postId).version(3L).content("Content in the database").build();
+        ByteBuffer stored = ByteBuffer.wrap("Content in the store".getBytes(StandardCharsets.UTF_8));
+
+        // What to return
+        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        when(postContentStore.read(postId, 3L)).thenReturn(Optional.of(stored));
+
+        // Act
+        ByteBuffer content = postService.getPostContent(postId);
+
+        // Assert
+        assertSame(stored, content);
+        verify(postContentStore, never()).offer(any(), anyLong(), any());
+    }
+
+    @Test
+    public void should_read_post_content_from_database_and_store_it_on_miss() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        Post post = Post.builder().id(postId).version(3L).content("Content in the database").build();
+
+        // What to return
+        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        when(postContentStore.read(postId, 3L)).thenReturn(Optional.empty());
+
+        // Act
+        ByteBuffer content = postService.getPostContent(postId);
+
+        // Assert
+        assertEquals("Content in the database", StandardCharsets.UTF_8.decode(content).toString());
+        verify(postContentStore, times(1)).offer(postId, 3L, "Content in the database".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void should_get_related_posts_in_ranked_order() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        Post first = Post.builder().id(UUID.randomUUID()).build();
+        Post second = Post.builder().id(UUID.randomUUID()).build();
+
+        // What to return
+        when(postIndex.contains(postId)).thenReturn(true);
+        when(postIndex.relatedPostIds(postId, 2)).thenReturn(List.of(first.getId(), second.getId()));
+        when(postRepository.findAllByIdInAndStatus(List.of(first.getId(), second.getId()), PostStatus.PUBLISHED))
+                .thenReturn(List.of(second, first));
+
+        // Act
+        List<Post> relatedPosts = postService.getRelatedPosts(postId, 2);
+
+        // Assert
+        assertEquals(List.of(first, second), relatedPosts);
+    }
+
+    @Test
+    public void should_throw_exception_when_getting_related_posts_of_nonexistent_post() {
+        // Arrange
+        UUID nonExistentPostId = UUID.randomUUID();
+
+        // What to return
+        when(postIndex.contains(nonExistentPostId)).thenReturn(false);
+
+        // Act
+        Exception exp = assertThrows(EntityNotFoundException.class, () -> postService.getRelatedPosts(nonExistentPostId, 5));
+
+        // Assert
+        assertEquals("Post does not exist", exp.getMessage());
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    public void should_reject_related_posts_limit_out_of_range() {
+        // Act
+        Exception exp = assertThrows(IllegalArgumentException.class, () -> postService.getRelatedPosts(UUID.randomUUID(), PostIndex.MAX_RELATED_POSTS + 1));
+
+        // Assert
+        assertEquals("limit must be between 1 and " + PostIndex.MAX_RELATED_POSTS, exp.getMessage());
+        verifyNoInteractions(postIndex, postRepository);
+    }
+
+    @Test
+    public void should_get_trending_posts_of_category_in_ranked_order() {
+        // Arrange
+        UUID categoryId = UUID.randomUUID();
+        Post first = Post.builder().id(UUID.randomUUID()).build();
+        Post second = Post.builder().id(UUID.randomUUID()).build();
+        UUID unpublishedPostId = UUID.randomUUID();
+        List<UUID> trendingPostIds = List.of(first.getId(), unpublishedPostId, second.getId());
+
+        // What to return
+        when(trendingPosts.trendingPostIds(categoryId, 3)).thenReturn(trendingPostIds);
+        when(postRepository.findAllByIdInAndStatus(trendingPostIds, PostStatus.PUBLISHED)).thenReturn(List.of(second, first));
+
+        // Act
+        List<Post> posts = postService.getTrendingPosts(categoryId, 3);
+
+        // Assert
+        assertEquals(List.of(first, second), posts);
     }
 
     @Test
@@ -263,7 +391,7 @@ class PostServiceImplTest {
         // What to return
         when(categoryService.getCategoryById(createPostRequest.getCategoryId())).thenReturn(category);
         when(tagService.getTagsByIds(createPostRequest.getTagIds())).thenReturn(tags);
-        when(postRepository.save(any(Post.class))).thenReturn(
+        when(postRepository.saveAndFlush(any(Post.class))).thenReturn(
                 Post
                         .builder()
                         .id(UUID.randomUUID())
@@ -292,7 +420,160 @@ class PostServiceImplTest {
 
         verify(categoryService, times(1)).getCategoryById(categoryId);
         verify(tagService, times(1)).getTagsByIds(createPostRequest.getTagIds());
-        verify(postRepository, times(1)).save(any(Post.class));
+        verify(postRepository, times(1)).saveAndFlush(any(Post.class));
+        verify(postFingerprintService, times(1)).recordFingerprint(savedPost.getId(), createPostRequest.getContent());
+        verify(eventPublisher, times(1)).publishEvent(any(PostSavedEvent.class));
+    }
+
+    @Test
+    public void should_schedule_post_with_future_publish_time() {
+        // Arrange
+        User user = User.builder().id(UUID.randomUUID()).build();
+        Category category = Category.builder().id(UUID.randomUUID()).build();
+        LocalDateTime publishAt = LocalDateTime.now().plusHours(2);
+        CreatePostRequest createPostRequest = CreatePostRequest.builder()
+                .title("Scheduled")
+                .content("Content published later")
+                .categoryId(category.getId())
+                .status(PostStatus.SCHEDULED)
+                .publishAt(publishAt)
+                .build();
+
+        // What to return
+        when(categoryService.getCategoryById(category.getId())).thenReturn(category);
+        when(tagService.getTagsByIds(createPostRequest.getTagIds())).thenReturn(List.of());
+        when(postRepository.saveAndFlush(any(Post.class))).thenAnswer(invocation -> {
+            Post post = invocation.getArgument(0);
+            post.setId(UUID.randomUUID());
+            return post;
+        });
+
+        // Act
+        Post savedPost = postService.createPost(user, createPostRequest);
+
+        // Assert
+        assertEquals(PostStatus.SCHEDULED, savedPost.getStatus());
+        assertEquals(publishAt, savedPost.getPublishAt());
+        verify(eventPublisher, times(1)).publishEvent(any(PostSavedEvent.class));
+        verify(eventPublisher, times(1)).publishEvent(any(PostScheduledEvent.class));
+    }
+
+    @Test
+    public void should_reject_scheduled_post_without_future_publish_time() {
+        // Arrange
+        CreatePostRequest createPostRequest = CreatePostRequest.builder()
+                .title("Scheduled")
+                .content("Content published later")
+                .categoryId(UUID.randomUUID())
+                .status(PostStatus.SCHEDULED)
+                .publishAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+
+        // Act
+        Exception exp = assertThrows(IllegalArgumentException.class,
+                () -> postService.createPost(User.builder().build(), createPostRequest));
+
+        // Assert
+        assertEquals("Scheduled posts need a publishAt in the future", exp.getMessage());
+        verifyNoInteractions(postRepository, eventPublisher);
+    }
+
+    @Test
+    public void should_patch_draft_content_from_base_version() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        Post draft = Post.builder()
+                .id(postId)
+                .content("The quick brown fox jumps")
+                .status(PostStatus.DRAFT)
+                .readingTime(1)
+                .version(3L)
+                .build();
+        PatchPostContentRequest request = PatchPostContentRequest.builder()
+                .baseVersion(3L)
+                .operations(List.of(
+                        TextOperation.builder().position(4).deleteCount(6).insert("slow ").build(),
+                        TextOperation.builder().position(25).deleteCount(0).insert(" over the dog").build()))
+                .build();
+
+        // What to return
+        when(postRepository.findById(postId)).thenReturn(Optional.of(draft));
+        when(postRepository.saveAndFlush(draft)).thenReturn(draft);
+
+        // Act
+        Post patchedPost = postService.patchPostContent(postId, request);
+
+        // Assert
+        assertEquals("The slow brown fox jumps over the dog", patchedPost.getContent());
+        verifyNoInteractions(postFingerprintService);
+        verify(eventPublisher, times(1)).publishEvent(any(PostRevisedEvent.class));
+        verify(eventPublisher, never()).publishEvent(any(PostSavedEvent.class));
+    }
+
+    @Test
+    public void should_reject_patch_from_stale_version() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        Post draft = Post.builder().id(postId).content("Some draft content").version(5L).build();
+        PatchPostContentRequest request = PatchPostContentRequest.builder()
+                .baseVersion(4L)
+                .operations(List.of(TextOperation.builder().position(0).deleteCount(4).insert("Any").build()))
+                .build();
+
+        // What to return
+        when(postRepository.findById(postId)).thenReturn(Optional.of(draft));
+
+        // Act
+        Exception exp = assertThrows(IllegalStateException.class, () -> postService.patchPostContent(postId, request));
+
+        // Assert
+        assertEquals("Post was modified since version 4", exp.getMessage());
+        assertEquals("Some draft content", draft.getContent());
+        verify(postRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    public void should_reject_overlapping_patch_operations() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        Post draft = Post.builder().id(postId).content("Some draft content").version(1L).build();
+        PatchPostContentRequest request = PatchPostContentRequest.builder()
+                .baseVersion(1L)
+                .operations(List.of(
+                        TextOperation.builder().position(5).deleteCount(5).build(),
+                        TextOperation.builder().position(8).deleteCount(1).insert("x").build()))
+                .build();
+
+        // What to return
+        when(postRepository.findById(postId)).thenReturn(Optional.of(draft));
+
+        // Act
+        Exception exp = assertThrows(IllegalArgumentException.class, () -> postService.patchPostContent(postId, request));
+
+        // Assert
+        assertEquals("Operations must be ordered, non-overlapping and within the base content", exp.getMessage());
+        verify(postRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    public void should_reject_patch_operations_whose_delete_count_overflows() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        Post draft = Post.builder().id(postId).content("Some draft content").version(1L).build();
+        PatchPostContentRequest request = PatchPostContentRequest.builder()
+                .baseVersion(1L)
+                .operations(List.of(TextOperation.builder().position(5).deleteCount(Integer.MAX_VALUE).build()))
+                .build();
+
+        // What to return
+        when(postRepository.findById(postId)).thenReturn(Optional.of(draft));
+
+        // Act
+        Exception exp = assertThrows(IllegalArgumentException.class, () -> postService.patchPostContent(postId, request));
+
+        // Assert
+        assertEquals("Operations must be ordered, non-overlapping and within the base content", exp.getMessage());
+        verify(postRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -360,6 +641,79 @@ class PostServiceImplTest {
         verify(postRepository, times(1)).findById(postId);
         verify(categoryService, times(1)).getCategoryById(categoryId);
         verify(tagService, times(1)).getTagsByIds(updatePostRequest.getTagIds());
+        verify(postFingerprintService, times(1)).recordFingerprint(postId, updatePostRequest.getContent());
+    }
+
+    @Test
+    public void should_drop_the_fingerprint_of_posts_saved_as_drafts() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        Category category = Category.builder().id(UUID.randomUUID()).name("Category 1").build();
+        UpdatePostRequest updatePostRequest = UpdatePostRequest.builder()
+                .title("Title")
+                .content("Content taken back to draft")
+                .status(PostStatus.DRAFT)
+                .categoryId(category.getId())
+                .tagIds(Set.of())
+                .build();
+        Post existingPost = Post.builder()
+                .id(postId)
+                .title("Title")
+                .content("Published content")
+                .status(PostStatus.PUBLISHED)
+                .category(category)
+                .build();
+
+        // What to return
+        when(postRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+        when(postRepository.save(any(Post.class))).thenReturn(existingPost);
+
+        // Act
+        postService.updatePost(postId, updatePostRequest);
+
+        // Assert
+        verify(postFingerprintService, never()).recordFingerprint(any(), any());
+        verify(postFingerprintService, times(1)).deleteFingerprint(postId);
+    }
+
+    @Test
+    public void should_queue_draft_update_instead_of_writing_when_coalescing() {
+        // Arrange
+        UUID postId = UUID.randomUUID();
+        Category category = Category.builder().id(UUID.randomUUID()).name("Category 1").build();
+        Tag tag = Tag.builder().id(UUID.randomUUID()).name("Tag 1").build();
+        UpdatePostRequest updatePostRequest = UpdatePostRequest.builder()
+                .title("New title")
+                .content("New draft content")
+                .status(PostStatus.DRAFT)
+                .categoryId(category.getId())
+                .tagIds(Set.of(tag.getId()))
+                .build();
+        Post existingPost = Post.builder()
+                .id(postId)
+                .title("Title")
+                .content("Draft content")
+                .status(PostStatus.DRAFT)
+                .category(category)
+                .tags(Set.of(tag))
+                .version(3L)
+                .build();
+        Post pendingPost = Post.builder().id(postId).title("New title").content("New draft content").version(4L).build();
+
+        // What to return
+        when(postRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+        when(draftWriteCoalescer.isEnabled()).thenReturn(true);
+        when(draftWriteCoalescer.enqueue(existingPost, updatePostRequest, ContentAnalysis.of("New draft content"), category, Set.of(tag))).thenReturn(Optional.of(pendingPost));
+
+        // Act
+        Post updatedPost = postService.updatePost(postId, updatePostRequest);
+
+        // Assert
+        assertSame(pendingPost, updatedPost);
+        verify(postRepository, never()).save(any(Post.class));
+        verify(categoryService, never()).getCategoryById(any());
+        verify(tagService, never()).getTagsByIds(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -388,15 +742,20 @@ class PostServiceImplTest {
                 .build();
 
         // What to return
-        when(postRepository.findById(postId)).thenReturn(Optional.ofNullable(existingPost));
+        when(postRepository.findWithDetailsById(postId)).thenReturn(Optional.ofNullable(existingPost));
 
         // Act
         postService.deletePost(postId);
 
         // Assert
         assertNotNull(existingPost);
-        verify(postRepository, times(1)).findById(postId);
+        verify(postRepository, times(1)).findWithDetailsById(postId);
         verify(postRepository, times(1)).delete(existingPost);
+        verify(postFingerprintService, times(1)).deleteFingerprint(postId);
+        verify(postViewService, times(1)).deleteViews(postId);
+        verify(postReaderService, times(1)).deleteReaders(postId);
+        verify(postRevisionService, times(1)).deleteRevisions(postId);
+        verify(eventPublisher, times(1)).publishEvent(any(PostDeletedEvent.class));
     }
 
     @Test
@@ -405,14 +764,14 @@ class PostServiceImplTest {
         UUID postId = UUID.randomUUID();
 
         // What to return
-        when(postRepository.findById(postId)).thenReturn(Optional.empty());
+        when(postRepository.findWithDetailsById(postId)).thenReturn(Optional.empty());
 
         // Act
         Exception exception = assertThrows(EntityNotFoundException.class, () -> postService.deletePost(postId));
 
         // Assert
         assertEquals("Post does not exist", exception.getMessage());
-        verify(postRepository, times(1)).findById(postId);
+        verify(postRepository, times(1)).findWithDetailsById(postId);
         verify(postRepository, times(0)).delete(any(Post.class));
     }
 }
\ No newline at end of file
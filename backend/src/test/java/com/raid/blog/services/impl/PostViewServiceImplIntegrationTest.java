@@ -0,0 +1,133 @@
+package com.raid.blog.services.impl;
+
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.entities.Category;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.entities.User;
+import com.raid.blog.repositories.CategoryRepository;
+import com.raid.blog.repositories.PostRepository;
+import com.raid.blog.repositories.PostStatsRepository;
+import com.raid.blog.repositories.UserRepository;
+import com.raid.blog.services.PostViewService;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Scheduled flushes are pushed out so only the explicit flushes below write counts
+@SpringBootTest(properties = {
+        "blog.posts.view-counts.flush-interval=PT1H",
+        "blog.posts.readers.flush-interval=PT1H"
+})
+@Transactional
+public class PostViewServiceImplIntegrationTest {
+
+    @Autowired
+    private PostViewService postViewService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostStatsRepository postStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void should_accumulate_views_across_flushes() {
+        // Arrange
+        Post post = savePost();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            postViewService.recordView(post.getId());
+        }
+        postViewService.flushViews();
+        postViewService.recordView(post.getId());
+        postViewService.recordView(post.getId());
+        postViewService.flushViews();
+        entityManager.clear();
+
+        // Assert
+        assertEquals(5L, postRepository.findById(post.getId()).orElseThrow().getViewCount());
+    }
+
+    @Test
+    public void should_not_lose_views_recorded_while_flushing() throws Exception {
+        // Arrange
+        Post post = savePost();
+        int threads = 4;
+        int viewsPerThread = 20_000;
+        ExecutorService viewers = Executors.newFixedThreadPool(threads);
+
+        // Act
+        List<Future<?>> recorded = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            recorded.add(viewers.submit(() -> {
+                for (int view = 0; view < viewsPerThread; view++) {
+                    postViewService.recordView(post.getId());
+                }
+            }));
+        }
+        while (recorded.stream().anyMatch(future -> !future.isDone())) {
+            postViewService.flushViews();
+        }
+        viewers.shutdown();
+        for (Future<?> future : recorded) {
+            future.get();
+        }
+        postViewService.flushViews();
+        postViewService.flushViews();
+        entityManager.clear();
+
+        // Assert
+        assertEquals((long) threads * viewsPerThread, postRepository.findById(post.getId()).orElseThrow().getViewCount());
+    }
+
+    @Test
+    public void should_not_store_views_of_deleted_posts() {
+        // Arrange
+        UUID deletedPostId = UUID.randomUUID();
+
+        // Act
+        postViewService.recordView(deletedPostId);
+        postViewService.flushViews();
+
+        // Assert
+        assertFalse(postStatsRepository.existsById(deletedPostId));
+    }
+
+    private Post savePost() {
+        User user = userRepository.save(User.builder()
+                .name("Viewer")
+                .email("viewer-" + UUID.randomUUID() + "@example.com")
+                .password("some password")
+                .build());
+        Category category = categoryRepository.save(Category.builder().name("Views " + UUID.randomUUID()).build());
+        return postRepository.saveAndFlush(Post.builder()
+                .title("Viewed post")
+                .content("This post is going to be viewed a few times")
+                .status(PostStatus.PUBLISHED)
+                .readingTime(1)
+                .author(user)
+                .category(category)
+                .build());
+    }
+}
@@ -5,6 +5,7 @@ import com.raid.blog.domain.entities.Category;
 import com.raid.blog.domain.entities.Post;
 import com.raid.blog.domain.entities.Tag;
 import com.raid.blog.domain.entities.User;
+import com.raid.blog.persistence.TagNameMigration;
 import com.raid.blog.repositories.CategoryRepository;
 import com.raid.blog.repositories.PostRepository;
 import com.raid.blog.repositories.TagRepository;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.HashSet;
 import java.util.List;
@@ -49,9 +51,15 @@ public class TagServiceImplIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private TagNameMigration tagNameMigration;
+
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     public void beforeEach() {
         User user = User.builder()
@@ -110,6 +118,24 @@ public class TagServiceImplIntegrationTest {
 
     }
 
+    @Test
+    public void should_match_tags_saved_without_a_normalized_name_once_it_is_filled_in() {
+        // Arrange
+        entityManager.flush();
+        jdbcTemplate.update("update tags set normalized_name = null where id = ?", this.existingTag.getId());
+        entityManager.clear();
+
+        // Act
+        int migrated = tagNameMigration.migrate();
+        List<Tag> createdTags = tagService.createTags(Set.of("existing-tag"));
+
+        // Assert
+        assertEquals(1, migrated);
+        assertEquals(List.of(this.existingTag.getId()), createdTags.stream().map(Tag::getId).toList());
+        assertEquals("existingtag", tagRepository.findById(this.existingTag.getId()).orElseThrow().getNormalizedName());
+        assertEquals(1L, tagRepository.count());
+    }
+
     @Test
     public void should_not_delete_existing_tag_with_posts_associated() {
         // Arrange
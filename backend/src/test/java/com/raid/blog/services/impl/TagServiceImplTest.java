@@ -2,6 +2,7 @@ package com.raid.blog.services.impl;
 
 import com.raid.blog.domain.entities.Post;
 import com.raid.blog.domain.entities.Tag;
+import com.raid.blog.indexing.TagNameIndex;
 import com.raid.blog.repositories.TagRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,9 @@ class TagServiceImplTest {
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private TagNameIndex tagNameIndex;
+
     @InjectMocks
     private TagServiceImpl tagService;
 
@@ -73,7 +77,7 @@ class TagServiceImplTest {
         allSavedTags.add(newTags.get(1));
 
         // What to return
-        when(tagRepository.findByNameIn(tagNames)).thenReturn(existingTags);
+        when(tagRepository.findByNormalizedNameInOrNameIn(anyCollection(), eq(tagNames))).thenReturn(existingTags);
         when(tagRepository.saveAll(any(List.class))).thenReturn(allSavedTags);
 
         // Act
@@ -84,10 +88,46 @@ class TagServiceImplTest {
         assertNotEquals(savedTags, newTags);
         assertEquals(3, savedTags.size());
 
-        verify(tagRepository, times(1)).findByNameIn(tagNames);
+        verify(tagRepository, times(1)).findByNormalizedNameInOrNameIn(anyCollection(), eq(tagNames));
         verify(tagRepository, times(1)).saveAll(any(List.class));
     }
 
+    @Test
+    public void should_reuse_existing_tag_with_same_normalized_name() {
+        // Arrange
+        Set<String> tagNames = Set.of("spring boot", "Spring-Boot");
+        Tag existingTag = Tag.builder().id(UUID.randomUUID()).name("SpringBoot").normalizedName("springboot").build();
+
+        // What to return
+        when(tagRepository.findByNormalizedNameInOrNameIn(Set.of("springboot"), tagNames)).thenReturn(List.of(existingTag));
+
+        // Act
+        List<Tag> savedTags = tagService.createTags(tagNames);
+
+        // Assert
+        assertEquals(List.of(existingTag), savedTags);
+        verify(tagRepository, never()).saveAll(any(List.class));
+    }
+
+    @Test
+    public void should_merge_new_tag_into_similar_existing_tag() {
+        // Arrange
+        Set<String> tagNames = Set.of("Kubernets");
+        Tag existingTag = Tag.builder().id(UUID.randomUUID()).name("Kubernetes").normalizedName("kubernetes").build();
+
+        // What to return
+        when(tagRepository.findByNormalizedNameInOrNameIn(Set.of("kubernets"), tagNames)).thenReturn(List.of());
+        when(tagNameIndex.findSimilar("kubernets")).thenReturn(Set.of("kubernetes"));
+        when(tagRepository.findByNormalizedNameIn(anyCollection())).thenReturn(List.of(existingTag));
+
+        // Act
+        List<Tag> savedTags = tagService.createTags(tagNames);
+
+        // Assert
+        assertEquals(List.of(existingTag), savedTags);
+        verify(tagRepository, never()).saveAll(any(List.class));
+    }
+
     @Test
     public void should_delete_tags_with_no_posts_associated() {
         // Arrange
@@ -0,0 +1,55 @@
+package com.raid.blog.support;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Asserts how many SQL statements Hibernate prepares while an action runs, so a
+ * mapper or lazy association that starts loading rows one by one fails the test
+ * instead of passing with the right response body. Statements run through
+ * JdbcTemplate are not counted.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static <T> T assertStatementCount(int expected, Action<T> action) throws Exception {
+        Recorded<T> recorded = record(action);
+        assertEquals(expected, recorded.statements().size(), () -> describe(recorded.statements()));
+        return recorded.result();
+    }
+
+    public static <T> T assertMaxStatementCount(int max, Action<T> action) throws Exception {
+        Recorded<T> recorded = record(action);
+        assertTrue(recorded.statements().size() <= max,
+                () -> "expected at most " + max + " statements " + describe(recorded.statements()));
+        return recorded.result();
+    }
+
+    private static <T> Recorded<T> record(Action<T> action) throws Exception {
+        RecordingStatementInspector.start();
+        T result;
+        try {
+            result = action.run();
+        } catch (Exception | Error e) {
+            RecordingStatementInspector.stop();
+            throw e;
+        }
+        return new Recorded<>(result, RecordingStatementInspector.stop());
+    }
+
+    private static String describe(List<String> statements) {
+        return "but " + statements.size() + " were prepared:\n" + String.join("\n", statements);
+    }
+
+    @FunctionalInterface
+    public interface Action<T> {
+        T run() throws Exception;
+    }
+
+    private record Recorded<T>(T result, List<String> statements) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.raid.blog.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Attaches server threads to the statement recording a test started, so requests
+ * sent over HTTP count towards it like those handled on the test thread by MockMvc.
+ * Import it into the test context.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RecordingRequestFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean attached = RecordingStatementInspector.attach();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (attached) {
+                RecordingStatementInspector.detach();
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.raid.blog.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records the SQL Hibernate prepares on the current thread between {@link #start()}
+ * and {@link #stop()}, and on request threads that {@link RecordingRequestFilter}
+ * attaches to the recording meanwhile. Registered for every test context in
+ * application.yaml.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    private static volatile List<String> active;
+
+    public static void start() {
+        List<String> recording = Collections.synchronizedList(new ArrayList<>());
+        RECORDED.set(recording);
+        active = recording;
+    }
+
+    public static List<String> stop() {
+        List<String> recorded = RECORDED.get();
+        RECORDED.remove();
+        active = null;
+        if (recorded == null) {
+            return List.of();
+        }
+        synchronized (recorded) {
+            return List.copyOf(recorded);
+        }
+    }
+
+    /**
+     * Makes the current thread record into the active recording, returning false
+     * when there is none or the thread is already recording.
+     */
+    static boolean attach() {
+        List<String> recording = active;
+        if (recording == null || RECORDED.get() != null) {
+            return false;
+        }
+        RECORDED.set(recording);
+        return true;
+    }
+
+    static void detach() {
+        RECORDED.remove();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> recorded = RECORDED.get();
+        if (recorded != null) {
+            recorded.add(sql.toLowerCase());
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,107 @@
+package com.raid.blog;
+
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.entities.Category;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.entities.Tag;
+import com.raid.blog.domain.entities.User;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Deterministic test data shaped like the production blog: article-like text and
+ * posts that share a handful of authors, categories and tags, with the back
+ * references the mappers count.
+ */
+public final class BenchmarkData {
+
+    private static final String[] WORDS = ("the of and to in a is that for it as was with be by on not he this are or his "
+            + "from at which but have an they you were her she there been one all would their we him has when who will "
+            + "more no if out so said what up its about into than them can only other new some could time these two may "
+            + "then do first any my now such like our over man me even most made after also did many before must through "
+            + "spring boot application repository transaction entity database query index cache request response service "
+            + "controller latency throughput benchmark compression storage column postgres hibernate performance")
+            .split(" ");
+
+    private static final int AUTHORS = 20;
+    private static final int CATEGORIES = 10;
+    private static final int TAGS = 50;
+    private static final int TAGS_PER_POST = 4;
+
+    private BenchmarkData() {
+    }
+
+    public static String article(Random random, int length) {
+        StringBuilder text = new StringBuilder(length + 16);
+        int sentenceLength = 0;
+        while (text.length() < length) {
+            // Skewed towards the first words, roughly like word frequencies in prose
+            String word = WORDS[(int) (WORDS.length * Math.pow(random.nextDouble(), 2.5))];
+            text.append(sentenceLength == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+            sentenceLength++;
+            if (sentenceLength > 8 && random.nextInt(6) == 0) {
+                text.append(random.nextInt(5) == 0 ? ".\n\n" : ". ");
+                sentenceLength = 0;
+            } else {
+                text.append(' ');
+            }
+        }
+        return text.substring(0, length);
+    }
+
+    public static List<Post> posts(Random random, int count, int contentLength) {
+        List<User> authors = new ArrayList<>();
+        for (int i = 0; i < AUTHORS; i++) {
+            authors.add(User.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name("Author " + i)
+                    .email("author" + i + "@example.com")
+                    .posts(new ArrayList<>())
+                    .build());
+        }
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories.add(Category.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name("Category " + i)
+                    .posts(new ArrayList<>())
+                    .build());
+        }
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < TAGS; i++) {
+            tags.add(Tag.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name("Tag " + i)
+                    .normalizedName("tag " + i)
+                    .build());
+        }
+
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Set<Tag> postTags = new HashSet<>();
+            while (postTags.size() < TAGS_PER_POST) {
+                postTags.add(tags.get(random.nextInt(TAGS)));
+            }
+            Post post = Post.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .title("Post number " + i)
+                    .content(article(random, contentLength))
+                    .status(random.nextInt(5) == 0 ? PostStatus.DRAFT : PostStatus.PUBLISHED)
+                    .readingTime(Math.max(1, contentLength / 1200))
+                    .author(authors.get(random.nextInt(AUTHORS)))
+                    .category(categories.get(random.nextInt(CATEGORIES)))
+                    .tags(postTags)
+                    .createdAt(now.minusHours(i))
+                    .updatedAt(now.minusHours(i))
+                    .version((long) random.nextInt(10))
+                    .build();
+            post.getAuthor().getPosts().add(post);
+            post.getCategory().getPosts().add(post);
+            postTags.forEach(tag -> tag.getPosts().add(post));
+            posts.add(post);
+        }
+        return posts;
+    }
+}
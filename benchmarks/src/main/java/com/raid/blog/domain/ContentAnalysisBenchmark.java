@@ -0,0 +1,42 @@
+package com.raid.blog.domain;
+
+import com.raid.blog.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ContentAnalysis} against the regular expression split it replaced, from a
+ * short post up to a megabyte of text. Run with {@code -prof gc} to compare the
+ * bytes allocated per operation as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentAnalysisBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int contentLength;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        content = BenchmarkData.article(new Random(42), contentLength);
+    }
+
+    @Benchmark
+    public int splitWordCount() {
+        int wordCount = content.trim().split("\\s+").length;
+        return (int) Math.ceil((double) wordCount / ContentAnalysis.WORDS_PER_MINUTE);
+    }
+
+    @Benchmark
+    public ContentAnalysis analyze() {
+        return ContentAnalysis.of(content);
+    }
+}
@@ -0,0 +1,50 @@
+package com.raid.blog.domain;
+
+import com.raid.blog.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of {@link PostContent} compression for article-like text of different
+ * lengths and Deflate levels. The stored size of each case is printed once per
+ * trial, so the savings can be read next to the timings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostContentBenchmark {
+
+    @Param({"1000", "4000", "16000", "48000"})
+    private int contentLength;
+
+    @Param({"1", "6", "9"})
+    private int level;
+
+    private String text;
+    private byte[] stored;
+
+    @Setup
+    public void setUp() {
+        text = BenchmarkData.article(new Random(42), contentLength);
+        stored = PostContent.of(text).encode(0, level);
+        int utf8Length = text.getBytes(StandardCharsets.UTF_8).length;
+        System.out.printf("%n%d chars at level %d stored in %d bytes, %.2fx smaller%n",
+                contentLength, level, stored.length, (double) utf8Length / stored.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return PostContent.of(text).encode(0, level);
+    }
+
+    @Benchmark
+    public String decode() {
+        return PostContent.fromStored(stored).text();
+    }
+}
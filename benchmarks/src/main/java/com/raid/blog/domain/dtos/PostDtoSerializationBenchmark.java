@@ -0,0 +1,49 @@
+package com.raid.blog.domain.dtos;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raid.blog.BenchmarkData;
+import com.raid.blog.mappers.PostMapper;
+import com.raid.blog.mappers.PostMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a list of posts the way the list endpoints respond, with an object mapper
+ * configured like the one Spring Boot sets up.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostDtoSerializationBenchmark {
+
+    @Param({"20", "200"})
+    private int posts;
+
+    @Param({"1000", "10000"})
+    private int contentLength;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<PostDto> postDtos;
+
+    @Setup
+    public void setUp() {
+        PostMapper postMapper = new PostMapperImpl();
+        postDtos = BenchmarkData.posts(new Random(42), posts, contentLength).stream()
+                .map(postMapper::toDto)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] writePostList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(postDtos);
+    }
+}
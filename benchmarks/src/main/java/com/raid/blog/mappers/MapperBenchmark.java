@@ -0,0 +1,68 @@
+package com.raid.blog.mappers;
+
+import com.raid.blog.BenchmarkData;
+import com.raid.blog.domain.dtos.CategoryDto;
+import com.raid.blog.domain.dtos.PostDto;
+import com.raid.blog.domain.dtos.TagDto;
+import com.raid.blog.domain.entities.Category;
+import com.raid.blog.domain.entities.Post;
+import com.raid.blog.domain.entities.Tag;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The generated MapStruct mappers over a page of posts that share their authors,
+ * categories and tags, as the list endpoints map them. Category and tag post
+ * counts walk every post of the category or tag.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"20", "200"})
+    private int posts;
+
+    private final PostMapper postMapper = new PostMapperImpl();
+    private final CategoryMapper categoryMapper = new CategoryMapperImpl();
+    private final TagMapper tagMapper = new TagMapperImpl();
+
+    private List<Post> page;
+    private List<Category> categories;
+    private List<Tag> tags;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkData.posts(new Random(42), posts, 4000);
+        categories = new ArrayList<>(page.stream().map(Post::getCategory).collect(LinkedHashSet::new, LinkedHashSet::add, LinkedHashSet::addAll));
+        tags = new ArrayList<>(page.stream().flatMap(post -> post.getTags().stream()).collect(LinkedHashSet::new, LinkedHashSet::add, LinkedHashSet::addAll));
+    }
+
+    @Benchmark
+    public PostDto postToDto() {
+        return postMapper.toDto(page.getFirst());
+    }
+
+    @Benchmark
+    public List<PostDto> postPageToDto() {
+        return page.stream().map(postMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public List<CategoryDto> categoriesToDto() {
+        return categories.stream().map(categoryMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public List<TagDto> tagsToDto() {
+        return tags.stream().map(tagMapper::toTagResponse).toList();
+    }
+}
@@ -0,0 +1,48 @@
+package com.raid.blog.services.impl;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation on login and validation on every authenticated request. User
+ * lookup is answered from memory, so only the JWT work is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET = "u8Qw1vQk2n3p4s5t6u7v8w9x0y1z2A3B4C5D6E7F8G0H1I2J3K4L5M6N7O8P9Q0";
+
+    private AuthenticationServiceImpl authenticationService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        userDetails = User.withUsername("reader@example.com").password("unused").authorities(List.of()).build();
+        authenticationService = new AuthenticationServiceImpl(null, null, username -> userDetails, null);
+        Field secretKey = AuthenticationServiceImpl.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(authenticationService, SECRET);
+        token = authenticationService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return authenticationService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public UserDetails validateToken() {
+        return authenticationService.validateToken(token);
+    }
+}
@@ -0,0 +1,116 @@
+package com.raid.blog.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Builds requests against the API and sends them, with bodies written by an
+ * object mapper configured like the application's.
+ */
+final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    ApiClient(URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    HttpRequest get(String path) {
+        return request(path, null).GET().build();
+    }
+
+    HttpRequest post(String path, Object body, String token) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json(body)))
+                .build();
+    }
+
+    HttpRequest put(String path, Object body, String token) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(json(body)))
+                .build();
+    }
+
+    HttpRequest patch(String path, Object body, String token) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofByteArray(json(body)))
+                .build();
+    }
+
+    /**
+     * Sends a request and discards the response, returning only its status.
+     */
+    int send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * Sends a request and returns its status, handing the body of a 2xx response to the consumer.
+     */
+    <T> int send(HttpRequest request, TypeReference<T> responseType, Consumer<T> onSuccess)
+            throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 == 2) {
+            onSuccess.accept(objectMapper.readValue(response.body(), responseType));
+        }
+        return response.statusCode();
+    }
+
+    /**
+     * Sends a request whose response is needed, failing on any non-2xx status.
+     */
+    <T> T exchange(HttpRequest request, TypeReference<T> responseType) {
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                        + response.statusCode() + ": " + new String(response.body()));
+            }
+            return responseType == null || response.body().length == 0 ? null : objectMapper.readValue(response.body(), responseType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling " + request.uri(), e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private byte[] json(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize " + body, e);
+        }
+    }
+}
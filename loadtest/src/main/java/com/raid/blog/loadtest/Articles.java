@@ -0,0 +1,37 @@
+package com.raid.blog.loadtest;
+
+import java.util.Random;
+
+/**
+ * Generates article-like text. Every post gets its own, since the application
+ * rejects content that is a near duplicate of an existing post.
+ */
+final class Articles {
+
+    private static final String[] WORDS = ("the of and to in a is that for it as was with be by on not this are or "
+            + "from at which but have an they you were there been one all would their we has when who will more if "
+            + "out so what up about into than them can only other new some could time these two may then first any "
+            + "spring boot application repository transaction entity database query index cache request response "
+            + "service controller latency throughput benchmark storage column postgres hibernate performance")
+            .split(" ");
+
+    private Articles() {
+    }
+
+    static String article(Random random) {
+        return passage(random, 500 + random.nextInt(4500)).trim();
+    }
+
+    /**
+     * Text of exactly the given length, which may start or end with a space.
+     */
+    static String passage(Random random, int length) {
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length) {
+            // Skewed towards the first words, roughly like word frequencies in prose
+            text.append(WORDS[(int) (WORDS.length * Math.pow(random.nextDouble(), 2.5))]);
+            text.append(random.nextInt(12) == 0 ? ". " : " ");
+        }
+        return text.substring(0, length);
+    }
+}
@@ -0,0 +1,108 @@
+package com.raid.blog.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Writes rows into a table as fast as the database allows: with COPY on
+ * PostgreSQL, which skips per-statement parsing and planning, and with batched
+ * inserts anywhere else.
+ */
+abstract sealed class BulkLoader {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    static BulkLoader forConnection(Connection connection) throws SQLException {
+        return connection.isWrapperFor(PGConnection.class)
+                ? new Copy(connection.unwrap(PGConnection.class))
+                : new BatchInsert(connection);
+    }
+
+    abstract void load(String table, List<String> columns, List<Object[]> rows) throws SQLException, IOException;
+
+    private static final class Copy extends BulkLoader {
+
+        private final PGConnection connection;
+
+        private Copy(PGConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        void load(String table, List<String> columns, List<Object[]> rows) throws SQLException, IOException {
+            String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(new PGCopyOutputStream(connection, sql), StandardCharsets.UTF_8), 1 << 16)) {
+                for (Object[] row : rows) {
+                    for (int i = 0; i < row.length; i++) {
+                        if (i > 0) {
+                            out.write(',');
+                        }
+                        writeCsv(out, row[i]);
+                    }
+                    out.write('\n');
+                }
+            }
+        }
+
+        private static void writeCsv(Writer out, Object value) throws IOException {
+            switch (value) {
+                // An unquoted empty field is NULL in CSV mode
+                case null -> {
+                }
+                case String text -> {
+                    out.write('"');
+                    out.write(text.replace("\"", "\"\""));
+                    out.write('"');
+                }
+                case byte[] bytes -> {
+                    out.write("\\x");
+                    out.write(HexFormat.of().formatHex(bytes));
+                }
+                case Enum<?> constant -> out.write(constant.name());
+                default -> out.write(value.toString());
+            }
+        }
+    }
+
+    private static final class BatchInsert extends BulkLoader {
+
+        private final Connection connection;
+
+        private BatchInsert(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        void load(String table, List<String> columns, List<Object[]> rows) throws SQLException {
+            String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                    + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int batched = 0;
+                for (Object[] row : rows) {
+                    for (int i = 0; i < row.length; i++) {
+                        statement.setObject(i + 1, row[i] instanceof Enum<?> constant ? constant.name() : row[i]);
+                    }
+                    statement.addBatch();
+                    if (++batched == INSERT_BATCH_SIZE) {
+                        statement.executeBatch();
+                        batched = 0;
+                    }
+                }
+                if (batched > 0) {
+                    statement.executeBatch();
+                }
+            }
+        }
+    }
+}
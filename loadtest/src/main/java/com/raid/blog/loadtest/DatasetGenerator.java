@@ -0,0 +1,235 @@
+package com.raid.blog.loadtest;
+
+import com.raid.blog.BackendApplication;
+import com.raid.blog.domain.ContentAnalysis;
+import com.raid.blog.domain.PostContent;
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.TagNameNormalizer;
+import com.raid.blog.persistence.PostContentConverter;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import javax.sql.DataSource;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills an empty database with users, categories, tags and posts at a scale the
+ * API could not create them at, for benchmarking feeds and counts. Tags,
+ * authors and categories are picked with Zipfian popularity, and every row is
+ * derived from the seed, so two runs with the same options load the same data.
+ * <p>
+ * The application is booted to open the database, so the schema and the
+ * connection settings are the application's own. Posts are generated in
+ * chunks, each from its own random seeded with the chunk number, and loaded by
+ * several threads at once without making the result depend on their timing.
+ * Derived data such as duplicate fingerprints, revisions and view counts is not
+ * generated, and applications already running against the database only see
+ * the new posts once restarted.
+ */
+public class DatasetGenerator {
+
+    private static final String[] FIRST_NAMES = {"Ada", "Alan", "Barbara", "Brian", "Claude", "Dennis", "Donald",
+            "Edsger", "Frances", "Grace", "Guido", "Hedy", "James", "John", "Ken", "Linus", "Margaret", "Niklaus",
+            "Radia", "Sophie", "Tim", "Xavier", "Yukihiro", "Zoe"};
+    private static final String[] LAST_NAMES = {"Allen", "Backus", "Cerf", "Dijkstra", "Engelbart", "Floyd",
+            "Gosling", "Hopper", "Iverson", "Jobs", "Kay", "Liskov", "Matsumoto", "Nygaard", "Perlman", "Ritchie",
+            "Stroustrup", "Thompson", "Torvalds", "Wirth"};
+    private static final String[] TOPICS = {"Java", "Spring", "Databases", "Performance", "Security", "Testing",
+            "Architecture", "DevOps", "Frontend", "Career", "Cloud", "Data", "Languages", "Tools", "Networking"};
+    private static final String[] TAG_WORDS = {"java", "spring", "boot", "jpa", "hibernate", "sql", "postgres",
+            "index", "cache", "latency", "gc", "jvm", "kotlin", "docker", "kubernetes", "http", "rest", "json",
+            "testing", "security", "jwt", "oauth", "maven", "gradle", "linux", "git", "react", "css", "api", "async"};
+
+    public static void main(String[] args) throws Exception {
+        DatasetOptions options = DatasetOptions.parse(args);
+        try (ConfigurableApplicationContext application = new SpringApplicationBuilder(BackendApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                // The security configuration needs a servlet context, so the server starts but takes no requests
+                .properties("server.port=0", "spring.datasource.hikari.maximum-pool-size=" + (options.threads() + 1))
+                .run(options.applicationArgs().toArray(String[]::new))) {
+            new DatasetGenerator(application.getBean(DataSource.class), application.getBean(PostContentConverter.class), options).generate();
+        }
+    }
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final PostContentConverter postContentConverter;
+    private final DatasetOptions options;
+
+    DatasetGenerator(DataSource dataSource, PostContentConverter postContentConverter, DatasetOptions options) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.postContentConverter = postContentConverter;
+        this.options = options;
+    }
+
+    void generate() throws Exception {
+        Long existingPosts = jdbcTemplate.queryForObject("select count(*) from posts", Long.class);
+        if (existingPosts != null && existingPosts > 0) {
+            throw new IllegalStateException("The database already has " + existingPosts + " posts; generate into an empty one");
+        }
+
+        long start = System.nanoTime();
+        Random random = new Random(options.seed());
+        List<UUID> userIds = generateUsers(random);
+        List<UUID> categoryIds = generateCategories(random);
+        List<UUID> tagIds = generateTags(random);
+        System.out.printf("Loaded %d users, %d categories and %d tags%n", userIds.size(), categoryIds.size(), tagIds.size());
+
+        AtomicLong postTags = new AtomicLong();
+        AtomicLong loadedPosts = new AtomicLong();
+        int chunks = (options.posts() + options.chunkSize() - 1) / options.chunkSize();
+        try (ExecutorService executor = Executors.newFixedThreadPool(options.threads())) {
+            List<Future<?>> results = new ArrayList<>();
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int chunkNumber = chunk;
+                results.add(executor.submit(() -> {
+                    postTags.addAndGet(generatePosts(chunkNumber, userIds, categoryIds, tagIds));
+                    int chunkPosts = Math.min(options.chunkSize(), options.posts() - chunkNumber * options.chunkSize());
+                    long loaded = loadedPosts.addAndGet(chunkPosts);
+                    if (loaded * 10 / options.posts() > (loaded - chunkPosts) * 10 / options.posts()) {
+                        System.out.printf("Loaded %d of %d posts%n", loaded, options.posts());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+
+        analyze();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        System.out.printf("Loaded %d posts with %d tag assignments in %s (%.0f posts/s)%n",
+                options.posts(), postTags.get(), elapsed, options.posts() / (elapsed.toNanos() / 1e9));
+    }
+
+    private List<UUID> generateUsers(Random random) throws Exception {
+        // Every user gets the same hash, and a salt drawn from the seed keeps it reproducible
+        String passwordHash = "{bcrypt}" + BCrypt.hashpw(options.password(), BCrypt.gensalt(10, seededSecureRandom()));
+        List<UUID> ids = new ArrayList<>(options.users());
+        List<Object[]> rows = new ArrayList<>(options.users());
+        for (int i = 0; i < options.users(); i++) {
+            UUID id = uuid(random);
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            LocalDateTime createdAt = options.now().minusSeconds(random.nextLong(Duration.ofDays(options.days()).toSeconds()));
+            ids.add(id);
+            rows.add(new Object[]{id, first + " " + last, first.toLowerCase() + "." + last.toLowerCase() + "." + i + "@example.com", passwordHash, createdAt});
+        }
+        load("users", List.of("id", "name", "email", "password", "created_at"), rows);
+        return ids;
+    }
+
+    private List<UUID> generateCategories(Random random) throws Exception {
+        List<UUID> ids = new ArrayList<>(options.categories());
+        List<Object[]> rows = new ArrayList<>(options.categories());
+        for (int i = 0; i < options.categories(); i++) {
+            UUID id = uuid(random);
+            String topic = TOPICS[i % TOPICS.length];
+            ids.add(id);
+            rows.add(new Object[]{id, i < TOPICS.length ? topic : topic + " " + (i / TOPICS.length + 1)});
+        }
+        load("categories", List.of("id", "name"), rows);
+        return ids;
+    }
+
+    private List<UUID> generateTags(Random random) throws Exception {
+        List<UUID> ids = new ArrayList<>(options.tags());
+        List<Object[]> rows = new ArrayList<>(options.tags());
+        for (int i = 0; i < options.tags(); i++) {
+            UUID id = uuid(random);
+            String word = TAG_WORDS[i % TAG_WORDS.length];
+            // The first tags, which Zipf makes the most popular, get the plain names
+            String name = i < TAG_WORDS.length ? word : word + "-" + TAG_WORDS[random.nextInt(TAG_WORDS.length)] + "-" + i;
+            ids.add(id);
+            rows.add(new Object[]{id, name, TagNameNormalizer.normalize(name)});
+        }
+        load("tags", List.of("id", "name", "normalized_name"), rows);
+        return ids;
+    }
+
+    private long generatePosts(int chunk, List<UUID> userIds, List<UUID> categoryIds, List<UUID> tagIds) throws Exception {
+        Random random = new Random(options.seed() + chunk * 0x9E3779B97F4A7C15L);
+        Zipf authors = new Zipf(userIds.size(), options.zipfExponent());
+        Zipf categories = new Zipf(categoryIds.size(), options.zipfExponent());
+        Zipf tags = new Zipf(tagIds.size(), options.zipfExponent());
+        int tagsPerPost = Math.min(options.maxTagsPerPost(), tagIds.size());
+        long seconds = Duration.ofDays(options.days()).toSeconds();
+
+        int first = chunk * options.chunkSize();
+        int count = Math.min(options.chunkSize(), options.posts() - first);
+        List<Object[]> posts = new ArrayList<>(count);
+        List<Object[]> postTags = new ArrayList<>(count * tagsPerPost);
+        for (int i = 0; i < count; i++) {
+            UUID id = uuid(random);
+            String content = Articles.article(random);
+            LocalDateTime createdAt = options.now().minusSeconds(random.nextLong(seconds));
+            PostStatus status = random.nextDouble() < options.draftShare() ? PostStatus.DRAFT : PostStatus.PUBLISHED;
+            ContentAnalysis analysis = ContentAnalysis.of(content);
+            posts.add(new Object[]{id, "Post " + (first + i) + ": " + content.substring(0, Math.min(60, content.length())), postContentConverter.convertToDatabaseColumn(PostContent.of(content)),
+                    status, analysis.readingTime(), analysis.wordCount(), analysis.excerpt(), userIds.get(authors.sample(random)),
+                    categoryIds.get(categories.sample(random)), createdAt, createdAt, 0L});
+
+            Set<Integer> picked = new HashSet<>();
+            int wanted = tagsPerPost == 0 ? 0 : random.nextInt(tagsPerPost + 1);
+            while (picked.size() < wanted) {
+                picked.add(tags.sample(random));
+            }
+            // Sorted so the row order, like everything else, only depends on the seed
+            picked.stream().sorted().forEach(tag -> postTags.add(new Object[]{id, tagIds.get(tag)}));
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            BulkLoader loader = BulkLoader.forConnection(connection);
+            loader.load("posts", List.of("id", "title", "content_data", "status", "reading_time", "word_count", "excerpt",
+                    "author_id", "category_id", "created_at", "updated_at", "version"), posts);
+            loader.load("post_tags", List.of("post_id", "tag_id"), postTags);
+            connection.commit();
+        }
+        return postTags.size();
+    }
+
+    private void load(String table, List<String> columns, List<Object[]> rows) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            BulkLoader.forConnection(connection).load(table, columns, rows);
+            connection.commit();
+        }
+    }
+
+    private void analyze() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            if (connection.getMetaData().getDatabaseProductName().equals("PostgreSQL")) {
+                // Fresh statistics, so the first benchmark queries are not planned for empty tables
+                jdbcTemplate.execute("ANALYZE users, categories, tags, posts, post_tags");
+            }
+        }
+    }
+
+    private static UUID uuid(Random random) {
+        // Version 4 and IETF variant bits, like UUID.randomUUID()
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    private SecureRandom seededSecureRandom() throws NoSuchAlgorithmException {
+        SecureRandom random = SecureRandom.getInstance("SHA1PRNG");
+        random.setSeed(options.seed());
+        return random;
+    }
+}
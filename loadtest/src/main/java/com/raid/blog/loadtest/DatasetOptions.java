@@ -0,0 +1,70 @@
+package com.raid.blog.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Command line options of the dataset generator, given as {@code --name=value}.
+ * Anything else is passed on to the application context it opens the database
+ * through.
+ */
+record DatasetOptions(
+        long seed,
+        int users,
+        int categories,
+        int tags,
+        int posts,
+        int maxTagsPerPost,
+        double zipfExponent,
+        double draftShare,
+        int days,
+        LocalDateTime now,
+        String password,
+        int threads,
+        int chunkSize,
+        List<String> applicationArgs
+) {
+
+    private static final Set<String> OPTION_NAMES = Set.of("seed", "users", "categories", "tags", "posts",
+            "max-tags-per-post", "zipf-exponent", "draft-share", "days", "now", "password", "threads", "chunk-size");
+
+    static DatasetOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = arg.startsWith("--") && separator > 2 ? arg.substring(2, separator) : null;
+            if (name != null && OPTION_NAMES.contains(name)) {
+                options.put(name, arg.substring(separator + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        DatasetOptions parsed = new DatasetOptions(
+                Long.parseLong(options.getOrDefault("seed", "1")),
+                Integer.parseInt(options.getOrDefault("users", "10000")),
+                Integer.parseInt(options.getOrDefault("categories", "50")),
+                Integer.parseInt(options.getOrDefault("tags", "5000")),
+                Integer.parseInt(options.getOrDefault("posts", "1000000")),
+                Integer.parseInt(options.getOrDefault("max-tags-per-post", "5")),
+                Double.parseDouble(options.getOrDefault("zipf-exponent", "1.1")),
+                Double.parseDouble(options.getOrDefault("draft-share", "0.1")),
+                Integer.parseInt(options.getOrDefault("days", "730")),
+                // Fixed rather than the current time, so the same seed gives the same rows on any day
+                LocalDateTime.parse(options.getOrDefault("now", "2025-06-01T00:00:00")),
+                options.getOrDefault("password", "password"),
+                Integer.parseInt(options.getOrDefault("threads", String.valueOf(Math.min(8, Runtime.getRuntime().availableProcessors())))),
+                Integer.parseInt(options.getOrDefault("chunk-size", "2000")),
+                List.copyOf(applicationArgs)
+        );
+        if (parsed.users() < 1 || parsed.categories() < 1 || parsed.tags() < 1 || parsed.posts() < 0
+                || parsed.maxTagsPerPost() < 0 || parsed.threads() < 1 || parsed.chunkSize() < 1 || parsed.days() < 1) {
+            throw new IllegalArgumentException("users, categories, tags, threads, chunk-size and days must be positive");
+        }
+        if (parsed.draftShare() < 0 || parsed.draftShare() > 1) {
+            throw new IllegalArgumentException("draft-share must be between 0 and 1");
+        }
+        return parsed;
+    }
+}
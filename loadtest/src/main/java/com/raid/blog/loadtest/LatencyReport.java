@@ -0,0 +1,101 @@
+package com.raid.blog.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency per scenario in microseconds, from when a request was due to start to
+ * when its response was read, along with the requests that failed or were never
+ * sent because too many were already in flight.
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<Scenario, Stats> stats = new EnumMap<>(Scenario.class);
+
+    LatencyReport() {
+        for (Scenario scenario : Scenario.values()) {
+            stats.put(scenario, new Stats());
+        }
+    }
+
+    void recordSuccess(Scenario scenario, long latencyNanos) {
+        stats.get(scenario).latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    void recordError(Scenario scenario, long latencyNanos) {
+        recordSuccess(scenario, latencyNanos);
+        stats.get(scenario).errors.increment();
+    }
+
+    void recordDropped(Scenario scenario) {
+        stats.get(scenario).dropped.increment();
+    }
+
+    void print(PrintStream out, Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        out.printf("%n%-16s %10s %8s %8s %10s %10s %10s %10s %10s%n",
+                "scenario", "requests", "errors", "dropped", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        long totalDropped = 0;
+        for (Map.Entry<Scenario, Stats> entry : stats.entrySet()) {
+            Stats scenarioStats = entry.getValue();
+            if (scenarioStats.latencies.getTotalCount() == 0 && scenarioStats.dropped.sum() == 0) {
+                continue;
+            }
+            printRow(out, entry.getKey().scenarioName(), scenarioStats.latencies, scenarioStats.errors.sum(), scenarioStats.dropped.sum(), seconds);
+            total.add(scenarioStats.latencies);
+            totalErrors += scenarioStats.errors.sum();
+            totalDropped += scenarioStats.dropped.sum();
+        }
+        printRow(out, "total", total, totalErrors, totalDropped, seconds);
+    }
+
+    /**
+     * Writes the full percentile distribution of each scenario in HdrHistogram's
+     * .hgrm format, which plotting tools read directly.
+     */
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<Scenario, Stats> entry : stats.entrySet()) {
+            Histogram latencies = entry.getValue().latencies;
+            if (latencies.getTotalCount() == 0) {
+                continue;
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey().scenarioName() + ".hgrm")))) {
+                latencies.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram latencies, long errors, long dropped, double seconds) {
+        out.printf("%-16s %10d %8d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                name,
+                latencies.getTotalCount(),
+                errors,
+                dropped,
+                latencies.getTotalCount() / seconds,
+                latencies.getValueAtPercentile(50) / 1000.0,
+                latencies.getValueAtPercentile(99) / 1000.0,
+                latencies.getValueAtPercentile(99.9) / 1000.0,
+                latencies.getMaxValue() / 1000.0);
+    }
+
+    private static final class Stats {
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+}
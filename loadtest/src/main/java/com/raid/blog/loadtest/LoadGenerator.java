@@ -0,0 +1,119 @@
+package com.raid.blog.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests on an open model: arrivals follow a Poisson process at the
+ * configured rate whether or not earlier requests have completed, each request
+ * runs on its own virtual thread, and latency is measured from the moment a
+ * request was due rather than when it was actually sent. A slow server therefore
+ * shows up as queueing in the percentiles instead of as a lower request rate.
+ */
+final class LoadGenerator {
+
+    private final ApiClient client;
+    private final SeedData data;
+    private final LoadTestOptions options;
+    private final List<Scenario> scenarios = new ArrayList<>();
+    private final int[] cumulativeWeights;
+
+    LoadGenerator(ApiClient client, SeedData data, LoadTestOptions options) {
+        this.client = client;
+        this.data = data;
+        this.options = options;
+
+        List<Integer> cumulative = new ArrayList<>();
+        int sum = 0;
+        for (Map.Entry<Scenario, Integer> entry : options.mix().entrySet()) {
+            if (entry.getValue() > 0) {
+                sum += entry.getValue();
+                scenarios.add(entry.getKey());
+                cumulative.add(sum);
+            }
+        }
+        cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Runs the warmup and then the measured period, returning the latencies of
+     * requests that were due during the measured period.
+     */
+    LatencyReport run() throws InterruptedException {
+        LatencyReport warmupReport = new LatencyReport();
+        LatencyReport report = new LatencyReport();
+        AtomicInteger inFlight = new AtomicInteger();
+        SplittableRandom arrivals = new SplittableRandom(7);
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long due = start;
+            while (due < end) {
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Scenario scenario = nextScenario(arrivals);
+                LatencyReport target = due < measureFrom ? warmupReport : report;
+                if (inFlight.get() >= options.maxInFlight()) {
+                    target.recordDropped(scenario);
+                } else {
+                    inFlight.incrementAndGet();
+                    long dueAt = due;
+                    executor.execute(() -> {
+                        try {
+                            send(scenario, dueAt, target);
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+                }
+                due += (long) (-Math.log(1 - arrivals.nextDouble()) * meanIntervalNanos);
+            }
+        }
+        return report;
+    }
+
+    private void send(Scenario scenario, long due, LatencyReport report) {
+        Random random = ThreadLocalRandom.current();
+        try {
+            int status = scenario.send(client, data, random);
+            long latency = System.nanoTime() - due;
+            if (status / 100 == 2) {
+                report.recordSuccess(scenario, latency);
+            } else {
+                report.recordError(scenario, latency);
+            }
+        } catch (Exception e) {
+            report.recordError(scenario, System.nanoTime() - due);
+        }
+    }
+
+    private Scenario nextScenario(SplittableRandom random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        throw new IllegalStateException("Weights do not cover " + pick);
+    }
+
+    Duration measuredDuration() {
+        return options.duration();
+    }
+}
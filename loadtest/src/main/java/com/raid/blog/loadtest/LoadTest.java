@@ -0,0 +1,54 @@
+package com.raid.blog.loadtest;
+
+import com.raid.blog.BackendApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+
+/**
+ * Boots the backend on a random port against the database it is configured for,
+ * seeds it through the API and drives the scenario mix at the configured arrival
+ * rate, then prints throughput and latency percentiles per scenario. With
+ * {@code --target=http://host:port} it drives an already running instance instead,
+ * which keeps the load generator off the server's CPUs.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext application = null;
+        URI baseUri = options.target();
+        if (baseUri == null) {
+            application = new SpringApplicationBuilder(BackendApplication.class)
+                    .bannerMode(Banner.Mode.OFF)
+                    .properties("server.port=0")
+                    .run(options.applicationArgs().toArray(String[]::new));
+            int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+            baseUri = URI.create("http://localhost:" + port);
+        }
+
+        try {
+            ApiClient client = new ApiClient(baseUri);
+            System.out.printf("Seeding %s with %d users, %d categories, %d tags and %d posts%n",
+                    baseUri, options.users(), options.categories(), options.tags(), options.posts());
+            SeedData data = new Seeder(client).seed(options);
+
+            System.out.printf("Sending %.1f requests/s for %s after a %s warmup%n", options.rate(), options.duration(), options.warmup());
+            LoadGenerator generator = new LoadGenerator(client, data, options);
+            LatencyReport report = generator.run();
+            report.print(System.out, generator.measuredDuration());
+            if (options.histogramDir() != null) {
+                report.writeHistograms(options.histogramDir());
+                System.out.println("Wrote latency distributions to " + options.histogramDir());
+            }
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+}
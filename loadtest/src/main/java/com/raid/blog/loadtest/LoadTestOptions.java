@@ -0,0 +1,81 @@
+package com.raid.blog.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Command line options of the load test, given as {@code --name=value}. Anything
+ * else, such as {@code --spring.datasource.url=...}, is passed on to the
+ * application when the load test boots it.
+ */
+record LoadTestOptions(
+        URI target,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        int users,
+        int categories,
+        int tags,
+        int posts,
+        int maxInFlight,
+        Map<Scenario, Integer> mix,
+        Path histogramDir,
+        List<String> applicationArgs
+) {
+
+    private static final Set<String> OPTION_NAMES = Set.of("target", "rate", "duration", "warmup", "users",
+            "categories", "tags", "posts", "max-in-flight", "mix", "histogram-dir");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = arg.startsWith("--") && separator > 2 ? arg.substring(2, separator) : null;
+            if (name != null && OPTION_NAMES.contains(name)) {
+                options.put(name, arg.substring(separator + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        LoadTestOptions parsed = new LoadTestOptions(
+                options.containsKey("target") ? URI.create(options.get("target")) : null,
+                Double.parseDouble(options.getOrDefault("rate", "100")),
+                Duration.parse(options.getOrDefault("duration", "PT1M")),
+                Duration.parse(options.getOrDefault("warmup", "PT15S")),
+                Integer.parseInt(options.getOrDefault("users", "20")),
+                Integer.parseInt(options.getOrDefault("categories", "10")),
+                Integer.parseInt(options.getOrDefault("tags", "30")),
+                Integer.parseInt(options.getOrDefault("posts", "200")),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "2000")),
+                options.containsKey("mix") ? parseMix(options.get("mix")) : Scenario.defaultMix(),
+                options.containsKey("histogram-dir") ? Path.of(options.get("histogram-dir")) : null,
+                List.copyOf(applicationArgs)
+        );
+        if (parsed.rate() <= 0 || parsed.users() < 1 || parsed.categories() < 1 || parsed.tags() < 1 || parsed.posts() < 1) {
+            throw new IllegalArgumentException("rate, users, categories, tags and posts must be positive");
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses weights like {@code feed:50,post-view:50}; scenarios left out are not run.
+     */
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected scenario:weight but got '" + entry + "'");
+            }
+            weights.put(Scenario.fromName(parts[0]), Integer.parseInt(parts[1]));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("The mix needs at least one scenario with a positive weight");
+        }
+        return weights;
+    }
+}
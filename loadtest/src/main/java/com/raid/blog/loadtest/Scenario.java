@@ -0,0 +1,125 @@
+package com.raid.blog.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.dtos.*;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * The kinds of requests the load test mixes, with the share each gets by default.
+ * Each sends its request and returns the response status.
+ */
+enum Scenario {
+
+    FEED("feed", 30) {
+        @Override
+        int send(ApiClient client, SeedData data, Random random) throws IOException, InterruptedException {
+            return client.send(client.get("/api/v1/posts"));
+        }
+    },
+    FILTERED_FEED("filtered-feed", 20) {
+        @Override
+        int send(ApiClient client, SeedData data, Random random) throws IOException, InterruptedException {
+            return client.send(client.get("/api/v1/posts?categoryId=" + pick(data.categoryIds(), random)
+                    + "&tagId=" + pick(data.tagIds(), random)));
+        }
+    },
+    POST_VIEW("post-view", 35) {
+        @Override
+        int send(ApiClient client, SeedData data, Random random) throws IOException, InterruptedException {
+            // Skewed towards the first posts, since a few popular posts get most of the views
+            List<UUID> postIds = data.postIds();
+            UUID postId = postIds.get((int) (postIds.size() * Math.pow(random.nextDouble(), 3)));
+            return client.send(client.get("/api/v1/posts/" + postId));
+        }
+    },
+    LOGIN("login", 3) {
+        @Override
+        int send(ApiClient client, SeedData data, Random random) throws IOException, InterruptedException {
+            SeedData.SeededUser user = pick(data.users(), random);
+            return client.send(client.post("/api/v1/auth", LoginRequest.builder().email(user.email()).password(user.password()).build(), null));
+        }
+    },
+    DRAFT_AUTOSAVE("draft-autosave", 10) {
+        @Override
+        int send(ApiClient client, SeedData data, Random random) throws IOException, InterruptedException {
+            SeedData.SeededUser user = pick(data.users(), random);
+            SeedData.SeededDraft draft = user.draft();
+            // Like an editor, an autosave sends the text typed since the last one rather than the whole draft
+            int length = 1 + random.nextInt(Math.min(MAX_EDIT_LENGTH, draft.contentLength()));
+            TextOperationDto edit = TextOperationDto.builder()
+                    .position(random.nextInt(draft.contentLength() - length + 1))
+                    .deleteCount(length)
+                    .insert(Articles.passage(random, length))
+                    .build();
+            draft.lock().lock();
+            try {
+                PatchPostContentRequestDto patch = PatchPostContentRequestDto.builder()
+                        .baseVersion(draft.version())
+                        .operations(List.of(edit))
+                        .build();
+                int status = client.send(client.patch("/api/v1/posts/" + draft.id(), patch, user.token()),
+                        new TypeReference<PostContentPatchResultDto>() {
+                        }, result -> draft.version(result.getVersion()));
+                if (status / 100 != 2) {
+                    // The patch may still have been applied, so the next one starts from the stored version
+                    client.send(client.get("/api/v1/posts/" + draft.id()), new TypeReference<PostDto>() {
+                    }, post -> draft.version(post.getVersion()));
+                }
+                return status;
+            } finally {
+                draft.lock().unlock();
+            }
+        }
+    },
+    CREATE_POST("create-post", 2) {
+        @Override
+        int send(ApiClient client, SeedData data, Random random) throws IOException, InterruptedException {
+            CreatePostRequestDto post = CreatePostRequestDto.builder()
+                    .title("Load test post")
+                    .content(Articles.article(random))
+                    .categoryId(pick(data.categoryIds(), random))
+                    .tagIds(Set.of(pick(data.tagIds(), random)))
+                    .status(PostStatus.PUBLISHED)
+                    .build();
+            return client.send(client.post("/api/v1/posts", post, pick(data.users(), random).token()));
+        }
+    };
+
+    private static final int MAX_EDIT_LENGTH = 40;
+
+    private final String scenarioName;
+    private final int defaultWeight;
+
+    Scenario(String scenarioName, int defaultWeight) {
+        this.scenarioName = scenarioName;
+        this.defaultWeight = defaultWeight;
+    }
+
+    abstract int send(ApiClient client, SeedData data, Random random) throws IOException, InterruptedException;
+
+    String scenarioName() {
+        return scenarioName;
+    }
+
+    static Scenario fromName(String name) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.scenarioName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario '" + name + "'"));
+    }
+
+    static Map<Scenario, Integer> defaultMix() {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : values()) {
+            mix.put(scenario, scenario.defaultWeight);
+        }
+        return mix;
+    }
+
+    private static <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
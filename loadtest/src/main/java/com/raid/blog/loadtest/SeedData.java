@@ -0,0 +1,62 @@
+package com.raid.blog.loadtest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * What the load test created before the measured run: users with their tokens and
+ * one draft each, and the categories, tags and published posts requests refer to.
+ */
+record SeedData(
+        List<SeededUser> users,
+        List<UUID> categoryIds,
+        List<UUID> tagIds,
+        List<UUID> postIds
+) {
+
+    record SeededUser(String email, String password, String token, SeededDraft draft) {
+    }
+
+    /**
+     * A user's draft as the load test last saw it. Autosaves of a draft take turns,
+     * like an editor that sends the next one once the previous one was answered, and
+     * each is based on the version the previous one returned. Edits replace text
+     * with text of the same length, so the content length never changes.
+     */
+    static final class SeededDraft {
+
+        private final UUID id;
+        private final int contentLength;
+        private final Lock lock = new ReentrantLock();
+        // Only read and written while holding the lock
+        private long version;
+
+        SeededDraft(UUID id, int contentLength, long version) {
+            this.id = id;
+            this.contentLength = contentLength;
+            this.version = version;
+        }
+
+        UUID id() {
+            return id;
+        }
+
+        int contentLength() {
+            return contentLength;
+        }
+
+        Lock lock() {
+            return lock;
+        }
+
+        long version() {
+            return version;
+        }
+
+        void version(long version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.raid.blog.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.raid.blog.domain.PostStatus;
+import com.raid.blog.domain.dtos.*;
+
+import java.util.*;
+
+/**
+ * Creates the data the scenarios run against through the public API, so seeding
+ * works the same against a booted application and an external one. Names carry a
+ * run id, which keeps repeated runs against the same database apart.
+ */
+final class Seeder {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final int MAX_TAGS_PER_REQUEST = 10;
+
+    private final ApiClient client;
+    private final Random random = new Random(42);
+    private final String runId = Integer.toHexString(new Random().nextInt(0x100000, 0x1000000));
+
+    Seeder(ApiClient client) {
+        this.client = client;
+    }
+
+    SeedData seed(LoadTestOptions options) {
+        List<String> tokens = new ArrayList<>();
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < options.users(); i++) {
+            String email = "lt-" + runId + "-" + i + "@example.com";
+            client.exchange(client.post("/api/v1/auth/register",
+                    RegisterRequest.builder().name("Load test user " + i).email(email).password(PASSWORD).build(), null), null);
+            emails.add(email);
+            tokens.add(login(email));
+        }
+
+        List<UUID> categoryIds = new ArrayList<>();
+        for (int i = 0; i < options.categories(); i++) {
+            CategoryDto category = client.exchange(client.post("/api/v1/categories",
+                    CreateCategoryRequest.builder().name("lt " + runId + " category " + i).build(), tokens.getFirst()),
+                    new TypeReference<>() {
+                    });
+            categoryIds.add(category.getId());
+        }
+
+        List<UUID> tagIds = new ArrayList<>();
+        for (int from = 0; from < options.tags(); from += MAX_TAGS_PER_REQUEST) {
+            Set<String> names = new HashSet<>();
+            for (int i = from; i < Math.min(from + MAX_TAGS_PER_REQUEST, options.tags()); i++) {
+                names.add("lt-" + runId + "-tag-" + i);
+            }
+            List<TagDto> tags = client.exchange(client.post("/api/v1/tags",
+                    CreateTagsRequest.builder().names(names).build(), tokens.getFirst()), new TypeReference<>() {
+            });
+            tags.forEach(tag -> tagIds.add(tag.getId()));
+        }
+
+        List<UUID> postIds = new ArrayList<>();
+        for (int i = 0; i < options.posts(); i++) {
+            PostDto post = createPost(tokens.get(random.nextInt(tokens.size())), "Load test post " + i,
+                    Articles.article(random), pick(categoryIds), pickTags(tagIds), PostStatus.PUBLISHED);
+            postIds.add(post.getId());
+        }
+
+        List<SeedData.SeededUser> users = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            String content = Articles.article(random);
+            PostDto draft = createPost(tokens.get(i), "Load test draft " + i, content,
+                    pick(categoryIds), Set.of(), PostStatus.DRAFT);
+            users.add(new SeedData.SeededUser(emails.get(i), PASSWORD, tokens.get(i),
+                    new SeedData.SeededDraft(draft.getId(), content.length(), draft.getVersion())));
+        }
+
+        return new SeedData(List.copyOf(users), List.copyOf(categoryIds), List.copyOf(tagIds), List.copyOf(postIds));
+    }
+
+    private String login(String email) {
+        AuthResponse response = client.exchange(client.post("/api/v1/auth",
+                LoginRequest.builder().email(email).password(PASSWORD).build(), null), new TypeReference<>() {
+        });
+        return response.getToken();
+    }
+
+    private PostDto createPost(String token, String title, String content, UUID categoryId, Set<UUID> tagIds, PostStatus status) {
+        CreatePostRequestDto request = CreatePostRequestDto.builder()
+                .title(title)
+                .content(content)
+                .categoryId(categoryId)
+                .tagIds(tagIds)
+                .status(status)
+                .build();
+        return client.exchange(client.post("/api/v1/posts", request, token), new TypeReference<>() {
+        });
+    }
+
+    private UUID pick(List<UUID> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private Set<UUID> pickTags(List<UUID> tagIds) {
+        Set<UUID> picked = new HashSet<>();
+        int count = 1 + random.nextInt(Math.min(4, tagIds.size()));
+        while (picked.size() < count) {
+            picked.add(pick(tagIds));
+        }
+        return picked;
+    }
+}